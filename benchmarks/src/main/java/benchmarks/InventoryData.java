@@ -0,0 +1,82 @@
+package benchmarks;
+
+import model.EventLog;
+import model.InventoryManagement;
+
+import java.util.Random;
+
+// Represents a generator of synthetic inventory data for the benchmarks.  Titles are built from a small vocabulary
+// so that title searches match a realistic share of items, and descriptions are drawn from a few shared vendor
+// texts, as in real catalogues.  Every generator is seeded, so each run measures the same data.
+public final class InventoryData {
+    public static final long SEED = 210L;
+
+    private static final String[] ADJECTIVES = {"Red", "Blue", "Small", "Large", "Wireless", "Steel", "Brass",
+        "Outdoor", "Digital", "Compact", "Heavy", "Matte"};
+    private static final String[] NOUNS = {"Speaker", "Bracket", "Cable", "Switch", "Sensor", "Relay", "Panel",
+        "Mount", "Adapter", "Controller", "Hinge", "Screw"};
+    private static final String[] DESCRIPTIONS = {"Sold by the box", "Vendor: Northwind Supply",
+        "Vendor: Contoso Hardware", "Check stock before quoting", "Discontinued, sell remaining stock",
+        "Fragile, store on the top shelf", ""};
+
+    private InventoryData() {
+    }
+
+    // MODIFIES:    EventLog
+    // EFFECTS:     turns off event logging, so the benchmarks measure the inventory list rather than the log
+    public static void quietEventLog() {
+        EventLog.getInstance().setVerbosity(EventLog.Verbosity.NONE);
+    }
+
+    // EFFECTS:     returns a new inventory list of size synthetic items, with IDs 1 to size
+    public static InventoryManagement list(int size) {
+        Random random = new Random(SEED);
+        InventoryManagement im = new InventoryManagement("Benchmark");
+        for (int i = 0; i < size; i++) {
+            im.addItem(title(random, i), random.nextInt(1000), description(random));
+        }
+        return im;
+    }
+
+    // EFFECTS:     returns a synthetic item title, numbered so titles are not all alike
+    public static String title(Random random, int number) {
+        return ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " " + NOUNS[random.nextInt(NOUNS.length)] + " "
+                + number;
+    }
+
+    // EFFECTS:     returns one of the shared synthetic descriptions
+    public static String description(Random random) {
+        return DESCRIPTIONS[random.nextInt(DESCRIPTIONS.length)];
+    }
+
+    // EFFECTS:     returns count IDs drawn at random from 1 to maxId
+    public static int[] ids(int count, int maxId) {
+        Random random = new Random(SEED + 1);
+        int[] ids = new int[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = 1 + random.nextInt(maxId);
+        }
+        return ids;
+    }
+
+    // EFFECTS:     returns the IDs 1 to size in a random order
+    public static int[] shuffledIds(int size) {
+        Random random = new Random(SEED + 2);
+        int[] ids = new int[size];
+        for (int i = 0; i < size; i++) {
+            ids[i] = i + 1;
+        }
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = ids[i];
+            ids[i] = ids[j];
+            ids[j] = swap;
+        }
+        return ids;
+    }
+
+    // EFFECTS:     returns title queries of the kinds users type: common words, rare word pairs, and numbers
+    public static String[] titleQueries() {
+        return new String[] {"speaker", "steel hinge", "wireless sensor 12", "4242", "matte", "no such item"};
+    }
+}
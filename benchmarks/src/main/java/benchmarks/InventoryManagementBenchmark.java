@@ -0,0 +1,117 @@
+package benchmarks;
+
+import model.InventoryBatch;
+import model.InventoryItem;
+import model.InventoryManagement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+
+// Benchmarks the lookups of an inventory list that leave it unchanged, and quantity changes, at each list size.
+// Each call looks up the next of a fixed sequence of random IDs or title queries.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g"})
+public class InventoryManagementBenchmark {
+    private static final int LOOKUPS = 1 << 16;     // number of random IDs cycled through, a power of two
+    private static final int CHANGES = 1000;        // quantity changes made per batch benchmark call
+    private static final int CHANGED_STOCK = 1 << 30;   // stock of the changed items, never run out by the calls
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    public int size;
+
+    private InventoryManagement list;
+    private int[] ids;
+    private String[] queries;
+    private InventoryBatch batch;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        InventoryData.quietEventLog();
+        list = InventoryData.list(size);
+        ids = InventoryData.ids(LOOKUPS, size);
+        queries = InventoryData.titleQueries();
+        batch = new InventoryBatch();
+        for (int i = 0; i < CHANGES; i++) {
+            list.getItemFromId(ids[i]).setQuantity(CHANGED_STOCK);
+            batch.updateQuantity(ids[i], i % 2 == 0 ? 1 : -1);
+        }
+    }
+
+    @Benchmark
+    public boolean hasItem() {
+        return list.hasItem(nextId());
+    }
+
+    @Benchmark
+    public boolean hasItemMissing() {
+        return list.hasItem(size + nextId());
+    }
+
+    @Benchmark
+    public InventoryItem getItemFromId() {
+        return list.getItemFromId(nextId());
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public LinkedList<InventoryItem> getItemsFromTitle() {
+        next = (next + 1) % queries.length;
+        return list.getItemsFromTitle(queries[next]);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public LinkedList<InventoryItem> getLowestQuantityItems() {
+        return list.getLowestQuantityItems(100);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public LinkedList<InventoryItem> getItemsWithQuantityBetween() {
+        return list.getItemsWithQuantityBetween(0, 10);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public LinkedList<InventoryItem> getItemsByQuantity() {
+        return list.getItemsByQuantity(0, 10);
+    }
+
+    // makes the same quantity changes as applyBatch, one call at a time
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void updateQuantityLoop() {
+        for (int i = 0; i < CHANGES; i++) {
+            list.updateQuantity(ids[i], i % 2 == 0 ? 1 : -1);
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void applyBatch() {
+        list.applyBatch(batch);
+    }
+
+    // EFFECTS:     returns the next of the random IDs
+    private int nextId() {
+        next = (next + 1) & (LOOKUPS - 1);
+        return ids[next];
+    }
+}
@@ -0,0 +1,61 @@
+package benchmarks;
+
+import model.InventoryManagement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Benchmarks adding items to and removing items from an inventory list of each size.  These calls change the size
+// of the list, so each iteration makes a fixed number of calls to a freshly built list and is timed as a whole.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, batchSize = InventoryMutationBenchmark.CALLS)
+@Measurement(iterations = 10, batchSize = InventoryMutationBenchmark.CALLS)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g"})
+public class InventoryMutationBenchmark {
+    static final int CALLS = 1000;      // calls made per iteration, no more than the smallest list size
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    public int size;
+
+    private InventoryManagement list;
+    private int[] removals;
+    private Random random;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        InventoryData.quietEventLog();
+        removals = InventoryData.shuffledIds(size);
+    }
+
+    @Setup(Level.Iteration)
+    public void setupIteration() {
+        list = InventoryData.list(size);
+        random = new Random(InventoryData.SEED);
+        next = 0;
+    }
+
+    @Benchmark
+    public int addItem() {
+        return list.addItem(InventoryData.title(random, size + next++), 1, InventoryData.description(random));
+    }
+
+    @Benchmark
+    public void removeItem() {
+        list.removeItem(removals[next++]);
+    }
+}
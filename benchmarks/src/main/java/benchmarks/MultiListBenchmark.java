@@ -0,0 +1,78 @@
+package benchmarks;
+
+import model.InventoryLists;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import persistence.MultiListLoader;
+import persistence.SnapshotConverter;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+// Benchmarks loading a directory of saved lists on a pool of each size, to measure how loading scales with the
+// number of cores used, and querying across the loaded lists, which always runs on the common pool
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g"})
+public class MultiListBenchmark {
+    private static final int LISTS = 200;
+
+    @Param({"1", "2", "4", "8"})
+    public int parallelism;
+
+    @Param({"10000"})
+    public int size;
+
+    private Path directory;         // directory holding the saved lists
+    private ForkJoinPool pool;
+    private InventoryLists lists;   // lists loaded once, queried by the query benchmark
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        InventoryData.quietEventLog();
+        directory = Files.createTempDirectory("benchmarkLists");
+        for (int i = 0; i < LISTS; i++) {
+            SnapshotConverter.write(InventoryData.list(size), directory.resolve("list" + i + ".json").toString());
+        }
+        pool = new ForkJoinPool(parallelism);
+        lists = load();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        pool.shutdown();
+        File[] files = directory.toFile().listFiles();
+        for (File file : files == null ? new File[0] : files) {
+            Files.delete(file.toPath());
+        }
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public InventoryLists load() {
+        return new MultiListLoader(directory.toString(), pool).load();
+    }
+
+    @Benchmark
+    public long queryMatchingTitle() {
+        return lists.getTotalQuantityMatching("steel");
+    }
+}
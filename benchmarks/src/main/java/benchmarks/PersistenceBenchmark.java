@@ -0,0 +1,73 @@
+package benchmarks;
+
+import model.InventoryManagement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import persistence.JsonReader;
+import persistence.JsonWriter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+// Benchmarks saving an inventory list of each size to a JSON file, and loading it back
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g"})
+public class PersistenceBenchmark {
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    public int size;
+
+    private InventoryManagement list;
+    private Path saved;         // file holding the list, read by the read benchmark
+    private Path written;       // file overwritten by the write benchmark
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        InventoryData.quietEventLog();
+        list = InventoryData.list(size);
+        saved = Files.createTempFile("benchmarkRead", ".json");
+        written = Files.createTempFile("benchmarkWrite", ".json");
+        write(list, saved);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(saved);
+        Files.deleteIfExists(written);
+    }
+
+    @Benchmark
+    public InventoryManagement read() throws IOException {
+        return new JsonReader(saved.toString()).read();
+    }
+
+    @Benchmark
+    public void write() throws IOException {
+        write(list, written);
+    }
+
+    // EFFECTS:     saves im to the JSON file at path
+    private static void write(InventoryManagement im, Path path) throws IOException {
+        JsonWriter writer = new JsonWriter(path.toString());
+        writer.open();
+        writer.write(im);
+        writer.close();
+    }
+}
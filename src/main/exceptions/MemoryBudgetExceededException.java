@@ -0,0 +1,4 @@
+package exceptions;
+
+public class MemoryBudgetExceededException extends RuntimeException {
+}
@@ -0,0 +1,92 @@
+package metrics;
+
+import model.EventLog;
+import model.InventoryManagement;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+// Represents the metrics of the inventory system: the metrics of each timed operation, and the size of the
+// inventory list being watched.  We use the Singleton Design Pattern, as for the EventLog, so that every part of the
+// system records into the same metrics.  Once registered with the platform MBean server, the metrics can be watched
+// live from JConsole under the "inventory" domain.
+public class InventoryMetrics implements InventoryMetricsMBean {
+    public static final String DOMAIN = "inventory";
+
+    public static final OperationMetrics ADD_ITEM = new OperationMetrics("addItem");
+    public static final OperationMetrics REMOVE_ITEM = new OperationMetrics("removeItem");
+    public static final OperationMetrics GET_ITEM = new OperationMetrics("getItemFromId");
+    public static final OperationMetrics SEARCH_TITLE = new OperationMetrics("getItemsFromTitle");
+    public static final OperationMetrics UPDATE_QUANTITY = new OperationMetrics("updateQuantity");
+    public static final OperationMetrics APPLY_BATCH = new OperationMetrics("applyBatch");
+    public static final OperationMetrics JSON_READ = new OperationMetrics("jsonRead");
+    public static final OperationMetrics JSON_WRITE = new OperationMetrics("jsonWrite");
+    public static final OperationMetrics LOG_EVENT = new OperationMetrics("logEvent");
+
+    private static final OperationMetrics[] OPERATIONS = {ADD_ITEM, REMOVE_ITEM, GET_ITEM, SEARCH_TITLE,
+        UPDATE_QUANTITY, APPLY_BATCH, JSON_READ, JSON_WRITE, LOG_EVENT};
+    private static final InventoryMetrics theMetrics = new InventoryMetrics();
+
+    private volatile InventoryManagement watched;   // inventory list whose size is reported, or null
+
+    private InventoryMetrics() {
+    }
+
+    // EFFECTS:     returns the metrics of the inventory system
+    public static InventoryMetrics getInstance() {
+        return theMetrics;
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     registers these metrics, and the metrics of each operation, with the platform MBean server,
+    //              unless they are registered already
+    //              throws JMException if they cannot be registered
+    public synchronized void register() throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(DOMAIN + ":type=Inventory");
+        if (server.isRegistered(name)) {
+            return;
+        }
+        for (OperationMetrics operation : OPERATIONS) {
+            server.registerMBean(operation, new ObjectName(DOMAIN + ":type=Operation,name=" + operation.getName()));
+        }
+        server.registerMBean(this, name);
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     reports the size of the given inventory list, in place of any list watched before
+    public void watch(InventoryManagement list) {
+        this.watched = list;
+    }
+
+    @Override
+    public String getListName() {
+        InventoryManagement list = watched;
+        return list == null ? null : list.getName();
+    }
+
+    @Override
+    public int getListSize() {
+        InventoryManagement list = watched;
+        return list == null ? 0 : list.getListSize();
+    }
+
+    @Override
+    public long getEventsLogged() {
+        return LOG_EVENT.getCount();
+    }
+
+    @Override
+    public long getEventsDropped() {
+        return EventLog.getInstance().getDroppedCount();
+    }
+
+    @Override
+    public void reset() {
+        for (OperationMetrics operation : OPERATIONS) {
+            operation.reset();
+        }
+    }
+}
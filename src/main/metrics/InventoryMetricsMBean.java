@@ -0,0 +1,21 @@
+package metrics;
+
+// Represents the view of the watched inventory list and the event log shown to JMX clients such as JConsole
+public interface InventoryMetricsMBean {
+
+    // EFFECTS:     returns the name of the watched inventory list, or null if no list is watched
+    String getListName();
+
+    // EFFECTS:     returns the number of items in the watched inventory list, or 0 if no list is watched
+    int getListSize();
+
+    // EFFECTS:     returns the number of events recorded by the event log
+    long getEventsLogged();
+
+    // EFFECTS:     returns the number of events the event log has overwritten or dropped since it was made
+    long getEventsDropped();
+
+    // MODIFIES:    this
+    // EFFECTS:     forgets the metrics of every operation, and starts them again
+    void reset();
+}
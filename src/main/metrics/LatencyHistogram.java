@@ -0,0 +1,109 @@
+package metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// Represents a histogram of latencies in nanoseconds, in log-linear buckets: each power of two is split into four
+// buckets, so every recorded latency is placed within 25% of its value.  The buckets are fixed when the histogram is
+// made, and recording a latency only adds to one of them, so any number of threads may record at once without
+// locking or allocating.  Percentiles read while latencies are being recorded are approximate.
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;        // buckets per power of two
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final LongAdder[] counts;       // number of latencies recorded in each bucket
+    private final LongAdder total;          // sum of every latency recorded
+    private final LongAccumulator max;      // greatest latency recorded
+
+    // EFFECTS:     constructs an empty histogram
+    public LatencyHistogram() {
+        this.counts = new LongAdder[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            this.counts[i] = new LongAdder();
+        }
+        this.total = new LongAdder();
+        this.max = new LongAccumulator(Math::max, 0);
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     records one latency, counting negative latencies as zero
+    public void record(long nanos) {
+        long latency = Math.max(nanos, 0);
+        counts[bucketOf(latency)].increment();
+        total.add(latency);
+        max.accumulate(latency);
+    }
+
+    // EFFECTS:     returns the number of latencies recorded
+    public long getCount() {
+        long count = 0;
+        for (LongAdder bucket : counts) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    // EFFECTS:     returns the mean latency recorded, or 0 if none has been
+    public long getMean() {
+        long count = getCount();
+        return count == 0 ? 0 : total.sum() / count;
+    }
+
+    // EFFECTS:     returns the greatest latency recorded, or 0 if none has been
+    public long getMax() {
+        return max.get();
+    }
+
+    // REQUIRES:    0 <= percentile <= 100
+    // EFFECTS:     returns the greatest latency in the bucket holding the given percentile of the recorded
+    //              latencies, no more than the greatest latency recorded, or 0 if none has been
+    public long getPercentile(double percentile) {
+        long[] snapshot = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts[i].sum();
+            count += snapshot[i];
+        }
+        long rank = (long) Math.ceil(count * percentile / 100);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= Math.max(rank, 1) && snapshot[i] > 0) {
+                return Math.min(upperBoundOf(i), getMax());
+            }
+        }
+        return 0;
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     forgets every latency recorded.  latencies recorded at the same time may be kept or forgotten
+    public void reset() {
+        for (LongAdder bucket : counts) {
+            bucket.reset();
+        }
+        total.reset();
+        max.reset();
+    }
+
+    // EFFECTS:     returns the bucket holding the given latency.  latencies below SUB_BUCKETS have a bucket each,
+    //              and each larger power of two is split into SUB_BUCKETS buckets by the bits after its top bit
+    static int bucketOf(long latency) {
+        if (latency < SUB_BUCKETS) {
+            return (int) latency;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(latency);
+        int subBucket = (int) (latency >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    // EFFECTS:     returns the greatest latency held by the given bucket
+    static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long lowerBound = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << (exponent - SUB_BUCKET_BITS);
+        return lowerBound + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+}
@@ -0,0 +1,72 @@
+package metrics;
+
+// Represents the metrics of one kind of operation: how many have completed, and a histogram of how long they took.
+// An operation is timed by taking start() before it and passing it to finish(start) after it; neither allocates,
+// so operations may be timed on every call.
+public class OperationMetrics implements OperationMetricsMBean {
+    private static final double NANOS_PER_MICRO = 1_000.0;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final String name;                  // name of the operation, as registered with JMX
+    private final LatencyHistogram latencies;   // latency of every operation completed
+    private volatile long startedAt;            // System.nanoTime() when the metrics were started
+
+    // EFFECTS:     constructs metrics of the operation with the given name, with no operations completed
+    public OperationMetrics(String name) {
+        this.name = name;
+        this.latencies = new LatencyHistogram();
+        this.startedAt = System.nanoTime();
+    }
+
+    // EFFECTS:     returns the time at which an operation starts, to be passed to finish
+    public long start() {
+        return System.nanoTime();
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     records an operation that started at the given time and has just completed
+    public void finish(long start) {
+        latencies.record(System.nanoTime() - start);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public long getCount() {
+        return latencies.getCount();
+    }
+
+    @Override
+    public double getThroughputPerSecond() {
+        double seconds = (System.nanoTime() - startedAt) / NANOS_PER_SECOND;
+        return seconds <= 0 ? 0 : getCount() / seconds;
+    }
+
+    @Override
+    public double getMeanMicros() {
+        return latencies.getMean() / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public double getP50Micros() {
+        return latencies.getPercentile(50) / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public double getP99Micros() {
+        return latencies.getPercentile(99) / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public double getMaxMicros() {
+        return latencies.getMax() / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public void reset() {
+        latencies.reset();
+        startedAt = System.nanoTime();
+    }
+}
@@ -0,0 +1,28 @@
+package metrics;
+
+// Represents the view of the metrics of one kind of operation shown to JMX clients such as JConsole.
+// Latencies are given in microseconds.
+public interface OperationMetricsMBean {
+
+    // EFFECTS:     returns the number of operations completed
+    long getCount();
+
+    // EFFECTS:     returns the mean number of operations completed per second since the metrics were started
+    double getThroughputPerSecond();
+
+    // EFFECTS:     returns the mean latency of the operations completed
+    double getMeanMicros();
+
+    // EFFECTS:     returns the median latency of the operations completed
+    double getP50Micros();
+
+    // EFFECTS:     returns the 99th percentile latency of the operations completed
+    double getP99Micros();
+
+    // EFFECTS:     returns the greatest latency of the operations completed
+    double getMaxMicros();
+
+    // MODIFIES:    this
+    // EFFECTS:     forgets every operation completed, and starts the metrics again
+    void reset();
+}
@@ -0,0 +1,229 @@
+package model;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.NoSuchElementException;
+
+// Represents a storage backend holding inventory items column by column: the ids and quantities of every item in
+// primitive arrays, and the titles and descriptions in two string arrays, all in list order, with the reorder
+// point, restock level and reorder alert state of each item in three more primitive arrays.  No object is kept
+// per item, so a list takes far fewer bytes per item than a list of InventoryItem objects, and quantity sums and
+// filters run as tight loops over contiguous memory.
+// Items are found by id with a binary search while ids are stored in increasing order, which is the order the list
+// assigns them, and by a scan of the id column otherwise.  Removing an item shifts every later item along.
+// Every item handed out is a new view of its row; views do not see changes made through other views.
+// Access to the columns is serialized on the store itself.
+public class ColumnarItemStore implements ItemStore {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] ids;                  // id of each item, in list order
+    private int[] quantities;           // quantity of each item, in list order
+    private String[] titles;            // title of each item, in list order
+    private String[] descriptions;      // description of each item, in list order
+    private int[] reorderPoints;        // reorder point of each item, in list order
+    private int[] restockLevels;        // restock level of each item, in list order
+    private boolean[] belowReorderPoint; // true for each item a reorder alert has been raised for, in list order
+    private int size;                   // number of items stored
+    private boolean ascending;          // true if the ids are stored in strictly increasing order
+
+    // EFFECTS:     constructs an empty store
+    public ColumnarItemStore() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    // REQUIRES:    capacity >= 0
+    // EFFECTS:     constructs an empty store with room for the given number of items before its columns grow
+    public ColumnarItemStore(int capacity) {
+        this.ids = new int[capacity];
+        this.quantities = new int[capacity];
+        this.titles = new String[capacity];
+        this.descriptions = new String[capacity];
+        this.reorderPoints = new int[capacity];
+        this.restockLevels = new int[capacity];
+        this.belowReorderPoint = new boolean[capacity];
+        this.ascending = true;
+    }
+
+    @Override
+    public synchronized int size() {
+        return size;
+    }
+
+    @Override
+    public synchronized InventoryItem get(int position) {
+        if (position < 0 || position >= size) {
+            throw new IndexOutOfBoundsException("Position: " + position + ", Size: " + size);
+        }
+        return view(position);
+    }
+
+    @Override
+    public synchronized InventoryItem getById(int id) {
+        int position = positionOf(id);
+        return position < 0 ? null : view(position);
+    }
+
+    @Override
+    public synchronized boolean contains(int id) {
+        return positionOf(id) >= 0;
+    }
+
+    @Override
+    public synchronized int positionOf(int id) {
+        if (ascending) {
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            return position < 0 ? -1 : position;
+        }
+        for (int i = 0; i < size; i++) {
+            if (ids[i] == id) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public synchronized void add(InventoryItem item) {
+        if (size == ids.length) {
+            grow();
+        }
+        ascending = ascending && (size == 0 || ids[size - 1] < item.getId());
+        ids[size] = item.getId();
+        quantities[size] = item.getQuantity();
+        titles[size] = item.getTitle();
+        descriptions[size] = item.getDescription();
+        writeReorderState(size, item);
+        size++;
+    }
+
+    @Override
+    public synchronized InventoryItem remove(int id) {
+        int position = positionOf(id);
+        if (position < 0) {
+            return null;
+        }
+        InventoryItem item = view(position);
+        int moved = size - position - 1;
+        System.arraycopy(ids, position + 1, ids, position, moved);
+        System.arraycopy(quantities, position + 1, quantities, position, moved);
+        System.arraycopy(titles, position + 1, titles, position, moved);
+        System.arraycopy(descriptions, position + 1, descriptions, position, moved);
+        System.arraycopy(reorderPoints, position + 1, reorderPoints, position, moved);
+        System.arraycopy(restockLevels, position + 1, restockLevels, position, moved);
+        System.arraycopy(belowReorderPoint, position + 1, belowReorderPoint, position, moved);
+        size--;
+        titles[size] = null;
+        descriptions[size] = null;
+        return item;
+    }
+
+    @Override
+    public synchronized void update(InventoryItem item) {
+        int position = positionOf(item.getId());
+        if (position >= 0) {
+            quantities[position] = item.getQuantity();
+            titles[position] = item.getTitle();
+            descriptions[position] = item.getDescription();
+            writeReorderState(position, item);
+        }
+    }
+
+    // EFFECTS:     rewrites only the quantity and reorder alert columns of the item's row
+    @Override
+    public synchronized void updateQuantity(InventoryItem item) {
+        int position = positionOf(item.getId());
+        if (position >= 0) {
+            quantities[position] = item.getQuantity();
+            belowReorderPoint[position] = item.isBelowReorderPoint();
+        }
+    }
+
+    @Override
+    public boolean keepsItemsOnHeap() {
+        return false;
+    }
+
+    // EFFECTS:     sums the quantity column
+    @Override
+    public synchronized long totalQuantity() {
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            total += quantities[i];
+        }
+        return total;
+    }
+
+    // EFFECTS:     scans the quantity column for matching rows, and makes views of only those rows
+    @Override
+    public synchronized LinkedList<InventoryItem> itemsWithQuantityBetween(int min, int max) {
+        int[] matches = new int[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            int quantity = quantities[i];
+            if (quantity >= min && quantity <= max) {
+                matches[count++] = i;
+            }
+        }
+        LinkedList<InventoryItem> items = new LinkedList<>();
+        for (int i = 0; i < count; i++) {
+            items.add(view(matches[i]));
+        }
+        return items;
+    }
+
+    // EFFECTS:     returns an iterator over views of the stored items, in list order.
+    //              the iterator does not support removal
+    @Override
+    public Iterator<InventoryItem> iterator() {
+        return new Iterator<InventoryItem>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                synchronized (ColumnarItemStore.this) {
+                    return next < size;
+                }
+            }
+
+            @Override
+            public InventoryItem next() {
+                synchronized (ColumnarItemStore.this) {
+                    if (next >= size) {
+                        throw new NoSuchElementException();
+                    }
+                    return view(next++);
+                }
+            }
+        };
+    }
+
+    // EFFECTS:     returns a new item holding the contents of the row at position
+    private InventoryItem view(int position) {
+        InventoryItem item = new InventoryItem(ids[position], titles[position], quantities[position],
+                descriptions[position], reorderPoints[position], restockLevels[position]);
+        item.restoreBelowReorderPoint(belowReorderPoint[position]);
+        return item;
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     writes the reorder point, restock level and reorder alert state of item to the row at position
+    private void writeReorderState(int position, InventoryItem item) {
+        reorderPoints[position] = item.getReorderPoint();
+        restockLevels[position] = item.getRestockLevel();
+        belowReorderPoint[position] = item.isBelowReorderPoint();
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     doubles the room in every column
+    private void grow() {
+        int grown = Math.max(DEFAULT_CAPACITY, ids.length * 2);
+        ids = Arrays.copyOf(ids, grown);
+        quantities = Arrays.copyOf(quantities, grown);
+        titles = Arrays.copyOf(titles, grown);
+        descriptions = Arrays.copyOf(descriptions, grown);
+        reorderPoints = Arrays.copyOf(reorderPoints, grown);
+        restockLevels = Arrays.copyOf(restockLevels, grown);
+        belowReorderPoint = Arrays.copyOf(belowReorderPoint, grown);
+    }
+}
@@ -1,17 +1,23 @@
 package model;
 
-import java.util.Calendar;
 import java.util.Date;
 
 
 /**
  * Represents an inventory system event.
+ * Events are structured: they hold their type, the item ID, a number, and up to two strings, along with
+ * the time they were logged.  Their text is only rendered when it is first asked for.
  * CREDIT:      this portion is taken from the AlarmSystem code provided as a reference for the term project,
  *              as instructed
  */
 public class Event {
     private static final int HASH_CONSTANT = 13;
-    private Date dateLogged;
+    private final long timeLogged;
+    private final EventType type;
+    private final int itemId;
+    private final long number;
+    private final String text;
+    private final String detail;
     private String description;
 
     /**
@@ -21,28 +27,128 @@ public class Event {
      * @param description a description of the event
      */
     public Event(String description) {
-        dateLogged = Calendar.getInstance().getTime();
+        this(EventType.MESSAGE, 0, 0, description, null);
         this.description = description;
     }
 
+    /**
+     * Creates an event about an inventory list or a search with the current date/time stamp.
+     *
+     * @param type   the type of the event
+     * @param number the number of items involved, if any
+     * @param text   the list name or search text
+     */
+    public Event(EventType type, long number, String text) {
+        this(type, 0, number, text, null);
+    }
+
+    /**
+     * Creates an event about an inventory item with the current date/time stamp.
+     *
+     * @param type   the type of the event
+     * @param itemId the ID of the item
+     * @param number the quantity of the item
+     * @param text   the title of the item
+     * @param detail the description of the item
+     */
+    public Event(EventType type, int itemId, long number, String text, String detail) {
+        this(System.currentTimeMillis(), type, itemId, number, text, detail);
+    }
+
+    /**
+     * Creates an event that was logged at the given time, as read back from a saved event log.
+     *
+     * @param timeLogged the time of the event, in milliseconds since the epoch
+     * @param type       the type of the event
+     * @param itemId     the ID of the item, or 0
+     * @param number     the quantity or count recorded by the event
+     * @param text       the item title, list name or search text
+     * @param detail     the item description, if any
+     */
+    public Event(long timeLogged, EventType type, int itemId, long number, String text, String detail) {
+        this.timeLogged = timeLogged;
+        this.type = type;
+        this.itemId = itemId;
+        this.number = number;
+        this.text = text;
+        this.detail = detail;
+    }
+
     /**
      * Gets the date of this event (includes time).
      *
      * @return the date of the event
      */
     public Date getDate() {
-        return dateLogged;
+        return new Date(timeLogged);
     }
 
     /**
-     * Gets the description of this event.
+     * Gets the time this event was logged, in milliseconds since the epoch.
+     *
+     * @return the time of the event
+     */
+    public long getTimeLogged() {
+        return timeLogged;
+    }
+
+    /**
+     * Gets the description of this event, rendering it the first time it is asked for.
      *
      * @return the description of the event
      */
     public String getDescription() {
+        if (description == null) {
+            description = type.render(this);
+        }
         return description;
     }
 
+    /**
+     * Gets the type of this event.
+     *
+     * @return the type of the event
+     */
+    public EventType getType() {
+        return type;
+    }
+
+    /**
+     * Gets the ID of the item this event is about, or 0 if it is not about an item.
+     *
+     * @return the item ID of the event
+     */
+    public int getItemId() {
+        return itemId;
+    }
+
+    /**
+     * Gets the quantity or count recorded by this event.
+     *
+     * @return the number of the event
+     */
+    public long getNumber() {
+        return number;
+    }
+
+    /**
+     * Gets the item title, list name or search text recorded by this event.
+     *
+     * @return the text of the event
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Gets the item description recorded by this event, if any.
+     *
+     * @return the detail of the event
+     */
+    public String getDetail() {
+        return detail;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == null) {
@@ -54,18 +160,18 @@ public class Event {
         }
         Event otherEvent = (Event) other;
 
-        return (this.dateLogged.equals(otherEvent.dateLogged)
+        return (this.timeLogged == otherEvent.timeLogged
                 &&
-                this.description.equals(otherEvent.description));
+                this.getDescription().equals(otherEvent.getDescription()));
     }
 
     @Override
     public int hashCode() {
-        return (HASH_CONSTANT * dateLogged.hashCode() + description.hashCode());
+        return (HASH_CONSTANT * Long.hashCode(timeLogged) + getDescription().hashCode());
     }
 
     @Override
     public String toString() {
-        return dateLogged.toString() + "\n" + description;
+        return getDate().toString() + "\n" + getDescription();
     }
 }
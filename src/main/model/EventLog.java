@@ -1,66 +1,315 @@
 package model;
 
-import java.util.ArrayList;
-import java.util.Collection;
+import metrics.InventoryMetrics;
+
 import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 
 /**
  * Represents a log of inventory system events.
  * We use the Singleton Design Pattern to ensure that there is only
  * one EventLog in the system and that the system has global access
  * to the single instance of the EventLog.
+ * The log holds at most a fixed number of events in a ring buffer that any number of threads
+ * may log to without locking.  Once the ring is full, new events either overwrite the oldest
+ * ones or are dropped, depending on the overflow policy, and every lost event is counted.
  * CREDIT:      this portion is taken from the AlarmSystem code provided as a reference for the term project,
  *              as instructed
  */
 public class EventLog implements Iterable<Event> {
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    /**
+     * What happens to an event logged while the ring is full.
+     */
+    public enum OverflowPolicy {
+        OVERWRITE_OLDEST,   // the new event replaces the oldest event held
+        DROP_NEWEST         // the new event is dropped, keeping the events already held
+    }
+
+    /**
+     * Which events are recorded.
+     */
+    public enum Verbosity {
+        NONE,       // no events are recorded
+        CHANGES,    // only changes are recorded, read-only lookups are skipped
+        ALL         // every event is recorded
+    }
+
     /**
      * the only EventLog in the system (Singleton Design Pattern)
      */
-    private static EventLog theLog;
-    private Collection<Event> events;
+    private static final EventLog theLog = new EventLog();
+    private volatile Ring ring;
+    private final LongAdder dropped;
+    private volatile Verbosity verbosity;
+    private final List<Consumer<Event>> subscribers;
 
     /**
      * Prevent external construction.
      * (Singleton Design Pattern).
      */
     private EventLog() {
-        events = new ArrayList<Event>();
+        ring = new Ring(DEFAULT_CAPACITY, OverflowPolicy.OVERWRITE_OLDEST);
+        dropped = new LongAdder();
+        verbosity = Verbosity.ALL;
+        subscribers = new CopyOnWriteArrayList<>();
     }
 
     /**
-     * Gets instance of EventLog - creates it
-     * if it doesn't already exist.
+     * Gets instance of EventLog.
      * (Singleton Design Pattern)
      *
      * @return instance of EventLog
      */
     public static EventLog getInstance() {
-        if (theLog == null) {
-            theLog = new EventLog();
+        return theLog;
+    }
+
+    /**
+     * Replaces the log with an empty one holding at most capacity events.
+     * Events logged by other threads while the log is being configured may be lost,
+     * so the log should be configured before it is shared.
+     *
+     * @param capacity the greatest number of events held, must be positive
+     * @param policy   what happens to events logged once capacity events are held
+     */
+    public void configure(int capacity, OverflowPolicy policy) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
         }
+        ring = new Ring(capacity, policy);
+    }
 
-        return theLog;
+    /**
+     * Sets which events are recorded from now on.
+     *
+     * @param verbosity the events to record
+     */
+    public void setVerbosity(Verbosity verbosity) {
+        this.verbosity = verbosity;
     }
 
     /**
-     * Adds an event to the event log.
+     * Gets which events are recorded.
+     *
+     * @return the verbosity of the log
+     */
+    public Verbosity getVerbosity() {
+        return verbosity;
+    }
+
+    /**
+     * Returns true if events of the given type are recorded at the current verbosity, so callers on
+     * hot paths can skip creating events that would not be recorded.
+     *
+     * @param type the type of event
+     * @return true if events of the type are recorded
+     */
+    public boolean isEnabled(EventType type) {
+        Verbosity current = verbosity;
+        return current == Verbosity.ALL || (current == Verbosity.CHANGES && !type.isLookup());
+    }
+
+    /**
+     * Registers a subscriber to be handed every event recorded from now on, on the thread that logs it,
+     * whether or not the ring has room to hold the event.
+     *
+     * @param subscriber the subscriber to add
+     */
+    public void addSubscriber(Consumer<Event> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    /**
+     * Stops handing events to a subscriber.
+     *
+     * @param subscriber the subscriber to remove
+     */
+    public void removeSubscriber(Consumer<Event> subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    /**
+     * Adds an event to the event log, overwriting the oldest event or dropping this one if the log is full,
+     * and hands it to every subscriber.  Events of types not recorded at the current verbosity are ignored.
      *
      * @param e the event to be added
      */
     public void logEvent(Event e) {
-        events.add(e);
+        if (!isEnabled(e.getType())) {
+            return;
+        }
+        long start = InventoryMetrics.LOG_EVENT.start();
+        if (!ring.add(e)) {
+            dropped.increment();
+        }
+        for (Consumer<Event> subscriber : subscribers) {
+            subscriber.accept(e);
+        }
+        InventoryMetrics.LOG_EVENT.finish(start);
     }
 
     /**
      * Clears the event log and logs the event.
      */
     public void clear() {
-        events.clear();
+        ring.clear();
         logEvent(new Event("Event log cleared."));
     }
 
+    /**
+     * Gets the number of events lost since the system started, whether dropped or overwritten.
+     *
+     * @return the number of events lost
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Gets the greatest number of events the log holds.
+     *
+     * @return the capacity of the log
+     */
+    public int getCapacity() {
+        return ring.slots.length();
+    }
+
+    /**
+     * Gets the policy applied to events logged while the log is full.
+     *
+     * @return the overflow policy of the log
+     */
+    public OverflowPolicy getPolicy() {
+        return ring.policy;
+    }
+
+    /**
+     * Returns a weakly consistent iterator over the events held, oldest first.
+     * The iterator never throws ConcurrentModificationException; it skips events that are
+     * overwritten while it runs, and may or may not include events logged after it was created.
+     */
     @Override
     public Iterator<Event> iterator() {
-        return events.iterator();
+        return ring.iterator();
+    }
+
+    /**
+     * An event held in the ring, along with its sequence number.
+     */
+    private static final class Entry {
+        private final long seq;
+        private final Event event;
+
+        private Entry(long seq, Event event) {
+            this.seq = seq;
+            this.event = event;
+        }
+    }
+
+    /**
+     * A fixed-capacity ring of events.  Each event is given the next sequence number and stored in the slot
+     * at that number modulo the capacity, so a slot only ever moves forward to later events.
+     */
+    private static final class Ring {
+        private final AtomicReferenceArray<Entry> slots;
+        private final OverflowPolicy policy;
+        private final AtomicLong head;      // sequence number of the next event logged
+        private volatile long base;         // sequence number of the first event logged since the last clear
+
+        private Ring(int capacity, OverflowPolicy policy) {
+            this.slots = new AtomicReferenceArray<>(capacity);
+            this.policy = policy;
+            this.head = new AtomicLong();
+        }
+
+        /**
+         * Adds the event, returning false if it, or the older event it overwrote, was lost.
+         */
+        private boolean add(Event event) {
+            long seq;
+            if (policy == OverflowPolicy.DROP_NEWEST) {
+                do {
+                    seq = head.get();
+                    if (seq - base >= slots.length()) {
+                        return false;
+                    }
+                } while (!head.compareAndSet(seq, seq + 1));
+            } else {
+                seq = head.getAndIncrement();
+            }
+            publish(new Entry(seq, event));
+            return seq - base < slots.length();
+        }
+
+        /**
+         * Stores the entry in its slot, unless a later event has already been stored there.
+         */
+        private void publish(Entry entry) {
+            int slot = (int) (entry.seq % slots.length());
+            Entry current = slots.get(slot);
+            while (current == null || current.seq < entry.seq) {
+                if (slots.compareAndSet(slot, current, entry)) {
+                    return;
+                }
+                current = slots.get(slot);
+            }
+        }
+
+        /**
+         * Forgets every event logged so far.
+         */
+        private void clear() {
+            base = head.get();
+        }
+
+        /**
+         * Returns an iterator over the events still held, from the oldest up to the last event logged
+         * before this call.
+         */
+        private Iterator<Event> iterator() {
+            long end = head.get();
+            long start = Math.max(base, end - slots.length());
+            return new Iterator<Event>() {
+                private long seq = start;
+                private Event next;
+
+                private Event advance() {
+                    while (seq < end) {
+                        Entry entry = slots.get((int) (seq % slots.length()));
+                        seq++;
+                        if (entry != null && entry.seq == seq - 1) {
+                            return entry.event;
+                        }
+                    }
+                    return null;
+                }
+
+                @Override
+                public boolean hasNext() {
+                    if (next == null) {
+                        next = advance();
+                    }
+                    return next != null;
+                }
+
+                @Override
+                public Event next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    Event event = next;
+                    next = null;
+                    return event;
+                }
+            };
+        }
     }
 }
@@ -0,0 +1,47 @@
+package model;
+
+/**
+ * Represents the kind of an inventory system event, and how its text is rendered.
+ * Each template may refer to the item ID (%1$d), the text (%2$s), the number (%3$d) and the
+ * detail (%4$s) held by the event.
+ */
+public enum EventType {
+    MESSAGE(false, "%2$s"),
+    LIST_CREATED(false, "Created a new list named %2$s"),
+    LIST_SAVED(false, "Successfully saved %2$s."),
+    ITEM_ADDED(false, "Added item with ID: %1$d, Title: %2$s, Quantity: %3$d, and Description: %4$s"),
+    ITEM_REMOVED(false, "Removed item with ID: %1$d, Title: %2$s, Quantity: %3$d, and Description: %4$s"),
+    ITEM_NOT_REMOVED(false, "Did not remove item, no such item exists with ID: %1$d"),
+    BATCH_APPLIED(false, "Applied a batch of %3$d change(s) to %2$s."),
+    LIST_VIEWED(true, "Viewing list %2$s."),
+    ITEM_FOUND(true, "Found Item with ID: %1$d, with Title: %2$s, Quantity: %3$d, and Description: %4$s"),
+    ITEM_NOT_FOUND(true, "Did not find any item with ID: %1$d"),
+    ITEMS_FOUND(true, "Found %3$d item(s) containing \"%2$s\".");
+
+    private final boolean lookup;
+    private final String template;
+
+    EventType(boolean lookup, String template) {
+        this.lookup = lookup;
+        this.template = template;
+    }
+
+    /**
+     * Returns true if events of this type record a read-only lookup rather than a change.
+     *
+     * @return true for lookup events
+     */
+    public boolean isLookup() {
+        return lookup;
+    }
+
+    /**
+     * Renders the text of an event of this type.
+     *
+     * @param event the event to render
+     * @return the description of the event
+     */
+    String render(Event event) {
+        return String.format(template, event.getItemId(), event.getText(), event.getNumber(), event.getDetail());
+    }
+}
@@ -0,0 +1,153 @@
+package model;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Represents the default storage backend, holding every InventoryItem object on the heap.
+// Items are kept in the order they were added by a concurrent sorted map from each item's sequence number, and are
+// indexed by id in a number of stripes, each guarded by its own lock, so threads adding and removing items with
+// different ids rarely wait for each other.  Iteration is weakly consistent and never fails with a concurrent change.
+// The position of each sequence number is kept in a position index, so items are found by position, and positions
+// by id, without counting the items before them.  An item is added to the sequence map before the position index,
+// and removed from the position index first, so every sequence number the index finds has an item.
+public class HeapItemStore implements ItemStore {
+    private static final int STRIPE_BITS = 4;
+    private static final int STRIPES = 1 << STRIPE_BITS;    // number of independently locked parts of the id index
+    private static final int GOLDEN_RATIO = 0x9E3779B9;
+
+    private final IntObjectMap<Entry>[] idIndex;                         // index of items by ID, in stripes
+    private final ConcurrentSkipListMap<Long, InventoryItem> inventoryList;  // items by sequence number
+    private final PositionIndex positions;      // positions of the sequence numbers of the stored items
+    private final AtomicLong nextSeq;           // sequence number of the next item added
+    private final AtomicInteger size;           // number of items stored
+
+    // Represents a stored item along with its sequence number
+    private static class Entry {
+        private final InventoryItem item;
+        private final long seq;
+
+        Entry(InventoryItem item, long seq) {
+            this.item = item;
+            this.seq = seq;
+        }
+    }
+
+    // EFFECTS:     constructs an empty store
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public HeapItemStore() {
+        this.idIndex = new IntObjectMap[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            this.idIndex[i] = new IntObjectMap<>();
+        }
+        this.inventoryList = new ConcurrentSkipListMap<>();
+        this.positions = new PositionIndex();
+        this.nextSeq = new AtomicLong();
+        this.size = new AtomicInteger();
+    }
+
+    @Override
+    public int size() {
+        return size.get();
+    }
+
+    // EFFECTS:     returns the item at the given position, looked up again if a concurrent change moved it while
+    //              it was being found
+    //              throws IndexOutOfBoundsException if position is not within the store
+    @Override
+    public InventoryItem get(int position) {
+        while (position >= 0 && position < size()) {
+            long seq = positions.select(position);
+            InventoryItem item = seq == PositionIndex.MISSING ? null : inventoryList.get(seq);
+            if (item != null) {
+                return item;
+            }
+        }
+        throw new IndexOutOfBoundsException("Index: " + position + ", Size: " + size());
+    }
+
+    @Override
+    public InventoryItem getById(int id) {
+        Entry entry = entry(id);
+        return entry == null ? null : entry.item;
+    }
+
+    @Override
+    public boolean contains(int id) {
+        return entry(id) != null;
+    }
+
+    @Override
+    public int positionOf(int id) {
+        Entry entry = entry(id);
+        if (entry == null) {
+            return -1;
+        }
+        return positions.rank(entry.seq);
+    }
+
+    // EFFECTS:     stores item after every item already stored, unless an item with the same id is already stored
+    @Override
+    public void add(InventoryItem item) {
+        IntObjectMap<Entry> stripe = stripe(item.getId());
+        synchronized (stripe) {
+            if (stripe.containsKey(item.getId())) {
+                return;
+            }
+            long seq = nextSeq.getAndIncrement();
+            stripe.put(item.getId(), new Entry(item, seq));
+            inventoryList.put(seq, item);
+            positions.add(seq);
+            size.incrementAndGet();
+        }
+    }
+
+    @Override
+    public InventoryItem remove(int id) {
+        IntObjectMap<Entry> stripe = stripe(id);
+        synchronized (stripe) {
+            Entry entry = stripe.remove(id);
+            if (entry == null) {
+                return null;
+            }
+            size.decrementAndGet();
+            positions.remove(entry.seq);
+            inventoryList.remove(entry.seq);
+            return entry.item;
+        }
+    }
+
+    @Override
+    public void update(InventoryItem item) {
+        // the stored item is the object that was changed
+    }
+
+    // EFFECTS:     returns a snapshot of the stored items as a new linked list
+    @Override
+    public LinkedList<InventoryItem> toLinkedList() {
+        return new LinkedList<>(inventoryList.values());
+    }
+
+    // EFFECTS:     returns a weakly consistent iterator over the stored items, in the order they were added.
+    //              the iterator does not support removal
+    @Override
+    public Iterator<InventoryItem> iterator() {
+        return Collections.unmodifiableCollection(inventoryList.values()).iterator();
+    }
+
+    // EFFECTS:     returns the entry of the item with the given id, or null if there is no such item
+    private Entry entry(int id) {
+        IntObjectMap<Entry> stripe = stripe(id);
+        synchronized (stripe) {
+            return stripe.get(id);
+        }
+    }
+
+    // EFFECTS:     returns the stripe of the id index holding the given id
+    private IntObjectMap<Entry> stripe(int id) {
+        return idIndex[(id * GOLDEN_RATIO) >>> (Integer.SIZE - STRIPE_BITS)];
+    }
+}
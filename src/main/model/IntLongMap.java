@@ -0,0 +1,132 @@
+package model;
+
+// Represents a hash map from primitive int keys to primitive long values, using open addressing with linear
+// probing so that neither keys nor values are boxed.  Used to index stored item records by item id.
+class IntLongMap {
+    static final long MISSING = -1;     // value returned for keys that are not mapped
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int GOLDEN_RATIO = 0x9E3779B9;
+
+    private int[] keys;         // slot keys, only meaningful where used[slot]
+    private long[] values;      // slot values
+    private boolean[] used;     // true where a slot holds a mapping
+    private int size;           // number of mappings held
+    private int mask;           // capacity - 1, capacity is always a power of two
+
+    // EFFECTS:     constructs an empty map
+    IntLongMap() {
+        allocate(DEFAULT_CAPACITY);
+    }
+
+    // EFFECTS:     returns the value mapped to key, or MISSING if there is no such mapping
+    long get(int key) {
+        int slot = slotOf(key);
+        while (used[slot]) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return MISSING;
+    }
+
+    // EFFECTS:     returns true if key is mapped to a value
+    boolean containsKey(int key) {
+        int slot = slotOf(key);
+        while (used[slot]) {
+            if (keys[slot] == key) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     maps key to value, replacing any value previously mapped to key
+    void put(int key, long value) {
+        int slot = slotOf(key);
+        while (used[slot]) {
+            if (keys[slot] == key) {
+                values[slot] = value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        used[slot] = true;
+        size++;
+        if (size * 4 > keys.length * 3) {
+            resize(keys.length * 2);
+        }
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     removes the mapping for key, returning the removed value (or MISSING if there was none).
+    //              following entries of the probe chain are shifted back so no tombstones are left behind
+    long remove(int key) {
+        int slot = slotOf(key);
+        while (used[slot]) {
+            if (keys[slot] == key) {
+                long removed = values[slot];
+                shiftBack(slot);
+                size--;
+                return removed;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return MISSING;
+    }
+
+    // EFFECTS:     returns the number of mappings in this map
+    int size() {
+        return size;
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     closes the gap at the given slot by moving back any entry that probed past it
+    private void shiftBack(int gap) {
+        int slot = (gap + 1) & mask;
+        while (used[slot]) {
+            int home = slotOf(keys[slot]);
+            if (((slot - home) & mask) >= ((slot - gap) & mask)) {
+                keys[gap] = keys[slot];
+                values[gap] = values[slot];
+                gap = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        used[gap] = false;
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     rehashes every mapping into a table of the given capacity
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        long[] oldValues = values;
+        boolean[] oldUsed = used;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldUsed[i]) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     replaces the table with an empty one of the given capacity
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new long[capacity];
+        used = new boolean[capacity];
+        mask = capacity - 1;
+        size = 0;
+    }
+
+    // EFFECTS:     returns the home slot of key
+    private int slotOf(int key) {
+        int hash = key * GOLDEN_RATIO;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
@@ -0,0 +1,133 @@
+package model;
+
+// Represents a hash map keyed by primitive int ids, using open addressing with linear probing so that
+// lookups never box the key.  Used to index inventory items by their unique id.
+class IntObjectMap<V> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int GOLDEN_RATIO = 0x9E3779B9;
+
+    private int[] keys;         // slot keys, only meaningful where values[slot] != null
+    private Object[] values;    // slot values, null marks an empty slot
+    private int size;           // number of mappings held
+    private int mask;           // capacity - 1, capacity is always a power of two
+
+    // EFFECTS:     constructs an empty map
+    IntObjectMap() {
+        allocate(DEFAULT_CAPACITY);
+    }
+
+    // EFFECTS:     returns the value mapped to key, or null if there is no such mapping
+    @SuppressWarnings("unchecked")
+    V get(int key) {
+        int slot = slotOf(key);
+        while (values[slot] != null) {
+            if (keys[slot] == key) {
+                return (V) values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    // EFFECTS:     returns true if key is mapped to a value
+    boolean containsKey(int key) {
+        return get(key) != null;
+    }
+
+    // REQUIRES:    value != null
+    // MODIFIES:    this
+    // EFFECTS:     maps key to value, returning the value previously mapped to key (or null if there was none)
+    @SuppressWarnings("unchecked")
+    V put(int key, V value) {
+        int slot = slotOf(key);
+        while (values[slot] != null) {
+            if (keys[slot] == key) {
+                V previous = (V) values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+        if (size * 4 > keys.length * 3) {
+            resize(keys.length * 2);
+        }
+        return null;
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     removes the mapping for key, returning the removed value (or null if there was none).
+    //              following entries of the probe chain are shifted back so no tombstones are left behind
+    @SuppressWarnings("unchecked")
+    V remove(int key) {
+        int slot = slotOf(key);
+        while (values[slot] != null) {
+            if (keys[slot] == key) {
+                V removed = (V) values[slot];
+                shiftBack(slot);
+                size--;
+                return removed;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    // EFFECTS:     returns the number of mappings in this map
+    int size() {
+        return size;
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     removes every mapping from this map
+    void clear() {
+        allocate(DEFAULT_CAPACITY);
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     closes the gap at the given slot by moving back any entry that probed past it
+    private void shiftBack(int gap) {
+        int slot = (gap + 1) & mask;
+        while (values[slot] != null) {
+            int home = slotOf(keys[slot]);
+            if (((slot - home) & mask) >= ((slot - gap) & mask)) {
+                keys[gap] = keys[slot];
+                values[gap] = values[slot];
+                gap = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        values[gap] = null;
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     rehashes every mapping into a table of the given capacity
+    @SuppressWarnings("unchecked")
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != null) {
+                put(oldKeys[i], (V) oldValues[i]);
+            }
+        }
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     replaces the table with an empty one of the given capacity
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        size = 0;
+    }
+
+    // EFFECTS:     returns the home slot of key
+    private int slotOf(int key) {
+        int hash = key * GOLDEN_RATIO;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
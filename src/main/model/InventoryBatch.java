@@ -0,0 +1,78 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// Represents a batch of changes to be made to an inventory list all at once by InventoryManagement.applyBatch:
+// items to add, items to remove, and changes to the quantity of items already in the list, in the order given.
+public class InventoryBatch {
+    private final List<Operation> operations;   // changes in the order they were added to the batch
+    private int addCount;                       // number of items to add
+
+    // Represents the kind of a single change in a batch
+    enum Kind {
+        ADD,
+        REMOVE,
+        QUANTITY
+    }
+
+    // Represents a single change in a batch
+    static class Operation {
+        final Kind kind;
+        final int id;               // item to remove or change, unused for ADD
+        final int quantity;         // quantity of the new item, or change in quantity
+        final String title;         // title of the new item, only for ADD
+        final String description;  // description of the new item, only for ADD
+
+        Operation(Kind kind, int id, int quantity, String title, String description) {
+            this.kind = kind;
+            this.id = id;
+            this.quantity = quantity;
+            this.title = title;
+            this.description = description;
+        }
+    }
+
+    // EFFECTS:     constructs an empty batch
+    public InventoryBatch() {
+        this.operations = new ArrayList<>();
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     adds a new item with the given title, quantity and description to the batch, returning this batch
+    public InventoryBatch addItem(String title, int quantity, String description) {
+        operations.add(new Operation(Kind.ADD, 0, quantity, title, description));
+        addCount++;
+        return this;
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     adds the removal of the item with the given ID to the batch, returning this batch
+    public InventoryBatch removeItem(int id) {
+        operations.add(new Operation(Kind.REMOVE, id, 0, null, null));
+        return this;
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     adds a change in the quantity of the item with the given ID to the batch, returning this batch
+    public InventoryBatch updateQuantity(int id, int change) {
+        operations.add(new Operation(Kind.QUANTITY, id, change, null, null));
+        return this;
+    }
+
+    // EFFECTS:     returns the number of changes in the batch
+    public int size() {
+        return operations.size();
+    }
+
+    // EFFECTS:     returns the number of items the batch adds
+    int addCount() {
+        return addCount;
+    }
+
+    // EFFECTS:     returns the changes in the batch, in the order they were added
+    List<Operation> operations() {
+        return Collections.unmodifiableList(operations);
+    }
+}
@@ -1,16 +1,34 @@
 package model;
 
+import exceptions.IllegalQuantityException;
 import exceptions.NegativeQuantityException;
 import org.json.JSONObject;
 import persistence.Writable;
 
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
 // Represents an inventory item having an id, title, quantity, and description
+// Quantity changes are atomic, so several threads may update the quantity of one item at once without losing
+// updates or taking the quantity below zero.  The quantity of an item in a list is changed while holding the list's
+// lock for the item, so a batch applied to the list cannot lose a change made through the item in the meantime.
+// An item may have a reorder point, and an alert is raised the first time a quantity change takes it below that
+// point.  No further alert is raised until the quantity has come back up to the restock level, so a quantity moving
+// back and forth across the reorder point does not raise an alert on every change.  Each quantity change only
+// compares the new quantity with the two levels, so checking costs the same whatever the size of the list.
 public class InventoryItem implements Writable {
+    private static final AtomicIntegerFieldUpdater<InventoryItem> QUANTITY =
+            AtomicIntegerFieldUpdater.newUpdater(InventoryItem.class, "quantity");
+    private static final AtomicIntegerFieldUpdater<InventoryItem> BELOW_REORDER_POINT =
+            AtomicIntegerFieldUpdater.newUpdater(InventoryItem.class, "belowReorderPoint");
 
-    private int id;                 // unique indicator for inventory item
-    private String title;           // title of inventory item
-    private int quantity;           // quantity of inventory item ( >0)
-    private String description;     // description of inventory item
+    private int id;                         // unique indicator for inventory item
+    private volatile String title;          // title of inventory item
+    private volatile int quantity;          // quantity of inventory item ( >0)
+    private volatile String description;    // description of inventory item
+    private volatile int reorderPoint;      // an alert is raised when quantity falls below this, 0 for no alerts
+    private volatile int restockLevel;      // quantity at which alerts are raised again, >= reorderPoint
+    private volatile int belowReorderPoint; // 1 once an alert has been raised, until the item is restocked
+    private volatile InventoryManagement owner;  // inventory list this item has been added to, if any
 
     /*   EFFECTS: constructs an inventory item.
                   id is a positive integer not already assigned to an item
@@ -25,6 +43,17 @@ public class InventoryItem implements Writable {
         this.description = description;
     }
 
+    // REQUIRES:    0 <= reorderPoint <= restockLevel
+    // EFFECTS:     constructs an inventory item as above, with the given reorder point and restock level, as
+    //              restored from a saved file.  an item restored below its reorder point raises no alert
+    public InventoryItem(int id, String title, int quantity, String description, int reorderPoint,
+                         int restockLevel) {
+        this(id, title, quantity, description);
+        this.reorderPoint = reorderPoint;
+        this.restockLevel = restockLevel;
+        this.belowReorderPoint = quantity < reorderPoint ? 1 : 0;
+    }
+
     // REQUIRES:    quantity != 0
     // EFFECTS:     determines if the quantity update should be increased or decreased.
     //              if value is 0, quantity update will not be processed.
@@ -40,19 +69,29 @@ public class InventoryItem implements Writable {
     // MODIFIES:    this
     // EFFECTS:     increase the existing quantity by the provided quantity number
     protected void increaseQuantity(int increase) {
-        this.quantity = this.quantity + increase;
+        synchronized (lock()) {
+            int oldQuantity = QUANTITY.getAndAdd(this, increase);
+            quantityChanged(oldQuantity, oldQuantity + increase);
+        }
     }
 
     // REQUIRES:    int < 0
     // MODIFIES:    this
     // EFFECTS:     decrease the existing quantity by the provided quantity number.
     //              if value would fall below zero, throw  NegativeQuantityException()
+    //              the check and the decrease are made atomically
     protected void decreaseQuantity(int decrease) {
-        int quantityDecrease = this.quantity + decrease;
-        if (quantityDecrease < 0) {
-            throw new NegativeQuantityException();
-        } else {
-            this.quantity = quantityDecrease;
+        synchronized (lock()) {
+            int oldQuantity;
+            int quantityDecrease;
+            do {
+                oldQuantity = this.quantity;
+                quantityDecrease = oldQuantity + decrease;
+                if (quantityDecrease < 0) {
+                    throw new NegativeQuantityException();
+                }
+            } while (!QUANTITY.compareAndSet(this, oldQuantity, quantityDecrease));
+            quantityChanged(oldQuantity, quantityDecrease);
         }
     }
 
@@ -77,6 +116,21 @@ public class InventoryItem implements Writable {
         return this.description;
     }
 
+    // EFFECTS:     get the quantity below which a reorder alert is raised, or 0 if the item raises no alerts
+    public int getReorderPoint() {
+        return this.reorderPoint;
+    }
+
+    // EFFECTS:     get the quantity the item must come back up to before another reorder alert is raised
+    public int getRestockLevel() {
+        return this.restockLevel;
+    }
+
+    // EFFECTS:     returns true if a reorder alert has been raised for the item and it has not yet been restocked
+    public boolean isBelowReorderPoint() {
+        return this.belowReorderPoint == 1;
+    }
+
     //setters
     // MODIFIES:    this
     // EFFECTS:     sets the initial item id on item creation
@@ -85,21 +139,111 @@ public class InventoryItem implements Writable {
     }
 
     // MODIFIES:    this
-    // EFFECTS:     sets the item title to the provided title
+    // EFFECTS:     sets the item title to the provided title, shared through the string pool
+    //              notifies the owning inventory list so that its title index stays up to date
     public void setTitle(String title) {
-        this.title = title;
+        String oldTitle = this.title;
+        this.title = StringPool.intern(title);
+        InventoryManagement current = owner;
+        if (current != null) {
+            current.titleChanged(this, oldTitle);
+        }
     }
 
     // MODIFIES:    this
     // EFFECTS:     sets the item title to the provided title
     public void setQuantity(int quantity) {
-        this.quantity = quantity;
+        synchronized (lock()) {
+            quantityChanged(replaceQuantity(quantity), quantity);
+        }
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     sets the item quantity to the provided quantity without notifying the owning inventory list,
+    //              returning the previous quantity.  the owner calls this when it writes the change back itself
+    int replaceQuantity(int quantity) {
+        return QUANTITY.getAndSet(this, quantity);
     }
 
     // MODIFIES:    this
-    // EFFECTS:     sets the item description to the provided title
+    // EFFECTS:     sets the item description to the provided title, shared through the string pool
+    //              notifies the owning inventory list of the edit
     public void setDescription(String description) {
-        this.description = description;
+        this.description = StringPool.intern(description);
+        InventoryManagement current = owner;
+        if (current != null) {
+            current.descriptionChanged(this);
+        }
+    }
+
+    // REQUIRES:    0 <= reorderPoint <= restockLevel, or both are 0 to stop raising alerts
+    // MODIFIES:    this
+    // EFFECTS:     sets the quantity below which a reorder alert is raised, and the quantity the item must come back
+    //              up to before another is raised.  an item already below the new reorder point raises an alert
+    //              notifies the owning inventory list of the change
+    //              throws IllegalQuantityException if reorderPoint < 0, and
+    //              throws IllegalArgumentException if restockLevel < reorderPoint
+    public void setReorderPoint(int reorderPoint, int restockLevel) {
+        if (reorderPoint < 0) {
+            throw new IllegalQuantityException();
+        } else if (restockLevel < reorderPoint) {
+            throw new IllegalArgumentException("Restock level " + restockLevel + " is below the reorder point");
+        }
+        this.reorderPoint = reorderPoint;
+        this.restockLevel = restockLevel;
+        if (reorderPoint == 0) {
+            this.belowReorderPoint = 0;
+        }
+        ReorderAlert alert = crossReorderPoint(this.quantity);
+        InventoryManagement current = owner;
+        if (current != null) {
+            current.reorderPointChanged(this, alert);
+        }
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     compares the new quantity with the reorder point and restock level, returning the alert raised
+    //              if the item has just fallen below its reorder point or just been restocked, or null otherwise.
+    //              each crossing is claimed atomically, so it raises one alert even when several threads cross it
+    ReorderAlert crossReorderPoint(int quantity) {
+        if (quantity < this.reorderPoint) {
+            if (BELOW_REORDER_POINT.compareAndSet(this, 0, 1)) {
+                return new ReorderAlert(this, ReorderAlert.Kind.BELOW_REORDER_POINT, quantity);
+            }
+        } else if (quantity >= this.restockLevel && BELOW_REORDER_POINT.compareAndSet(this, 1, 0)) {
+            return new ReorderAlert(this, ReorderAlert.Kind.RESTOCKED, quantity);
+        }
+        return null;
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     sets whether a reorder alert has been raised for the item, as kept by a store that does not hold
+    //              the item object itself
+    void restoreBelowReorderPoint(boolean below) {
+        this.belowReorderPoint = below ? 1 : 0;
+    }
+
+    // EFFECTS:     checks whether the quantity, now newQuantity, has crossed the reorder point, and notifies the
+    //              owning inventory list that the quantity has changed from oldQuantity, and of any alert raised
+    private void quantityChanged(int oldQuantity, int newQuantity) {
+        ReorderAlert alert = crossReorderPoint(newQuantity);
+        InventoryManagement current = owner;
+        if (current != null) {
+            current.quantityChanged(this, oldQuantity, alert);
+        }
+    }
+
+    // EFFECTS:     returns the lock the owning inventory list guards changes to this item with, or this item itself
+    //              if it is not in a list
+    private Object lock() {
+        InventoryManagement current = owner;
+        return current == null ? this : current.lockFor(this.id);
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     sets the inventory list this item belongs to, or null once it has been removed
+    void setOwner(InventoryManagement owner) {
+        this.owner = owner;
     }
 
     // EFFECTS:     creates a JSON object of an inventory item
@@ -112,6 +256,10 @@ public class InventoryItem implements Writable {
         json.put("title", title);
         json.put("quantity", quantity);
         json.put("description", description);
+        if (reorderPoint > 0 || restockLevel > 0) {
+            json.put("reorderPoint", reorderPoint);
+            json.put("restockLevel", restockLevel);
+        }
         return json;
     }
 }
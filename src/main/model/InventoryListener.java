@@ -0,0 +1,37 @@
+package model;
+
+import java.util.List;
+
+// Represents an observer of an inventory list, notified after each change made to the list or to an item in it
+public interface InventoryListener {
+
+    // EFFECTS:     called after item has been added to the end of the list
+    default void itemAdded(InventoryItem item) {
+    }
+
+    // EFFECTS:     called after item has been removed from the list
+    default void itemRemoved(InventoryItem item) {
+    }
+
+    // EFFECTS:     called after the quantity of item has changed from oldQuantity to item.getQuantity()
+    default void quantityChanged(InventoryItem item, int oldQuantity) {
+    }
+
+    // REQUIRES:    items and oldQuantities have the same length
+    // EFFECTS:     called after a batch has changed the quantity of each of items, from the old quantity at the same
+    //              position of oldQuantities to its current quantity.  by default each change is handled on its own
+    //              by quantityChanged; listeners that can handle the changes together override this
+    default void quantitiesChanged(List<InventoryItem> items, int[] oldQuantities) {
+        for (int i = 0; i < items.size(); i++) {
+            quantityChanged(items.get(i), oldQuantities[i]);
+        }
+    }
+
+    // EFFECTS:     called after the title or description of item has changed
+    default void itemEdited(InventoryItem item) {
+    }
+
+    // EFFECTS:     called after the reorder point or restock level of item has changed
+    default void reorderPointChanged(InventoryItem item) {
+    }
+}
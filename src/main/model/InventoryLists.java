@@ -0,0 +1,93 @@
+package model;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+import java.util.stream.IntStream;
+
+// Represents a collection of inventory lists, each known by the source it was loaded from, answering queries
+// across all of them.  The lists are kept in arrays, so each query splits them evenly across the common fork-join
+// pool and visits the lists in parallel, one list per task at a time.  Each list is only read by one thread during
+// a query, so the lists must not be changed while they are being queried.
+public class InventoryLists {
+    private final String[] sources;                 // source of each list, in the order the lists were given
+    private final InventoryManagement[] lists;      // lists, at the same positions as their sources
+
+    // EFFECTS:     constructs a collection of the given lists by source, in the iteration order of lists
+    public InventoryLists(Map<String, InventoryManagement> lists) {
+        this.sources = lists.keySet().toArray(new String[0]);
+        this.lists = lists.values().toArray(new InventoryManagement[0]);
+    }
+
+    // EFFECTS:     returns the number of lists
+    public int size() {
+        return lists.length;
+    }
+
+    // EFFECTS:     returns the sources of the lists, in order
+    public List<String> getSources() {
+        return Collections.unmodifiableList(Arrays.asList(sources));
+    }
+
+    // EFFECTS:     returns the list loaded from source, or null if there is none
+    public InventoryManagement getList(String source) {
+        int position = Arrays.asList(sources).indexOf(source);
+        return position < 0 ? null : lists[position];
+    }
+
+    // EFFECTS:     returns the number of items in all of the lists together
+    public long getItemCount() {
+        return sum(InventoryManagement::getListSize);
+    }
+
+    // EFFECTS:     returns the sum of the quantities of every item in every list
+    public long getTotalQuantity() {
+        return sum(InventoryManagement::getTotalQuantity);
+    }
+
+    // EFFECTS:     returns the sum of the quantities of the items, in every list, whose title contains text.
+    //              NOTE: case-insensitive.
+    public long getTotalQuantityMatching(String text) {
+        return sum(im -> quantityMatching(im, text));
+    }
+
+    // EFFECTS:     returns the total quantity of each list by its source, in order
+    public Map<String, Long> getTotalsByList() {
+        return byList(InventoryManagement::getTotalQuantity);
+    }
+
+    // EFFECTS:     returns the sum of the quantities of the items whose title contains text in each list, by its
+    //              source, in order.  lists with no such items are given 0
+    //              NOTE: case-insensitive.
+    public Map<String, Long> getTotalsMatching(String text) {
+        return byList(im -> quantityMatching(im, text));
+    }
+
+    // EFFECTS:     returns the sum of the quantities of the items in im whose title contains text
+    private static long quantityMatching(InventoryManagement im, String text) {
+        long total = 0;
+        for (InventoryItem item : im.getItemsFromTitle(text)) {
+            total += item.getQuantity();
+        }
+        return total;
+    }
+
+    // EFFECTS:     returns the sum of query over every list, visiting the lists in parallel
+    private long sum(ToLongFunction<InventoryManagement> query) {
+        return IntStream.range(0, lists.length).parallel().mapToLong(i -> query.applyAsLong(lists[i])).sum();
+    }
+
+    // EFFECTS:     returns query of each list by its source, in order, visiting the lists in parallel
+    private Map<String, Long> byList(ToLongFunction<InventoryManagement> query) {
+        long[] results = new long[lists.length];
+        IntStream.range(0, lists.length).parallel().forEach(i -> results[i] = query.applyAsLong(lists[i]));
+        Map<String, Long> byList = new LinkedHashMap<>();
+        for (int i = 0; i < lists.length; i++) {
+            byList.put(sources[i], results[i]);
+        }
+        return byList;
+    }
+}
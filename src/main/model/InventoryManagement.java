@@ -1,25 +1,71 @@
 package model;
 
 import exceptions.IllegalQuantityException;
+import exceptions.NegativeQuantityException;
+import metrics.InventoryMetrics;
 import org.json.JSONArray;
 import org.json.JSONObject;
 import persistence.Writable;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 // Represents a list (with a name) of unique inventory items, each having an id, title, quantity, and description
-public class InventoryManagement implements Writable {
+// The items are held by an ItemStore: on the heap by default, in primitive columns for compact lists, or in a
+// memory-mapped file for lists larger than the heap.  The last two hand out views that write changes back to the
+// store.
+// The list may be changed by several threads at once.  Every change to one item is made while holding that item's
+// lock, one of a fixed set of locks striped by item ID, so changes to different items rarely wait for each other.
+public class InventoryManagement implements Writable, Iterable<InventoryItem> {
+    private static final int LOCK_BITS = 6;
+    private static final int GOLDEN_RATIO = 0x9E3779B9;
+
     private String name;                                      // name of the inventory list
-    private final LinkedList<InventoryItem> inventoryList;    // list of inventory items
+    private final ItemStore store;                            // storage backend holding the inventory items
+    private final TrigramIndex titleIndex;                    // index of inventory items by their title, or null
+    private final QuantityIndex quantityIndex;                // index of inventory items by quantity, or null
+    private final AtomicInteger nextId;                       // next unique ID to assign, IDs are never reused
+    private final List<InventoryListener> listeners;          // observers notified of every change to the list
+    private final ReorderDispatcher reorderAlerts;            // delivers reorder alerts to their listeners
+    private final Object[] itemLocks;                         // locks guarding changes to items, striped by ID
 
     // EFFECTS:     Creates an inventory list with no InventoryItems added.
     //              logs the creation, or loading, of an inventory list
 
     public InventoryManagement(String name) {
-        this.name = name;
-        this.inventoryList = new LinkedList<>();
-        EventLog.getInstance().logEvent(new Event("Created a new list named " + name));
+        this(name, new HeapItemStore());
+    }
 
+    // EFFECTS:     Creates an inventory list holding the items already in store, in the store's order.
+    //              the title and quantity indexes are only kept for stores that hold their items on the heap,
+    //              since the title index holds every title; other stores are searched by scanning the store
+    //              logs the creation, or loading, of an inventory list
+    public InventoryManagement(String name, ItemStore store) {
+        this.name = name;
+        this.store = store;
+        this.titleIndex = store.keepsItemsOnHeap() ? new TrigramIndex() : null;
+        this.quantityIndex = store.keepsItemsOnHeap() ? new QuantityIndex() : null;
+        this.nextId = new AtomicInteger(Math.max(1, store.nextId()));
+        this.listeners = new CopyOnWriteArrayList<>();
+        this.reorderAlerts = new ReorderDispatcher();
+        this.itemLocks = new Object[1 << LOCK_BITS];
+        for (int i = 0; i < itemLocks.length; i++) {
+            itemLocks[i] = new Object();
+        }
+        for (InventoryItem item : store) {
+            if (titleIndex != null) {
+                titleIndex.add(item.getId(), item.getTitle());
+                quantityIndex.add(item.getId(), item.getQuantity());
+            }
+            item.setOwner(this);
+            setNextId(item.getId() + 1);
+        }
+        EventLog.getInstance().logEvent(new Event(EventType.LIST_CREATED, 0, name));
     }
 
     // MODIFIES:    this
@@ -27,21 +73,28 @@ public class InventoryManagement implements Writable {
     //              assigning a unique ID
     //              If provided quantity < 0, throw IllegalQuantityException()
     //              logs the addition of an item
-    public void addItem(String title, int quantity, String description) {
+    //              returns the ID assigned to the item, which is safe to use while other threads add items
+    public int addItem(String title, int quantity, String description) {
         if (quantity < 0) {
             throw new IllegalQuantityException();
         }
-        InventoryItem inventoryItem = new InventoryItem(assignId(), title, quantity, description);
-        this.inventoryList.add(inventoryItem);
-        String event = String.format("Added item with ID: %d, Title: %s, Quantity: %d, and Description: %s",
-                inventoryItem.getId(), title, quantity, description);
-        EventLog.getInstance().logEvent(new Event(event));
+        long start = InventoryMetrics.ADD_ITEM.start();
+        InventoryItem inventoryItem = new InventoryItem(this.nextId.getAndIncrement(), StringPool.intern(title),
+                quantity, StringPool.intern(description));
+        index(inventoryItem);
+        EventLog.getInstance().logEvent(new Event(EventType.ITEM_ADDED, inventoryItem.getId(), quantity, title,
+                description));
+        InventoryMetrics.ADD_ITEM.finish(start);
+        return inventoryItem.getId();
     }
 
     // MODIFIES:    this
     // EFFECTS:     adds the provided inventory item from the saved JSON file to the end of the list
+    //              moves the next ID past the item's ID, so files without a saved next ID fall back to the max ID
+    //              an item whose ID is already in the list is not added
     public void addItemJson(InventoryItem inventoryItem) {
-        this.inventoryList.add(inventoryItem);
+        index(inventoryItem);
+        setNextId(inventoryItem.getId() + 1);
     }
 
     // REQUIRES:    hasItem(id) = true
@@ -49,40 +102,354 @@ public class InventoryManagement implements Writable {
     // EFFECTS:     removes e inventory item corresponding to the provided ID.
     //              logs removal of an item, or no removal of item if item does not exist.
     public void removeItem(int id) {
-        int itemPosition = getPositionOfItem(id);
-        String event = "Did not remove item, no such item exists with ID: " + id;
-        if (itemPosition >= 0) {
-            event = String.format("Removed item with ID: %d, Title: %s, Quantity: %d, and Description: %s",
-                    inventoryList.get(itemPosition).getId(), inventoryList.get(itemPosition).getTitle(),
-                    inventoryList.get(itemPosition).getQuantity(), inventoryList.get(itemPosition).getDescription());
-            this.inventoryList.remove(itemPosition);
+        long start = InventoryMetrics.REMOVE_ITEM.start();
+        InventoryItem item = unindex(id);
+        Event event = new Event(EventType.ITEM_NOT_REMOVED, id, 0, null, null);
+        if (item != null) {
+            event = new Event(EventType.ITEM_REMOVED, id, item.getQuantity(), item.getTitle(), item.getDescription());
         }
-        EventLog.getInstance().logEvent(new Event(event));
+        EventLog.getInstance().logEvent(event);
+        InventoryMetrics.REMOVE_ITEM.finish(start);
+    }
 
+    // MODIFIES:    this
+    // EFFECTS:     applies every change in batch, in order, or none of them.  every change is checked before any is
+    //              made, while holding the locks of every item the batch touches.  every quantity change to an item
+    //              in the list, including those made through the item itself, takes the same lock, so no other
+    //              change to those items can come between them.  IDs are reserved for the added items even if the
+    //              batch is refused.  each changed item has its quantity written once, to its final quantity, and
+    //              items whose quantity ends where it started are left alone.  listeners are notified of each
+    //              addition and removal, and of all the quantity changes together, and one summary event is logged
+    //              throws IllegalQuantityException if an added item has a negative quantity,
+    //              throws NegativeQuantityException if the quantity of an item would fall below zero at any point, and
+    //              throws IllegalArgumentException if an item to remove or change is not in the list,
+    //              or has already been removed by the batch
+    public void applyBatch(InventoryBatch batch) {
+        for (InventoryBatch.Operation operation : batch.operations()) {
+            if (operation.kind == InventoryBatch.Kind.ADD && operation.quantity < 0) {
+                throw new IllegalQuantityException();
+            }
+        }
+        long start = InventoryMetrics.APPLY_BATCH.start();
+        int firstId = this.nextId.getAndAdd(batch.addCount());
+        this.store.reserveIds(firstId + batch.addCount());
+        boolean[] needed = new boolean[this.itemLocks.length];
+        for (InventoryBatch.Operation operation : batch.operations()) {
+            if (operation.kind != InventoryBatch.Kind.ADD) {
+                needed[lockIndex(operation.id)] = true;
+            }
+        }
+        for (int i = 0; i < batch.addCount(); i++) {
+            needed[lockIndex(firstId + i)] = true;
+        }
+        holdingLocks(needed, 0, () -> apply(batch, firstId, plan(batch)));
+        EventLog.getInstance().logEvent(new Event(EventType.BATCH_APPLIED, batch.size(), this.name));
+        InventoryMetrics.APPLY_BATCH.finish(start);
+    }
+
+    // REQUIRES:    the locks of every item changed or removed by batch are held
+    // EFFECTS:     checks every change in batch against the items in the list, returning the planned change to
+    //              each item the batch changes or removes, indexed by ID
+    //              throws NegativeQuantityException or IllegalArgumentException as described by applyBatch
+    private IntObjectMap<PlannedChange> plan(InventoryBatch batch) {
+        IntObjectMap<PlannedChange> changes = new IntObjectMap<>();
+        for (InventoryBatch.Operation operation : batch.operations()) {
+            if (operation.kind == InventoryBatch.Kind.ADD) {
+                continue;
+            }
+            PlannedChange change = changes.get(operation.id);
+            if (change == null) {
+                InventoryItem item = this.store.getById(operation.id);
+                if (item == null) {
+                    throw new IllegalArgumentException("No item with ID: " + operation.id);
+                }
+                change = new PlannedChange(attach(item));
+                changes.put(operation.id, change);
+            }
+            change.plan(operation);
+        }
+        return changes;
     }
 
+    // REQUIRES:    the locks of every item touched by batch are held, and plan(batch) returned changes
     // MODIFIES:    this
-    // EFFECTS:     checks through the entire list of unique IDs, and provides the next unique sequential value.
-    //              returns 1 if no items exist in the list.
-    protected int assignId() {
-        int id = 1;
-        for (int i = 0; i < getListSize(); i++) {
-            InventoryItem item = this.inventoryList.get(i);
-            id = item.getId() + 1;
+    // EFFECTS:     makes the changes in batch, setting the quantity of each changed item once, to its final quantity,
+    //              and giving the added items consecutive IDs starting at firstId
+    private void apply(InventoryBatch batch, int firstId, IntObjectMap<PlannedChange> changes) {
+        List<InventoryItem> changed = new ArrayList<>(changes.size());
+        int[] oldQuantities = new int[changes.size()];
+        ReorderAlert[] alerts = new ReorderAlert[changes.size()];
+        int nextAdded = firstId;
+        for (InventoryBatch.Operation operation : batch.operations()) {
+            if (operation.kind == InventoryBatch.Kind.ADD) {
+                index(new InventoryItem(nextAdded++, StringPool.intern(operation.title), operation.quantity,
+                        StringPool.intern(operation.description)));
+            } else if (operation.kind == InventoryBatch.Kind.REMOVE) {
+                unindex(operation.id);
+            } else {
+                PlannedChange change = changes.remove(operation.id);
+                if (change != null && !change.removed && change.quantity != change.item.getQuantity()) {
+                    oldQuantities[changed.size()] = change.item.replaceQuantity(change.quantity);
+                    alerts[changed.size()] = change.item.crossReorderPoint(change.quantity);
+                    changed.add(change.item);
+                    this.store.updateQuantity(change.item);
+                }
+            }
+        }
+        quantitiesChanged(changed, oldQuantities, alerts);
+    }
+
+    // REQUIRES:    the locks of every item in items are held
+    // MODIFIES:    this
+    // EFFECTS:     moves each of items in the quantity index from the old quantity at the same position of
+    //              oldQuantities to its current quantity, then notifies listeners of all the changes together and
+    //              queues the reorder alerts raised by them
+    private void quantitiesChanged(List<InventoryItem> items, int[] oldQuantities, ReorderAlert[] alerts) {
+        if (items.isEmpty()) {
+            return;
+        }
+        if (this.quantityIndex != null) {
+            int[] ids = new int[items.size()];
+            int[] newQuantities = new int[items.size()];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = items.get(i).getId();
+                newQuantities[i] = items.get(i).getQuantity();
+            }
+            this.quantityIndex.moveAll(ids, oldQuantities, newQuantities);
+        }
+        for (InventoryListener listener : listeners) {
+            listener.quantitiesChanged(items, oldQuantities);
+        }
+        for (int i = 0; i < items.size(); i++) {
+            this.reorderAlerts.dispatch(alerts[i]);
+        }
+    }
+
+    // Represents the change a batch will make to one item, as its changes are checked
+    private static class PlannedChange {
+        private final InventoryItem item;
+        private int quantity;           // quantity the item will have after the changes checked so far
+        private boolean removed;        // true if the changes checked so far remove the item
+
+        PlannedChange(InventoryItem item) {
+            this.item = item;
+            this.quantity = item.getQuantity();
+        }
+
+        // MODIFIES:    this
+        // EFFECTS:     checks one more change to the item, and plans for it
+        //              throws NegativeQuantityException or IllegalArgumentException as described by applyBatch
+        void plan(InventoryBatch.Operation operation) {
+            if (removed) {
+                throw new IllegalArgumentException("No item with ID: " + operation.id);
+            } else if (operation.kind == InventoryBatch.Kind.REMOVE) {
+                removed = true;
+            } else if ((long) quantity + operation.quantity < 0) {
+                throw new NegativeQuantityException();
+            } else {
+                quantity += operation.quantity;
+            }
+        }
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     runs action while holding the lock of every stripe from the given one onwards that is needed,
+    //              always taking the locks in the same order so that batches cannot deadlock
+    private void holdingLocks(boolean[] needed, int from, Runnable action) {
+        for (int i = from; i < needed.length; i++) {
+            if (needed[i]) {
+                synchronized (this.itemLocks[i]) {
+                    holdingLocks(needed, i + 1, action);
+                }
+                return;
+            }
+        }
+        action.run();
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     removes the inventory item with the given ID from the store and indexes, returning it,
+    //              or null if there is no such item
+    private InventoryItem unindex(int id) {
+        synchronized (lockFor(id)) {
+            InventoryItem item = this.store.remove(id);
+            if (item != null) {
+                if (this.titleIndex != null) {
+                    this.titleIndex.remove(id);
+                    this.quantityIndex.remove(id, item.getQuantity());
+                }
+                item.setOwner(null);
+                for (InventoryListener listener : listeners) {
+                    listener.itemRemoved(item);
+                }
+            }
+            return item;
+        }
+    }
+
+    // MODIFIES:    this, inventoryItem
+    // EFFECTS:     adds the inventory item to the end of the store and to the indexes,
+    //              unless an item with the same ID is already in the list
+    private void index(InventoryItem inventoryItem) {
+        synchronized (lockFor(inventoryItem.getId())) {
+            if (this.store.contains(inventoryItem.getId())) {
+                return;
+            }
+            this.store.add(inventoryItem);
+            if (this.titleIndex != null) {
+                this.titleIndex.add(inventoryItem.getId(), inventoryItem.getTitle());
+                this.quantityIndex.add(inventoryItem.getId(), inventoryItem.getQuantity());
+            }
+            inventoryItem.setOwner(this);
+            for (InventoryListener listener : listeners) {
+                listener.itemAdded(inventoryItem);
+            }
+        }
+    }
+
+    // REQUIRES:    change != 0
+    // MODIFIES:    this
+    // EFFECTS:     atomically changes the quantity of the item with the given ID by change, returning the new
+    //              quantity.  unlike updating the quantity of an item that was looked up earlier, this is safe
+    //              for every store, including stores that hand out a new view of the item on each lookup
+    //              throws NegativeQuantityException if the quantity would fall below zero, and
+    //              throws IllegalArgumentException if there is no item with the given ID
+    public int updateQuantity(int id, int change) {
+        long start = InventoryMetrics.UPDATE_QUANTITY.start();
+        synchronized (lockFor(id)) {
+            InventoryItem item = attach(this.store.getById(id));
+            if (item == null) {
+                throw new IllegalArgumentException("No item with ID: " + id);
+            }
+            item.updateQuantity(change);
+            InventoryMetrics.UPDATE_QUANTITY.finish(start);
+            return item.getQuantity();
+        }
+    }
+
+    // EFFECTS:     returns the lock guarding changes to the item with the given ID
+    Object lockFor(int id) {
+        return this.itemLocks[lockIndex(id)];
+    }
+
+    // EFFECTS:     returns the stripe of the lock guarding changes to the item with the given ID
+    private static int lockIndex(int id) {
+        return (id * GOLDEN_RATIO) >>> (Integer.SIZE - LOCK_BITS);
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     writes the new title back to the store and re-indexes the item under it, called when the title
+    //              of an item is changed.  notifies listeners of the edit
+    //              does nothing if item is a view of an item that has since been removed
+    void titleChanged(InventoryItem item, String oldTitle) {
+        synchronized (lockFor(item.getId())) {
+            if (!this.store.contains(item.getId())) {
+                return;
+            }
+            this.store.update(item);
+            if (this.titleIndex != null) {
+                this.titleIndex.retitle(item.getId(), item.getTitle());
+            }
+            for (InventoryListener listener : listeners) {
+                listener.itemEdited(item);
+            }
+        }
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     writes the new description back to the store and notifies listeners of the edit
+    //              does nothing if item is a view of an item that has since been removed
+    void descriptionChanged(InventoryItem item) {
+        synchronized (lockFor(item.getId())) {
+            if (!this.store.contains(item.getId())) {
+                return;
+            }
+            this.store.update(item);
+            for (InventoryListener listener : listeners) {
+                listener.itemEdited(item);
+            }
+        }
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     writes the new quantity back to the store and quantity index, notifies listeners that the
+    //              quantity of item has changed from oldQuantity, and queues the reorder alert raised by the change
+    //              if there was one
+    //              does nothing if item is a view of an item that has since been removed
+    void quantityChanged(InventoryItem item, int oldQuantity, ReorderAlert alert) {
+        synchronized (lockFor(item.getId())) {
+            if (!this.store.contains(item.getId())) {
+                return;
+            }
+            this.store.updateQuantity(item);
+            reindexQuantity(item, oldQuantity);
+            for (InventoryListener listener : listeners) {
+                listener.quantityChanged(item, oldQuantity);
+            }
+            this.reorderAlerts.dispatch(alert);
+        }
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     writes the new reorder point and restock level back to the store, notifies listeners of the
+    //              change, and queues the reorder alert raised by it if there was one
+    //              does nothing if item is a view of an item that has since been removed
+    void reorderPointChanged(InventoryItem item, ReorderAlert alert) {
+        synchronized (lockFor(item.getId())) {
+            if (!this.store.contains(item.getId())) {
+                return;
+            }
+            this.store.update(item);
+            for (InventoryListener listener : listeners) {
+                listener.reorderPointChanged(item);
+            }
+            this.reorderAlerts.dispatch(alert);
         }
-        return id;
+    }
+
+    // REQUIRES:    the lock of item is held
+    // MODIFIES:    this
+    // EFFECTS:     moves item in the quantity index from oldQuantity to its current quantity, if the list keeps one
+    private void reindexQuantity(InventoryItem item, int oldQuantity) {
+        if (this.quantityIndex != null) {
+            this.quantityIndex.move(item.getId(), oldQuantity, item.getQuantity());
+        }
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     registers listener to be notified of every change made to this list and its items
+    public void addListener(InventoryListener listener) {
+        this.listeners.add(listener);
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     stops notifying listener of changes made to this list
+    public void removeListener(InventoryListener listener) {
+        this.listeners.remove(listener);
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     registers listener to be sent every reorder alert raised by the items of this list from now on
+    public void addReorderListener(ReorderListener listener) {
+        this.reorderAlerts.addListener(listener);
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     stops sending reorder alerts to listener
+    public void removeReorderListener(ReorderListener listener) {
+        this.reorderAlerts.removeListener(listener);
+    }
+
+    // EFFECTS:     provides the next unique sequential value, without scanning the list.
+    //              returns 1 if no items have ever been added to the list.
+    protected int assignId() {
+        return this.nextId.get();
     }
 
     // EFFECTS:     return true if the item id can be found in the list
     //              else, return false
     public boolean hasItem(int id) {
-        for (int i = 0; i < getListSize(); i++) {
-            InventoryItem item = this.inventoryList.get(i);
-            if (item.getId() == id) {
-                return true;
-            }
-        }
-        return false;
+        return this.store.contains(id);
     }
 
     // getters
@@ -94,24 +461,54 @@ public class InventoryManagement implements Writable {
 
 
     // REQUIRES:    hasItem(id) = true
-    // EFFECTS:     check the IDs in the list against the provided ID.
+    // EFFECTS:     look up the provided ID in the ID index.
     //              provide corresponding item if the ID can be found in the list
     //              logs parameters of the item found, or logs being unable to find an item with the associated ID
     public InventoryItem getItemFromId(int id) {
-        InventoryItem ret = null;
-        String event = "Did not find any item with ID: " + id;
+        long start = InventoryMetrics.GET_ITEM.start();
+        InventoryItem ret = attach(this.store.getById(id));
+        EventLog log = EventLog.getInstance();
+        if (ret == null) {
+            log.logEvent(new Event(EventType.ITEM_NOT_FOUND, id, 0, null, null));
+        } else if (log.isEnabled(EventType.ITEM_FOUND)) {
+            log.logEvent(new Event(EventType.ITEM_FOUND, id, ret.getQuantity(), ret.getTitle(), ret.getDescription()));
+        }
+        InventoryMetrics.GET_ITEM.finish(start);
+        return ret;
+    }
 
-        for (int i = 0; i < getListSize(); i++) {
-            InventoryItem item = this.inventoryList.get(i);
-            if (item.getId() == id) {
-                ret = this.inventoryList.get(i);
-                event = String.format("Found Item with ID: %d, with Title: %s, Quantity: %d, and Description: %s",
-                        inventoryList.get(i).getId(), inventoryList.get(i).getTitle(),
-                        inventoryList.get(i).getQuantity(), inventoryList.get(i).getDescription());
-            }
+    // REQUIRES:    inventoryList.size > 0
+    // EFFECTS:     look up the provided title in the title index, and verify only the items sharing its rarest
+    //              trigram.  titles shorter than a trigram, and lists without a title index, are checked
+    //              against every item in the list
+    //              returns the same items, in the same order, as scanItemsFromTitle
+    //              if no criteria is matched, return an empty list
+    //              NOTE: case-insensitive.
+    //              logs parameters of the item(s) found, or logs being unable to find an item(s) containing the string
+    public LinkedList<InventoryItem> getItemsFromTitle(String text) {
+        long start = InventoryMetrics.SEARCH_TITLE.start();
+        LinkedList<InventoryItem> ret;
+        if (this.titleIndex == null || TrigramIndex.normalize(text).length() < TrigramIndex.GRAM_LENGTH) {
+            ret = scanItemsFromTitle(text);
+        } else {
+            ret = searchTitleIndex(text);
         }
-        EventLog.getInstance().logEvent(new Event(event));
+        InventoryMetrics.SEARCH_TITLE.finish(start);
+        return ret;
+    }
 
+    // REQUIRES:    the list has a title index, and text is at least a trigram long
+    // EFFECTS:     returns the items whose title contains text, found through the title index, in list order
+    //              logs the number of items found
+    private LinkedList<InventoryItem> searchTitleIndex(String text) {
+        LinkedList<InventoryItem> ret = new LinkedList<>();
+        for (int id : this.titleIndex.search(text)) {
+            InventoryItem item = attach(this.store.getById(id));
+            if (item != null) {
+                ret.add(item);
+            }
+        }
+        EventLog.getInstance().logEvent(new Event(EventType.ITEMS_FOUND, ret.size(), text));
         return ret;
     }
 
@@ -121,17 +518,16 @@ public class InventoryManagement implements Writable {
     //              if no criteria is matched, return an empty list
     //              NOTE: case-insensitive.
     //              logs parameters of the item(s) found, or logs being unable to find an item(s) containing the string
-    public LinkedList<InventoryItem> getItemsFromTitle(String text) {
+    public LinkedList<InventoryItem> scanItemsFromTitle(String text) {
         LinkedList<InventoryItem> ret = new LinkedList<>();
         int itemCount = 0;
-        for (int i = 0; i < getListSize(); i++) {
-            InventoryItem item = this.inventoryList.get(i);
+        for (InventoryItem item : this) {
             if (item.getTitle().toLowerCase().contains(text.toLowerCase())) {
                 ret.add(item);
                 itemCount++;
             }
         }
-        EventLog.getInstance().logEvent(new Event("Found " + itemCount + " item(s) containing \"" + text + "\"."));
+        EventLog.getInstance().logEvent(new Event(EventType.ITEMS_FOUND, itemCount, text));
         return ret;
     }
 
@@ -139,38 +535,162 @@ public class InventoryManagement implements Writable {
     // EFFECTS:     return the position of the item corresponding to the provided ID
     //              return -1 if unable to find item
     public int getPositionOfItem(int id) {
-        int position = -1;
-        for (int i = 0; i < getListSize(); i++) {
-            InventoryItem item = this.inventoryList.get(i);
-            if (item.getId() == id) {
-                position = i;
-            }
-        }
-        return position;
+        return this.store.positionOf(id);
     }
 
-    // EFFECTS:     get the entire list of inventory items
+    // EFFECTS:     get the entire list of inventory items.  lists whose store does not keep its items on the
+    //              heap return a new list of views, so prefer iterating the list itself for large lists
     //              logs each time the list is viewed
     public LinkedList<InventoryItem> getList() {
-        EventLog.getInstance().logEvent(new Event("Viewing list " + this.getName() + "."));
-        return this.inventoryList;
+        EventLog.getInstance().logEvent(new Event(EventType.LIST_VIEWED, 0, this.getName()));
+        LinkedList<InventoryItem> list = this.store.toLinkedList();
+        if (!this.store.keepsItemsOnHeap()) {
+            list.forEach(this::attach);
+        }
+        return list;
+    }
+
+    // EFFECTS:     returns the sum of the quantities of every item in the list
+    public long getTotalQuantity() {
+        return this.store.totalQuantity();
+    }
+
+    // REQUIRES:    min <= max
+    // EFFECTS:     returns the items whose quantity is at least min and at most max, in list order
+    public LinkedList<InventoryItem> getItemsWithQuantityBetween(int min, int max) {
+        LinkedList<InventoryItem> items = this.store.itemsWithQuantityBetween(min, max);
+        if (!this.store.keepsItemsOnHeap()) {
+            items.forEach(this::attach);
+        }
+        return items;
+    }
+
+    // EFFECTS:     returns the items whose quantity is below threshold, lowest quantity first, and by ID among
+    //              items of the same quantity
+    public LinkedList<InventoryItem> getItemsBelowQuantity(int threshold) {
+        if (threshold == Integer.MIN_VALUE) {
+            return new LinkedList<>();
+        }
+        return getItemsByQuantity(Integer.MIN_VALUE, threshold - 1);
+    }
+
+    // EFFECTS:     returns the items whose quantity is at least min and at most max, lowest quantity first, and
+    //              by ID among items of the same quantity.  takes O(log n + k) time for the k items found in a list
+    //              that keeps a quantity index, and otherwise scans the list
+    public LinkedList<InventoryItem> getItemsByQuantity(int min, int max) {
+        if (this.quantityIndex == null) {
+            return byQuantity(getItemsWithQuantityBetween(min, max), false, Integer.MAX_VALUE);
+        }
+        return itemsWithIds(this.quantityIndex.between(min, max));
+    }
+
+    // EFFECTS:     returns at most n items with the lowest quantities, lowest first, and by ID among items of the
+    //              same quantity
+    public LinkedList<InventoryItem> getLowestQuantityItems(int n) {
+        if (this.quantityIndex == null) {
+            return byQuantity(this.store.toLinkedList(), false, n);
+        }
+        return itemsWithIds(this.quantityIndex.lowest(n));
+    }
+
+    // EFFECTS:     returns at most n items with the highest quantities, highest first, and by ID from highest
+    //              among items of the same quantity
+    public LinkedList<InventoryItem> getHighestQuantityItems(int n) {
+        if (this.quantityIndex == null) {
+            return byQuantity(this.store.toLinkedList(), true, n);
+        }
+        return itemsWithIds(this.quantityIndex.highest(n));
+    }
+
+    // EFFECTS:     returns the items with the given IDs, in the same order, leaving out any removed since
+    private LinkedList<InventoryItem> itemsWithIds(int[] ids) {
+        LinkedList<InventoryItem> items = new LinkedList<>();
+        for (int id : ids) {
+            InventoryItem item = this.store.getById(id);
+            if (item != null) {
+                items.add(item);
+            }
+        }
+        return items;
+    }
+
+    // EFFECTS:     returns at most n of items, attached to this list and sorted by quantity and then by ID,
+    //              highest first if descending and lowest first otherwise
+    private LinkedList<InventoryItem> byQuantity(LinkedList<InventoryItem> items, boolean descending, int n) {
+        Comparator<InventoryItem> order = Comparator.comparingLong(item -> QuantityIndex.key(item.getQuantity(),
+                item.getId()));
+        items.sort(descending ? order.reversed() : order);
+        LinkedList<InventoryItem> sorted = new LinkedList<>();
+        for (InventoryItem item : items) {
+            if (sorted.size() == n) {
+                break;
+            }
+            sorted.add(attach(item));
+        }
+        return sorted;
+    }
+
+    // EFFECTS:     returns the item with the provided ID, or null if there is no such item
+    //              unlike getItemFromId, the lookup is not logged
+    public InventoryItem lookupItem(int id) {
+        return attach(this.store.getById(id));
+    }
+
+    // EFFECTS:     get the next unique ID that will be assigned to an added item
+    public int getNextId() {
+        return this.nextId.get();
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     sets the next unique ID to assign, as restored from a saved file.
+    //              the next ID is never moved back, so IDs already assigned will not be reused
+    public void setNextId(int nextId) {
+        this.store.reserveIds(this.nextId.accumulateAndGet(nextId, Math::max));
     }
 
     // EFFECTS:     get the size of the inventory list
     public int getListSize() {
-        return this.inventoryList.size();
+        return this.store.size();
     }
 
     // EFFECTS:     get the individual item at the specified position
     public InventoryItem getItem(int position) {
-        return this.inventoryList.get(position);
+        return attach(this.store.get(position));
+    }
+
+    // EFFECTS:     returns an iterator over the items in the list, in the order they were added,
+    //              without logging that the list was viewed.  the iterator does not support removal
+    @Override
+    public Iterator<InventoryItem> iterator() {
+        Iterator<InventoryItem> items = this.store.iterator();
+        return new Iterator<InventoryItem>() {
+            @Override
+            public boolean hasNext() {
+                return items.hasNext();
+            }
+
+            @Override
+            public InventoryItem next() {
+                return attach(items.next());
+            }
+        };
+    }
+
+    // MODIFIES:    item
+    // EFFECTS:     makes this list the owner of an item handed out by the store, so changes made to a view of a
+    //              stored item are written back.  returns item, which may be null
+    private InventoryItem attach(InventoryItem item) {
+        if (item != null) {
+            item.setOwner(this);
+        }
+        return item;
     }
 
     // REQUIRES:    this.inventoryList.getListSize() > 0
     // EFFECTS:     returns the last ID in the list, the last ID will be found in the last entry of the list
     //              useful for outputting the ID of the most recently added item
     public int getLastIdInList() {
-        return this.inventoryList.get(getListSize() - 1).getId();
+        return this.store.get(getListSize() - 1).getId();
     }
 
     // jsons
@@ -184,10 +704,10 @@ public class InventoryManagement implements Writable {
     public JSONObject toJson() {
         JSONObject json = new JSONObject();
         json.put("name", name);
-        // TODO
+        json.put("nextId", nextId.get());
         json.put("items", itemsToJson());
 
-        EventLog.getInstance().logEvent(new Event("Successfully saved " + this.name + "."));
+        EventLog.getInstance().logEvent(new Event(EventType.LIST_SAVED, 0, this.name));
 
         return json;
     }
@@ -196,7 +716,7 @@ public class InventoryManagement implements Writable {
     private JSONArray itemsToJson() {
         JSONArray jsonArray = new JSONArray();
 
-        for (InventoryItem item : inventoryList) {
+        for (InventoryItem item : this) {
             jsonArray.put(item.toJson());
         }
         return jsonArray;
@@ -0,0 +1,96 @@
+package model;
+
+import java.util.LinkedList;
+
+// Represents the storage backend holding the items of an inventory list, in the order they were added.
+// Stores that do not keep InventoryItem objects on the heap return a new flyweight view of a stored item each time
+// one is asked for; changes made through a view are written back by the owning list with update.
+public interface ItemStore extends Iterable<InventoryItem> {
+
+    // EFFECTS:     returns the number of stored items
+    int size();
+
+    // REQUIRES:    0 <= position < size()
+    // EFFECTS:     returns the item at the given position
+    InventoryItem get(int position);
+
+    // EFFECTS:     returns the item with the given id, or null if there is no such item
+    InventoryItem getById(int id);
+
+    // EFFECTS:     returns true if an item with the given id is stored
+    boolean contains(int id);
+
+    // EFFECTS:     returns the position of the item with the given id, or -1 if there is no such item
+    int positionOf(int id);
+
+    // REQUIRES:    !contains(item.getId())
+    // MODIFIES:    this
+    // EFFECTS:     stores item after every item already stored
+    void add(InventoryItem item);
+
+    // MODIFIES:    this
+    // EFFECTS:     removes the item with the given id, returning it (or null if there was no such item)
+    InventoryItem remove(int id);
+
+    // MODIFIES:    this
+    // EFFECTS:     writes the current title, quantity and description of item back to the stored item with
+    //              the same id, if there is one.  stores holding the item object itself have nothing to do
+    void update(InventoryItem item);
+
+    // MODIFIES:    this
+    // EFFECTS:     writes the current quantity of item back to the stored item with the same id, if there is one.
+    //              stores that can rewrite a quantity without re-encoding the rest of the item override this
+    default void updateQuantity(InventoryItem item) {
+        update(item);
+    }
+
+    // EFFECTS:     returns the next ID recorded by the store as not yet handed out, or 1 if the store does not
+    //              record one.  stores that outlive the list record every ID handed out, so a reopened list does
+    //              not reuse the ID of an item that has since been removed
+    default int nextId() {
+        return 1;
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     records that every ID below nextId has been handed out, if the store records the next ID.
+    //              the recorded next ID is never moved back
+    default void reserveIds(int nextId) {
+    }
+
+    // EFFECTS:     returns true if the store holds its items as objects on the heap, so keeping a heap index of
+    //              every item does not defeat the purpose of the store
+    default boolean keepsItemsOnHeap() {
+        return true;
+    }
+
+    // EFFECTS:     returns the sum of the quantities of every stored item
+    default long totalQuantity() {
+        long total = 0;
+        for (InventoryItem item : this) {
+            total += item.getQuantity();
+        }
+        return total;
+    }
+
+    // EFFECTS:     returns the stored items whose quantity is at least min and at most max, in list order.
+    //              stores that can check quantities without making a view of every item override this
+    default LinkedList<InventoryItem> itemsWithQuantityBetween(int min, int max) {
+        LinkedList<InventoryItem> items = new LinkedList<>();
+        for (InventoryItem item : this) {
+            if (item.getQuantity() >= min && item.getQuantity() <= max) {
+                items.add(item);
+            }
+        }
+        return items;
+    }
+
+    // EFFECTS:     returns the stored items as a linked list.  stores that do not keep their items on the heap
+    //              return a new list of views
+    default LinkedList<InventoryItem> toLinkedList() {
+        LinkedList<InventoryItem> list = new LinkedList<>();
+        for (InventoryItem item : this) {
+            list.add(item);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,412 @@
+package model;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+// Represents a storage backend holding inventory items as records in a memory-mapped file, so only a small index
+// of each item is kept on the heap and a list can hold more items than the heap could.  The file is mapped in
+// fixed-size segments, and records never span two segments.  Each record holds the item's sequence number (its
+// place in the order items were added), id, quantity, reorder point, restock level and reorder alert state, and
+// UTF-8 title and description, followed by spare room.
+// Quantities and strings that fit the spare room are rewritten in place; a record that outgrows its room is
+// appended again at the end of the file and the old copy is marked dead.  Dead records are not reclaimed.
+// The file header records the next ID not yet handed out, so a reopened list does not reuse the ID of an item
+// removed before it was closed.  Files of version 1, whose records have no room for the reorder fields, are refused.
+// Every item handed out is a new view of its record; views do not see changes made through other views.
+// Access to the file and index is serialized on the store itself.
+public class MappedItemStore implements ItemStore, Closeable {
+    public static final int DEFAULT_SEGMENT_SIZE = 16 << 20;   // bytes mapped at a time
+    private static final int MAGIC = 0x494E5653;                // "INVS"
+    private static final int VERSION = 2;
+    private static final int FILE_HEADER = 16;                  // magic, version, segment size and next ID
+    private static final int NEXT_ID = 12;                      // offset of the next ID within the file header
+    private static final int RECORD_HEADER = 44;                // status, seq, id, quantity, capacity, lengths,
+                                                                // then reorder point, restock level, alert state
+    private static final int END = 0;                           // status where no more records follow in a segment
+    private static final int LIVE = 1;
+    private static final int DEAD = 2;
+    private static final int SEQ = 4;                           // offsets of each field within a record
+    private static final int ID = 12;
+    private static final int QUANTITY = 16;
+    private static final int CAPACITY = 20;
+    private static final int TITLE_LENGTH = 24;
+    private static final int DESCRIPTION_LENGTH = 28;
+    private static final int REORDER_POINT = 32;
+    private static final int RESTOCK_LEVEL = 36;
+    private static final int BELOW_REORDER_POINT = 40;
+
+    private final FileChannel channel;                  // record file, open for reading and writing
+    private final int segmentSize;                      // size in bytes of each mapped segment
+    private final List<MappedByteBuffer> segments;      // mapped segments of the record file, in file order
+    private final IntLongMap offsets;                   // file offset of each item's record, by item id
+    private long[] seqs;                                // sequence number of each item, in list order
+    private long[] order;                               // file offset of each item's record, in list order
+    private int size;                                   // number of items stored
+    private long nextSeq;                               // sequence number of the next item added
+    private long tail;                                  // file offset at which the next record is written
+
+    // EFFECTS:     opens the record file at path with the default segment size, creating it if it does not exist
+    //              throws IOException if the file cannot be opened or is not a record file
+    public MappedItemStore(Path path) throws IOException {
+        this(path, DEFAULT_SEGMENT_SIZE);
+    }
+
+    // REQUIRES:    segmentSize > FILE_HEADER + RECORD_HEADER
+    // EFFECTS:     opens the record file at path, creating it with the given segment size if it does not exist.
+    //              an existing file keeps the segment size it was created with, and its items are indexed in
+    //              the order they were added
+    //              throws IOException if the file cannot be opened or is not a record file
+    public MappedItemStore(Path path, int segmentSize) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        this.segments = new ArrayList<>();
+        this.offsets = new IntLongMap();
+        this.seqs = new long[16];
+        this.order = new long[16];
+        try {
+            this.segmentSize = channel.size() == 0 ? create(segmentSize) : readHeader();
+            scan();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public synchronized int size() {
+        return size;
+    }
+
+    @Override
+    public synchronized InventoryItem get(int position) {
+        if (position < 0 || position >= size) {
+            throw new IndexOutOfBoundsException("Position: " + position + ", Size: " + size);
+        }
+        return view(order[position]);
+    }
+
+    @Override
+    public synchronized InventoryItem getById(int id) {
+        long offset = offsets.get(id);
+        return offset == IntLongMap.MISSING ? null : view(offset);
+    }
+
+    @Override
+    public synchronized boolean contains(int id) {
+        return offsets.containsKey(id);
+    }
+
+    // EFFECTS:     finds the position of the item by binary search on its sequence number
+    @Override
+    public synchronized int positionOf(int id) {
+        long offset = offsets.get(id);
+        if (offset == IntLongMap.MISSING) {
+            return -1;
+        }
+        return Arrays.binarySearch(seqs, 0, size, segment(offset).getLong(position(offset) + SEQ));
+    }
+
+    @Override
+    public synchronized void add(InventoryItem item) {
+        long offset = append(nextSeq, item);
+        ensureIndexCapacity(size + 1);
+        seqs[size] = nextSeq;
+        order[size] = offset;
+        size++;
+        nextSeq++;
+        offsets.put(item.getId(), offset);
+        reserveIds(item.getId() + 1);
+    }
+
+    @Override
+    public synchronized InventoryItem remove(int id) {
+        int index = positionOf(id);
+        if (index < 0) {
+            return null;
+        }
+        long offset = offsets.remove(id);
+        InventoryItem item = view(offset);
+        segment(offset).putInt(position(offset), DEAD);
+        System.arraycopy(seqs, index + 1, seqs, index, size - index - 1);
+        System.arraycopy(order, index + 1, order, index, size - index - 1);
+        size--;
+        return item;
+    }
+
+    // EFFECTS:     rewrites the record in place if the new title and description fit its room, otherwise
+    //              appends a new copy with the same sequence number and marks the old copy dead
+    @Override
+    public synchronized void update(InventoryItem item) {
+        long offset = offsets.get(item.getId());
+        if (offset == IntLongMap.MISSING) {
+            return;
+        }
+        MappedByteBuffer segment = segment(offset);
+        int position = position(offset);
+        byte[] title = item.getTitle().getBytes(StandardCharsets.UTF_8);
+        byte[] description = item.getDescription().getBytes(StandardCharsets.UTF_8);
+        if (title.length + description.length <= segment.getInt(position + CAPACITY)) {
+            writeItem(segment, position, item, title, description);
+            return;
+        }
+        long seq = segment.getLong(position + SEQ);
+        long moved = append(seq, item);
+        segment.putInt(position, DEAD);
+        offsets.put(item.getId(), moved);
+        order[Arrays.binarySearch(seqs, 0, size, seq)] = moved;
+    }
+
+    // EFFECTS:     rewrites only the quantity and reorder alert state of the item's record
+    @Override
+    public synchronized void updateQuantity(InventoryItem item) {
+        long offset = offsets.get(item.getId());
+        if (offset != IntLongMap.MISSING) {
+            MappedByteBuffer segment = segment(offset);
+            segment.putInt(position(offset) + QUANTITY, item.getQuantity());
+            segment.putInt(position(offset) + BELOW_REORDER_POINT, item.isBelowReorderPoint() ? 1 : 0);
+        }
+    }
+
+    // EFFECTS:     returns the next ID recorded in the file header, or 1 if none has been recorded
+    @Override
+    public synchronized int nextId() {
+        return Math.max(1, segments.get(0).getInt(NEXT_ID));
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     records nextId in the file header, if it is past the next ID already recorded
+    @Override
+    public synchronized void reserveIds(int nextId) {
+        MappedByteBuffer first = segments.get(0);
+        if (nextId > first.getInt(NEXT_ID)) {
+            first.putInt(NEXT_ID, nextId);
+        }
+    }
+
+    @Override
+    public boolean keepsItemsOnHeap() {
+        return false;
+    }
+
+    // EFFECTS:     returns an iterator over views of the stored items, in the order they were added.
+    //              the iterator does not support removal
+    @Override
+    public Iterator<InventoryItem> iterator() {
+        return new Iterator<InventoryItem>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public InventoryItem next() {
+                synchronized (MappedItemStore.this) {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return view(order[next++]);
+                }
+            }
+        };
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     forces every mapped segment to disk and closes the record file
+    //              throws IOException if the file cannot be closed
+    @Override
+    public synchronized void close() throws IOException {
+        for (MappedByteBuffer segment : segments) {
+            segment.force();
+        }
+        channel.close();
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     writes the header of a new record file, returning its segment size
+    private int create(int segmentSize) throws IOException {
+        if (segmentSize <= FILE_HEADER + RECORD_HEADER) {
+            throw new IllegalArgumentException("Segment size too small: " + segmentSize);
+        }
+        MappedByteBuffer first = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        first.putInt(0, MAGIC);
+        first.putInt(4, VERSION);
+        first.putInt(8, segmentSize);
+        segments.add(first);
+        return segmentSize;
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     checks the header of an existing record file, returning its segment size, and maps every segment
+    //              throws IOException if the file is not a record file of a supported version
+    private int readHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(FILE_HEADER);
+        channel.read(header, 0);
+        if (header.getInt(0) != MAGIC) {
+            throw new IOException("Not an inventory record file");
+        } else if (header.getInt(4) != VERSION) {
+            throw new IOException("Unsupported inventory record file version: " + header.getInt(4));
+        }
+        int existing = header.getInt(8);
+        if (existing <= FILE_HEADER + RECORD_HEADER || channel.size() % existing != 0) {
+            throw new IOException("Inventory record file is damaged");
+        }
+        for (long start = 0; start < channel.size(); start += existing) {
+            segments.add(channel.map(FileChannel.MapMode.READ_WRITE, start, existing));
+        }
+        return existing;
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     indexes every live record in the file, sorted into the order the items were added,
+    //              and moves the tail past the last record
+    private void scan() {
+        tail = FILE_HEADER;
+        for (int s = 0; s < segments.size(); s++) {
+            MappedByteBuffer segment = segments.get(s);
+            int position = s == 0 ? FILE_HEADER : 0;
+            while (position + RECORD_HEADER <= segmentSize && segment.getInt(position) != END) {
+                if (segment.getInt(position) == LIVE) {
+                    ensureIndexCapacity(size + 1);
+                    seqs[size] = segment.getLong(position + SEQ);
+                    order[size++] = (long) s * segmentSize + position;
+                    nextSeq = Math.max(nextSeq, seqs[size - 1] + 1);
+                }
+                position += RECORD_HEADER + segment.getInt(position + CAPACITY);
+                tail = (long) s * segmentSize + position;
+            }
+        }
+        sortBySeq();
+        for (int i = 0; i < size; i++) {
+            offsets.put(segment(order[i]).getInt(position(order[i]) + ID), order[i]);
+        }
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     sorts the index into sequence order by shell sort, keeping record offsets alongside their
+    //              sequence numbers.  records are found mostly in order, since only moved records are out of place
+    private void sortBySeq() {
+        for (int gap = size / 2; gap > 0; gap /= 2) {
+            for (int i = gap; i < size; i++) {
+                long seq = seqs[i];
+                long offset = order[i];
+                int j = i;
+                while (j >= gap && seqs[j - gap] > seq) {
+                    seqs[j] = seqs[j - gap];
+                    order[j] = order[j - gap];
+                    j -= gap;
+                }
+                seqs[j] = seq;
+                order[j] = offset;
+            }
+        }
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     writes a live record of item with the given sequence number at the tail, starting a new segment
+    //              if it does not fit in the current one, and returns its file offset.  the record is given twice
+    //              the room its strings need, so most edits can be made in place
+    //              throws IllegalArgumentException if the item is too large to fit in a segment
+    private long append(long seq, InventoryItem item) {
+        byte[] title = item.getTitle().getBytes(StandardCharsets.UTF_8);
+        byte[] description = item.getDescription().getBytes(StandardCharsets.UTF_8);
+        int needed = title.length + description.length;
+        if (RECORD_HEADER + needed > segmentSize - FILE_HEADER) {
+            throw new IllegalArgumentException("Item is too large to store: " + item.getId());
+        }
+        int capacity = (int) Math.min((long) needed * 2, segmentSize - position(tail) - RECORD_HEADER);
+        if (capacity < needed) {
+            tail = (tail / segmentSize + 1) * segmentSize;
+            capacity = (int) Math.min((long) needed * 2, segmentSize - RECORD_HEADER);
+        }
+        long offset = tail;
+        MappedByteBuffer segment = segment(offset);
+        int position = position(offset);
+        segment.putLong(position + SEQ, seq);
+        segment.putInt(position + ID, item.getId());
+        segment.putInt(position + CAPACITY, capacity);
+        writeItem(segment, position, item, title, description);
+        segment.putInt(position, LIVE);
+        tail = offset + RECORD_HEADER + capacity;
+        return offset;
+    }
+
+    // MODIFIES:    segment
+    // EFFECTS:     writes the quantity, reorder point, restock level, reorder alert state, title and description of
+    //              item into the record at position
+    private void writeItem(MappedByteBuffer segment, int position, InventoryItem item, byte[] title,
+                           byte[] description) {
+        segment.putInt(position + QUANTITY, item.getQuantity());
+        segment.putInt(position + REORDER_POINT, item.getReorderPoint());
+        segment.putInt(position + RESTOCK_LEVEL, item.getRestockLevel());
+        segment.putInt(position + BELOW_REORDER_POINT, item.isBelowReorderPoint() ? 1 : 0);
+        segment.putInt(position + TITLE_LENGTH, title.length);
+        segment.putInt(position + DESCRIPTION_LENGTH, description.length);
+        ByteBuffer strings = segment.duplicate();
+        strings.position(position + RECORD_HEADER);
+        strings.put(title);
+        strings.put(description);
+    }
+
+    // EFFECTS:     returns a new item holding the contents of the record at offset
+    private InventoryItem view(long offset) {
+        MappedByteBuffer segment = segment(offset);
+        int position = position(offset);
+        byte[] title = new byte[segment.getInt(position + TITLE_LENGTH)];
+        byte[] description = new byte[segment.getInt(position + DESCRIPTION_LENGTH)];
+        ByteBuffer strings = segment.duplicate();
+        strings.position(position + RECORD_HEADER);
+        strings.get(title);
+        strings.get(description);
+        InventoryItem item = new InventoryItem(segment.getInt(position + ID), new String(title, StandardCharsets.UTF_8),
+                segment.getInt(position + QUANTITY), new String(description, StandardCharsets.UTF_8),
+                segment.getInt(position + REORDER_POINT), segment.getInt(position + RESTOCK_LEVEL));
+        item.restoreBelowReorderPoint(segment.getInt(position + BELOW_REORDER_POINT) == 1);
+        return item;
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     returns the segment holding the given file offset, mapping (and so growing the file to)
+    //              any segments up to it that are not mapped yet
+    //              throws UncheckedIOException if the file cannot be grown
+    private MappedByteBuffer segment(long offset) {
+        int index = (int) (offset / segmentSize);
+        try {
+            while (segments.size() <= index) {
+                long start = (long) segments.size() * segmentSize;
+                segments.add(channel.map(FileChannel.MapMode.READ_WRITE, start, segmentSize));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return segments.get(index);
+    }
+
+    // EFFECTS:     returns the position of the given file offset within its segment
+    private int position(long offset) {
+        return (int) (offset % segmentSize);
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     grows the in-memory index so it can hold at least the given number of items
+    private void ensureIndexCapacity(int capacity) {
+        if (capacity > seqs.length) {
+            int grown = Math.max(capacity, seqs.length * 2);
+            seqs = Arrays.copyOf(seqs, grown);
+            order = Arrays.copyOf(order, grown);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package model;
+
+// Represents a report of the memory held by an item store: the bytes it keeps on the heap, the bytes it has
+// reserved off the heap, how many of those hold live items, and the most it may reserve off the heap.
+// Heap bytes are an estimate made by the store, since the JVM does not report the size of objects; see the store
+// for how it is made.  Off-heap bytes are exact.
+public class MemoryUsage {
+    private final long onHeapBytes;         // estimated bytes held on the heap by the store
+    private final long offHeapBytes;        // bytes reserved off the heap
+    private final long usedOffHeapBytes;    // reserved bytes holding live items
+    private final long budget;              // most bytes the store may reserve off the heap
+
+    // EFFECTS:     constructs a report of the given byte counts
+    public MemoryUsage(long onHeapBytes, long offHeapBytes, long usedOffHeapBytes, long budget) {
+        this.onHeapBytes = onHeapBytes;
+        this.offHeapBytes = offHeapBytes;
+        this.usedOffHeapBytes = usedOffHeapBytes;
+        this.budget = budget;
+    }
+
+    public long getOnHeapBytes() {
+        return onHeapBytes;
+    }
+
+    public long getOffHeapBytes() {
+        return offHeapBytes;
+    }
+
+    public long getUsedOffHeapBytes() {
+        return usedOffHeapBytes;
+    }
+
+    public long getBudget() {
+        return budget;
+    }
+
+    @Override
+    public String toString() {
+        return "on heap: " + onHeapBytes + " bytes, off heap: " + usedOffHeapBytes + " of " + offHeapBytes
+                + " bytes used, budget: " + budget + " bytes";
+    }
+}
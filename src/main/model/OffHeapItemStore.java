@@ -0,0 +1,374 @@
+package model;
+
+import exceptions.MemoryBudgetExceededException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// Represents a storage backend holding inventory items in direct buffers outside the heap, so the garbage collector
+// never has to trace or copy them however long the list grows.  Items are kept as fixed-size records, in list
+// order, in one buffer, and their UTF-8 titles and descriptions are kept together as one string per item in an
+// arena buffer.  The two buffers grow by doubling, but never together past the store's memory budget.
+// Removing an item closes the gap in the records at once; the strings of removed or rewritten items are reclaimed
+// by compacting the arena in place, whenever more than half of it is dead or it would otherwise have to grow.
+// Items are found by id with a binary search while ids are stored in increasing order, which is the order the list
+// assigns them, and by a scan of the records otherwise.
+// Every item handed out is a new view of its record; views do not see changes made through other views.
+// Access to the buffers is serialized on the store itself.
+public class OffHeapItemStore implements ItemStore {
+    public static final long DEFAULT_BUDGET = 64L << 20;     // bytes the store may reserve by default
+    private static final int RECORD_SIZE = 32;              // id, quantity, string offset, lengths, reorder state
+    private static final int QUANTITY = 4;                  // offsets of each field within a record
+    private static final int STRING_OFFSET = 8;
+    private static final int TITLE_LENGTH = 12;
+    private static final int DESCRIPTION_LENGTH = 16;
+    private static final int REORDER_POINT = 20;
+    private static final int RESTOCK_LEVEL = 24;
+    private static final int BELOW_REORDER_POINT = 28;
+    private static final int INITIAL_RECORDS = 16;
+    private static final int INITIAL_ARENA = 1024;
+    // estimated, not measured, heap bytes of the store: the store object and its fields (about 48 bytes) and the two
+    // direct buffer objects with their cleaners (about 56 bytes each), on a 64-bit JVM with compressed references.
+    // the store keeps nothing on the heap for each item, so this does not change as items are added
+    private static final int FIXED_HEAP_ESTIMATE = 160;
+
+    private final long budget;          // most bytes the two buffers may hold together
+    private ByteBuffer records;         // record of each item, in list order
+    private ByteBuffer arena;           // title then description of each item, in the order they were written
+    private int size;                   // number of items stored
+    private int arenaTail;              // arena offset at which the next string is written
+    private int deadBytes;              // arena bytes before arenaTail not belonging to any stored item
+    private boolean ascending;          // true if the ids are stored in strictly increasing order
+
+    // EFFECTS:     constructs an empty store with the default memory budget
+    public OffHeapItemStore() {
+        this(DEFAULT_BUDGET);
+    }
+
+    // EFFECTS:     constructs an empty store that never reserves more than budget bytes off the heap
+    //              throws IllegalArgumentException if budget is too small for the initial buffers, about 1.5KB
+    public OffHeapItemStore(long budget) {
+        if (budget < (long) RECORD_SIZE * INITIAL_RECORDS + INITIAL_ARENA) {
+            throw new IllegalArgumentException("Memory budget too small: " + budget);
+        }
+        this.budget = budget;
+        this.records = ByteBuffer.allocateDirect(RECORD_SIZE * INITIAL_RECORDS);
+        this.arena = ByteBuffer.allocateDirect(INITIAL_ARENA);
+        this.ascending = true;
+    }
+
+    @Override
+    public synchronized int size() {
+        return size;
+    }
+
+    @Override
+    public synchronized InventoryItem get(int position) {
+        if (position < 0 || position >= size) {
+            throw new IndexOutOfBoundsException("Position: " + position + ", Size: " + size);
+        }
+        return view(position);
+    }
+
+    @Override
+    public synchronized InventoryItem getById(int id) {
+        int position = positionOf(id);
+        return position < 0 ? null : view(position);
+    }
+
+    @Override
+    public synchronized boolean contains(int id) {
+        return positionOf(id) >= 0;
+    }
+
+    @Override
+    public synchronized int positionOf(int id) {
+        if (ascending) {
+            return binarySearch(id);
+        }
+        for (int i = 0; i < size; i++) {
+            if (idAt(i) == id) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // EFFECTS:     stores item after every item already stored
+    //              throws MemoryBudgetExceededException if the item does not fit within the memory budget
+    @Override
+    public synchronized void add(InventoryItem item) {
+        byte[] title = item.getTitle().getBytes(StandardCharsets.UTF_8);
+        byte[] description = item.getDescription().getBytes(StandardCharsets.UTF_8);
+        if ((size + 1) * RECORD_SIZE > records.capacity()) {
+            growRecords();
+        }
+        int stringOffset = writeStrings(title, description);
+        int record = size * RECORD_SIZE;
+        records.putInt(record, item.getId());
+        records.putInt(record + QUANTITY, item.getQuantity());
+        records.putInt(record + STRING_OFFSET, stringOffset);
+        records.putInt(record + TITLE_LENGTH, title.length);
+        records.putInt(record + DESCRIPTION_LENGTH, description.length);
+        writeReorderState(record, item);
+        ascending = ascending && (size == 0 || idAt(size - 1) < item.getId());
+        size++;
+    }
+
+    // EFFECTS:     removes the item's record, moving every later record back to close the gap, and marks its
+    //              strings dead, compacting the arena if more than half of it is dead
+    @Override
+    public synchronized InventoryItem remove(int id) {
+        int position = positionOf(id);
+        if (position < 0) {
+            return null;
+        }
+        InventoryItem item = view(position);
+        deadBytes += stringLength(position);
+        ByteBuffer later = records.duplicate();
+        later.limit(size * RECORD_SIZE).position((position + 1) * RECORD_SIZE);
+        ByteBuffer gap = records.duplicate();
+        gap.position(position * RECORD_SIZE);
+        gap.put(later);
+        size--;
+        if (deadBytes * 2 > arenaTail) {
+            compactArena();
+        }
+        return item;
+    }
+
+    // EFFECTS:     rewrites the item's strings in place if they fit where the old strings were, otherwise writes
+    //              them at the end of the arena and marks the old strings dead
+    //              throws MemoryBudgetExceededException if the new strings do not fit within the memory budget
+    @Override
+    public synchronized void update(InventoryItem item) {
+        int position = positionOf(item.getId());
+        if (position < 0) {
+            return;
+        }
+        byte[] title = item.getTitle().getBytes(StandardCharsets.UTF_8);
+        byte[] description = item.getDescription().getBytes(StandardCharsets.UTF_8);
+        int record = position * RECORD_SIZE;
+        int oldLength = stringLength(position);
+        int stringOffset = records.getInt(record + STRING_OFFSET);
+        if (title.length + description.length <= oldLength) {
+            putStrings(stringOffset, title, description);
+            deadBytes += oldLength - title.length - description.length;
+        } else {
+            stringOffset = writeStrings(title, description);
+            deadBytes += oldLength;
+        }
+        records.putInt(record + QUANTITY, item.getQuantity());
+        records.putInt(record + STRING_OFFSET, stringOffset);
+        records.putInt(record + TITLE_LENGTH, title.length);
+        records.putInt(record + DESCRIPTION_LENGTH, description.length);
+        writeReorderState(record, item);
+    }
+
+    // EFFECTS:     rewrites only the quantity and reorder alert state of the item's record
+    @Override
+    public synchronized void updateQuantity(InventoryItem item) {
+        int position = positionOf(item.getId());
+        if (position >= 0) {
+            records.putInt(position * RECORD_SIZE + QUANTITY, item.getQuantity());
+            records.putInt(position * RECORD_SIZE + BELOW_REORDER_POINT, item.isBelowReorderPoint() ? 1 : 0);
+        }
+    }
+
+    @Override
+    public boolean keepsItemsOnHeap() {
+        return false;
+    }
+
+    // EFFECTS:     sums the quantity of every record
+    @Override
+    public synchronized long totalQuantity() {
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            total += records.getInt(i * RECORD_SIZE + QUANTITY);
+        }
+        return total;
+    }
+
+    // EFFECTS:     returns a report of the bytes held on and off the heap.  the heap bytes are the fixed estimate
+    //              FIXED_HEAP_ESTIMATE rather than a measurement, since they do not grow with the number of items.
+    //              the off-heap bytes are exact, and the used off-heap bytes are those of live records and strings
+    public synchronized MemoryUsage getMemoryUsage() {
+        long used = (long) size * RECORD_SIZE + arenaTail - deadBytes;
+        return new MemoryUsage(FIXED_HEAP_ESTIMATE, (long) records.capacity() + arena.capacity(), used, budget);
+    }
+
+    // EFFECTS:     returns an iterator over views of the stored items, in list order.
+    //              the iterator does not support removal
+    @Override
+    public Iterator<InventoryItem> iterator() {
+        return new Iterator<InventoryItem>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                synchronized (OffHeapItemStore.this) {
+                    return next < size;
+                }
+            }
+
+            @Override
+            public InventoryItem next() {
+                synchronized (OffHeapItemStore.this) {
+                    if (next >= size) {
+                        throw new NoSuchElementException();
+                    }
+                    return view(next++);
+                }
+            }
+        };
+    }
+
+    // REQUIRES:    ascending
+    // EFFECTS:     returns the position of the item with the given id by binary search, or -1 if there is none
+    private int binarySearch(int id) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int found = idAt(middle);
+            if (found == id) {
+                return middle;
+            } else if (found < id) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return -1;
+    }
+
+    // EFFECTS:     returns the id of the item at position
+    private int idAt(int position) {
+        return records.getInt(position * RECORD_SIZE);
+    }
+
+    // EFFECTS:     returns the number of arena bytes holding the strings of the item at position
+    private int stringLength(int position) {
+        int record = position * RECORD_SIZE;
+        return records.getInt(record + TITLE_LENGTH) + records.getInt(record + DESCRIPTION_LENGTH);
+    }
+
+    // EFFECTS:     returns a new item holding the contents of the record at position
+    private InventoryItem view(int position) {
+        int record = position * RECORD_SIZE;
+        byte[] title = new byte[records.getInt(record + TITLE_LENGTH)];
+        byte[] description = new byte[records.getInt(record + DESCRIPTION_LENGTH)];
+        ByteBuffer strings = arena.duplicate();
+        strings.position(records.getInt(record + STRING_OFFSET));
+        strings.get(title);
+        strings.get(description);
+        InventoryItem item = new InventoryItem(records.getInt(record), new String(title, StandardCharsets.UTF_8),
+                records.getInt(record + QUANTITY), new String(description, StandardCharsets.UTF_8),
+                records.getInt(record + REORDER_POINT), records.getInt(record + RESTOCK_LEVEL));
+        item.restoreBelowReorderPoint(records.getInt(record + BELOW_REORDER_POINT) == 1);
+        return item;
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     writes the reorder point, restock level and reorder alert state of item to the given record
+    private void writeReorderState(int record, InventoryItem item) {
+        records.putInt(record + REORDER_POINT, item.getReorderPoint());
+        records.putInt(record + RESTOCK_LEVEL, item.getRestockLevel());
+        records.putInt(record + BELOW_REORDER_POINT, item.isBelowReorderPoint() ? 1 : 0);
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     writes title then description at the end of the arena, returning their arena offset.  the arena
+    //              is compacted first if that makes room, and otherwise grown
+    //              throws MemoryBudgetExceededException if they do not fit within the memory budget
+    private int writeStrings(byte[] title, byte[] description) {
+        long needed = (long) arenaTail + title.length + description.length;
+        if (needed > arena.capacity() && deadBytes > 0) {
+            compactArena();
+            needed = (long) arenaTail + title.length + description.length;
+        }
+        if (needed > arena.capacity()) {
+            arena = grow(arena, arenaTail, needed);
+        }
+        int stringOffset = arenaTail;
+        putStrings(stringOffset, title, description);
+        arenaTail += title.length + description.length;
+        return stringOffset;
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     writes title then description into the arena at the given offset
+    private void putStrings(int stringOffset, byte[] title, byte[] description) {
+        ByteBuffer strings = arena.duplicate();
+        strings.position(stringOffset);
+        strings.put(title);
+        strings.put(description);
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     makes room for at least one more record
+    //              throws MemoryBudgetExceededException if it does not fit within the memory budget
+    private void growRecords() {
+        records = grow(records, size * RECORD_SIZE, (long) (size + 1) * RECORD_SIZE);
+    }
+
+    // EFFECTS:     returns a buffer holding the first used bytes of buffer, with room for at least needed bytes:
+    //              twice the room if the budget allows, and otherwise as much as it allows
+    //              throws MemoryBudgetExceededException if needed bytes do not fit within the memory budget
+    private ByteBuffer grow(ByteBuffer buffer, int used, long needed) {
+        long available = budget - records.capacity() - arena.capacity() + buffer.capacity();
+        long capacity = Math.min(Math.min(Math.max((long) buffer.capacity() * 2, needed), available),
+                Integer.MAX_VALUE);
+        if (capacity < needed) {
+            throw new MemoryBudgetExceededException();
+        }
+        ByteBuffer grown = ByteBuffer.allocateDirect((int) capacity);
+        ByteBuffer old = buffer.duplicate();
+        old.limit(used).position(0);
+        grown.put(old);
+        grown.clear();
+        return grown;
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     moves the strings of every stored item to the start of the arena, in the order they are in the
+    //              arena, so each is moved back over dead bytes and never over strings not yet moved
+    private void compactArena() {
+        int[] byOffset = positionsByStringOffset();
+        int tail = 0;
+        for (int position : byOffset) {
+            int record = position * RECORD_SIZE;
+            int from = records.getInt(record + STRING_OFFSET);
+            int length = stringLength(position);
+            if (from != tail) {
+                ByteBuffer source = arena.duplicate();
+                source.limit(from + length).position(from);
+                ByteBuffer target = arena.duplicate();
+                target.position(tail);
+                target.put(source);
+                records.putInt(record + STRING_OFFSET, tail);
+            }
+            tail += length;
+        }
+        arenaTail = tail;
+        deadBytes = 0;
+    }
+
+    // EFFECTS:     returns the position of every stored item, sorted by the arena offset of its strings
+    private int[] positionsByStringOffset() {
+        long[] keyed = new long[size];
+        for (int i = 0; i < size; i++) {
+            keyed[i] = ((long) records.getInt(i * RECORD_SIZE + STRING_OFFSET) << Integer.SIZE) | i;
+        }
+        Arrays.sort(keyed);
+        int[] positions = new int[size];
+        for (int i = 0; i < size; i++) {
+            positions[i] = (int) keyed[i];
+        }
+        return positions;
+    }
+}
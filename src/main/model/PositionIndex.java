@@ -0,0 +1,128 @@
+package model;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+// Represents the positions of the items of a list that only grows at the end, where each item is known by a
+// sequence number that rises with each item added, and items may be removed from anywhere.  Sequence numbers are
+// counted in chunks of CHUNK_SIZE, each a Fenwick (binary indexed) tree of the sequence numbers present, along with
+// how many are present in the chunk, so the position of an item and the item at a position are found in
+// O(n / CHUNK_SIZE + log CHUNK_SIZE) rather than by counting the items before it.
+// Every count is changed atomically, and changes commute, so adds and removes take no lock; only adding a new chunk
+// briefly holds the index.  A query made while changes are under way may see some of their counts and not others,
+// so callers check what it finds and ask again.
+class PositionIndex {
+    private static final int CHUNK_BITS = 10;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;  // sequence numbers counted by each chunk
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    static final long MISSING = -1;                         // sequence number returned for positions not held
+
+    private volatile Chunk[] chunks;    // chunk i counts sequence numbers i * CHUNK_SIZE to (i + 1) * CHUNK_SIZE - 1
+
+    // Represents the sequence numbers present in one chunk, as a Fenwick tree indexed from 1
+    private static class Chunk {
+        private final AtomicIntegerArray tree = new AtomicIntegerArray(CHUNK_SIZE + 1);
+        private final AtomicInteger count = new AtomicInteger();
+    }
+
+    // EFFECTS:     constructs an empty position index
+    PositionIndex() {
+        this.chunks = new Chunk[0];
+    }
+
+    // REQUIRES:    seq >= 0 and seq is not present
+    // MODIFIES:    this
+    // EFFECTS:     counts seq as present
+    void add(long seq) {
+        update(seq, 1);
+    }
+
+    // REQUIRES:    seq is present
+    // MODIFIES:    this
+    // EFFECTS:     counts seq as no longer present
+    void remove(long seq) {
+        update(seq, -1);
+    }
+
+    // EFFECTS:     returns the number of present sequence numbers below seq, which is the position of seq
+    int rank(long seq) {
+        Chunk[] current = chunks;
+        int chunk = (int) Math.min(seq >>> CHUNK_BITS, current.length);
+        int rank = 0;
+        for (int i = 0; i < chunk; i++) {
+            rank += current[i].count.get();
+        }
+        if (chunk < current.length) {
+            AtomicIntegerArray tree = current[chunk].tree;
+            for (int i = (int) (seq & CHUNK_MASK); i > 0; i -= i & -i) {
+                rank += tree.get(i);
+            }
+        }
+        return rank;
+    }
+
+    // EFFECTS:     returns the present sequence number at the given position, counting from 0 in increasing order,
+    //              or MISSING if fewer sequence numbers than that are present
+    long select(int position) {
+        Chunk[] current = chunks;
+        int remaining = position;
+        for (int i = 0; i < current.length && remaining >= 0; i++) {
+            int count = current[i].count.get();
+            if (remaining < count) {
+                return ((long) i << CHUNK_BITS) + search(current[i].tree, remaining);
+            }
+            remaining -= count;
+        }
+        return MISSING;
+    }
+
+    // EFFECTS:     returns the offset within its chunk of the sequence number that has remaining present sequence
+    //              numbers before it in the chunk, found by descending tree
+    private static int search(AtomicIntegerArray tree, int remaining) {
+        int index = 0;
+        int left = remaining;
+        for (int step = CHUNK_SIZE; step > 0; step >>= 1) {
+            int next = index + step;
+            if (next <= CHUNK_SIZE) {
+                int counted = tree.get(next);
+                if (counted <= left) {
+                    index = next;
+                    left -= counted;
+                }
+            }
+        }
+        return index;
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     adds delta to the count of seq
+    private void update(long seq, int delta) {
+        Chunk chunk = chunk((int) (seq >>> CHUNK_BITS));
+        for (int i = (int) (seq & CHUNK_MASK) + 1; i <= CHUNK_SIZE; i += i & -i) {
+            chunk.tree.addAndGet(i, delta);
+        }
+        chunk.count.addAndGet(delta);
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     returns the chunk with the given index, adding it and every chunk before it that is missing
+    private Chunk chunk(int index) {
+        Chunk[] current = chunks;
+        if (index < current.length) {
+            return current[index];
+        }
+        synchronized (this) {
+            current = chunks;
+            if (index >= current.length) {
+                Chunk[] grown = Arrays.copyOf(current, index + 1);
+                for (int i = current.length; i < grown.length; i++) {
+                    grown[i] = new Chunk();
+                }
+                chunks = grown;
+                current = grown;
+            }
+            return current[index];
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package model;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+// Represents an ordered index of items by their quantity, then by their ID.  Each item is kept as one long, with
+// the quantity in the high 32 bits and the ID in the low 32 bits, so the natural order of the longs is the order of
+// (quantity, id), even for negative quantities.  The longs are boxed, so each item costs one Long and one skip list
+// node.  A query for k items walks the index from the first match, so it costs O(log n + k) rather than a scan of
+// the list.  The index is a concurrent skip list and takes no lock of its own, so changes to different items never
+// wait for each other.  Queries run alongside changes and are weakly consistent: an item being moved to a new
+// quantity may be missed by a query that runs between its removal and its re-insertion.
+class QuantityIndex {
+    private static final long ID_MASK = 0xFFFFFFFFL;
+
+    private final NavigableSet<Long> keys;      // packed (quantity, id) of every indexed item
+
+    // EFFECTS:     constructs an empty quantity index
+    QuantityIndex() {
+        this.keys = new ConcurrentSkipListSet<>();
+    }
+
+    // EFFECTS:     returns the key of the item with the given ID and quantity
+    static long key(int quantity, int id) {
+        return ((long) quantity << Integer.SIZE) | (id & ID_MASK);
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     indexes the item with the given ID under quantity
+    void add(int id, int quantity) {
+        keys.add(key(quantity, id));
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     removes the item with the given ID, indexed under quantity, if it is indexed
+    void remove(int id, int quantity) {
+        keys.remove(key(quantity, id));
+    }
+
+    // REQUIRES:    no other change to the item with the given ID is made at the same time
+    // MODIFIES:    this
+    // EFFECTS:     re-indexes the item with the given ID from oldQuantity under newQuantity, if it is indexed
+    void move(int id, int oldQuantity, int newQuantity) {
+        if (oldQuantity != newQuantity && keys.remove(key(oldQuantity, id))) {
+            keys.add(key(newQuantity, id));
+        }
+    }
+
+    // REQUIRES:    ids, oldQuantities and newQuantities have the same length, and no other change to those items
+    //              is made at the same time
+    // MODIFIES:    this
+    // EFFECTS:     re-indexes each item whose ID is in ids as move does, from the old quantity to the new quantity
+    //              at the same position
+    void moveAll(int[] ids, int[] oldQuantities, int[] newQuantities) {
+        for (int i = 0; i < ids.length; i++) {
+            move(ids[i], oldQuantities[i], newQuantities[i]);
+        }
+    }
+
+    // EFFECTS:     returns the number of indexed items, counting them one by one
+    int size() {
+        return keys.size();
+    }
+
+    // EFFECTS:     returns the IDs of the items whose quantity is at least min and at most max, lowest quantity
+    //              first, and by ID among items of the same quantity
+    int[] between(int min, int max) {
+        if (min > max) {
+            return new int[0];
+        }
+        return ids(keys.subSet(key(min, 0), true, key(max, -1), true).iterator(), Integer.MAX_VALUE);
+    }
+
+    // EFFECTS:     returns the IDs of at most n items with the lowest quantities, lowest first
+    int[] lowest(int n) {
+        return ids(keys.iterator(), n);
+    }
+
+    // EFFECTS:     returns the IDs of at most n items with the highest quantities, highest first
+    int[] highest(int n) {
+        return ids(keys.descendingIterator(), n);
+    }
+
+    // EFFECTS:     returns the IDs of the remaining keys of keys, up to at most limit of them, in one pass
+    private static int[] ids(Iterator<Long> keys, int limit) {
+        int[] ids = new int[Math.max(0, Math.min(limit, 16))];
+        int count = 0;
+        while (count < limit && keys.hasNext()) {
+            if (count == ids.length) {
+                ids = Arrays.copyOf(ids, (int) Math.min((long) limit, ids.length * 2L));
+            }
+            ids[count++] = (int) (keys.next() & ID_MASK);
+        }
+        return count == ids.length ? ids : Arrays.copyOf(ids, count);
+    }
+}
@@ -0,0 +1,44 @@
+package model;
+
+// Represents an alert that an item has fallen below its reorder point, or has been restocked since, with the
+// quantity it had when it crossed.  The item may have changed again by the time the alert is delivered.
+public class ReorderAlert {
+
+    // Represents the crossing that raised the alert
+    public enum Kind {
+        BELOW_REORDER_POINT,
+        RESTOCKED
+    }
+
+    private final InventoryItem item;       // item that crossed
+    private final Kind kind;                // direction it crossed in
+    private final int quantity;             // quantity of the item just after it crossed
+
+    // EFFECTS:     constructs an alert that item crossed in the given direction, leaving it with quantity
+    public ReorderAlert(InventoryItem item, Kind kind, int quantity) {
+        this.item = item;
+        this.kind = kind;
+        this.quantity = quantity;
+    }
+
+    public InventoryItem getItem() {
+        return item;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    @Override
+    public String toString() {
+        if (kind == Kind.BELOW_REORDER_POINT) {
+            return "Item with ID: " + item.getId() + " (" + item.getTitle() + ") is down to " + quantity
+                    + ", below its reorder point of " + item.getReorderPoint();
+        }
+        return "Item with ID: " + item.getId() + " (" + item.getTitle() + ") has been restocked to " + quantity;
+    }
+}
@@ -0,0 +1,54 @@
+package model;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// Represents the dispatcher delivering the reorder alerts of an inventory list to its listeners.  Raising an alert
+// only queues it, and one background thread delivers the queued alerts in order.  The thread is started for the
+// first alert and stops once no alert has been queued for a while, so a list nobody listens to holds no thread.
+class ReorderDispatcher {
+    private static final long IDLE_SECONDS = 5;     // time the delivering thread waits for alerts before stopping
+
+    private final List<ReorderListener> listeners;  // observers of the alerts
+    private final Executor deliverer;               // delivers alerts one at a time, in order
+
+    // EFFECTS:     constructs a dispatcher with no listeners
+    ReorderDispatcher() {
+        this.listeners = new CopyOnWriteArrayList<>();
+        this.deliverer = new ThreadPoolExecutor(0, 1, IDLE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "reorder-alerts");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     registers listener to be sent every alert raised from now on
+    void addListener(ReorderListener listener) {
+        listeners.add(listener);
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     stops sending alerts to listener
+    void removeListener(ReorderListener listener) {
+        listeners.remove(listener);
+    }
+
+    // EFFECTS:     queues alert to be sent to every listener on the delivering thread.  does nothing if alert is
+    //              null or nobody is listening
+    void dispatch(ReorderAlert alert) {
+        if (alert == null || listeners.isEmpty()) {
+            return;
+        }
+        deliverer.execute(() -> {
+            for (ReorderListener listener : listeners) {
+                listener.reorderAlert(alert);
+            }
+        });
+    }
+}
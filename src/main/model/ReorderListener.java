@@ -0,0 +1,9 @@
+package model;
+
+// Represents an observer of the reorder alerts of an inventory list.  Alerts are delivered one at a time, in the
+// order they were raised, on a thread of their own, so the change that raised an alert never waits for it.
+public interface ReorderListener {
+
+    // EFFECTS:     called after an item of the list has fallen below its reorder point, or has been restocked
+    void reorderAlert(ReorderAlert alert);
+}
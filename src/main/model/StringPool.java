@@ -0,0 +1,67 @@
+package model;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+// Represents a pool of the titles and descriptions of inventory items, so that items sharing the same text share
+// one String object rather than each holding its own copy.  The pool refers to its strings only weakly, so a string
+// is dropped from the pool once no item holds it any more.
+// Strings of Latin-1 text are already stored by the JVM as one byte per character, so pooling is what remains to
+// be saved for repetitive catalogues.
+// The pool is split into stripes by the hash of each string, each guarded by its own lock, so threads interning
+// different strings, such as those loading several lists at once, rarely wait for each other.
+public final class StringPool {
+    private static final int STRIPE_BITS = 6;
+    private static final int STRIPES = 1 << STRIPE_BITS;    // number of independently locked parts of the pool
+    private static final int GOLDEN_RATIO = 0x9E3779B9;
+    private static final Map<String, WeakReference<String>>[] POOL = stripes();
+
+    private StringPool() {
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     returns the pooled string equal to text, adding text to the pool if there is none.
+    //              returns null if text is null
+    public static String intern(String text) {
+        if (text == null) {
+            return null;
+        }
+        Map<String, WeakReference<String>> stripe = stripe(text);
+        synchronized (stripe) {
+            WeakReference<String> reference = stripe.get(text);
+            String pooled = reference == null ? null : reference.get();
+            if (pooled == null) {
+                stripe.put(text, new WeakReference<>(text));
+                pooled = text;
+            }
+            return pooled;
+        }
+    }
+
+    // EFFECTS:     returns the number of strings in the pool that have not yet been dropped
+    public static int size() {
+        int size = 0;
+        for (Map<String, WeakReference<String>> stripe : POOL) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    // EFFECTS:     returns the stripe of the pool holding text
+    private static Map<String, WeakReference<String>> stripe(String text) {
+        return POOL[(text.hashCode() * GOLDEN_RATIO) >>> (Integer.SIZE - STRIPE_BITS)];
+    }
+
+    // EFFECTS:     returns STRIPES new empty stripes of the pool
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Map<String, WeakReference<String>>[] stripes() {
+        Map<String, WeakReference<String>>[] stripes = new Map[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new WeakHashMap<>();
+        }
+        return stripes;
+    }
+}
@@ -0,0 +1,152 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Represents an inverted index from every three-character sequence (trigram) of a normalized (lower case) item title
+// to the items whose title contains it.  A substring query only has to verify the items posted under the rarest
+// trigram of the query, rather than every item in the list.  The index takes no lock of its own: titles and postings
+// are kept in concurrent maps and sets, and each posting is changed atomically on its own, so changes to items with
+// different titles only meet when their titles share a trigram.  Searches run alongside changes and see each posting
+// as it is when they read it.  Changes to the same item must not be made at the same time as each other.
+class TrigramIndex {
+    static final int GRAM_LENGTH = 3;   // queries shorter than this cannot be answered by the index
+
+    private final ConcurrentMap<Integer, Entry> entries;    // indexed titles by item ID
+    private final ConcurrentMap<Long, Set<Entry>> postings; // indexed titles by trigram
+    private final AtomicLong nextOrder;                     // order of the next indexed item, matches list order
+
+    // Represents an indexed item title, with the position the item was added to the list in
+    private static class Entry {
+        private final int id;
+        private final long order;
+        private volatile String normalized;
+
+        Entry(int id, long order, String normalized) {
+            this.id = id;
+            this.order = order;
+            this.normalized = normalized;
+        }
+    }
+
+    // EFFECTS:     constructs an empty title index
+    TrigramIndex() {
+        this.entries = new ConcurrentHashMap<>();
+        this.postings = new ConcurrentHashMap<>();
+        this.nextOrder = new AtomicLong();
+    }
+
+    // EFFECTS:     returns title in the form it is indexed and searched by, matching the case-insensitive
+    //              comparison of InventoryManagement.getItemsFromTitle
+    static String normalize(String title) {
+        return title.toLowerCase();
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     indexes the title of the item with the given ID, ordered after every item already indexed
+    void add(int id, String title) {
+        Entry entry = new Entry(id, nextOrder.getAndIncrement(), normalize(title));
+        entries.put(id, entry);
+        post(entry);
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     removes the title of the item with the given ID from the index, if it is indexed
+    void remove(int id) {
+        Entry entry = entries.remove(id);
+        if (entry != null) {
+            unpost(entry);
+        }
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     re-indexes the item with the given ID under its new title, keeping its position in the list
+    void retitle(int id, String title) {
+        Entry entry = entries.get(id);
+        if (entry != null) {
+            unpost(entry);
+            entry.normalized = normalize(title);
+            post(entry);
+        }
+    }
+
+    // REQUIRES:    normalize(text).length() >= GRAM_LENGTH
+    // EFFECTS:     returns the IDs of every indexed item whose normalized title contains the normalized text,
+    //              in the order the items were added to the list
+    int[] search(String text) {
+        List<Entry> matches = matches(normalize(text));
+        matches.sort(Comparator.comparingLong(entry -> entry.order));
+
+        int[] ids = new int[matches.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = matches.get(i).id;
+        }
+        return ids;
+    }
+
+    // EFFECTS:     returns every indexed entry whose normalized title contains query, in no particular order,
+    //              verifying only the entries posted under the rarest trigram of query
+    private List<Entry> matches(String query) {
+        Set<Entry> candidates = null;
+        for (int i = 0; i + GRAM_LENGTH <= query.length(); i++) {
+            Set<Entry> posting = postings.get(trigram(query, i));
+            if (posting == null) {
+                return new ArrayList<>();
+            } else if (candidates == null || posting.size() < candidates.size()) {
+                candidates = posting;
+            }
+        }
+
+        List<Entry> matches = new ArrayList<>();
+        for (Entry entry : candidates) {
+            if (entry.normalized.contains(query)) {
+                matches.add(entry);
+            }
+        }
+        return matches;
+    }
+
+    // EFFECTS:     returns the number of indexed titles
+    int size() {
+        return entries.size();
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     adds entry to the posting of every trigram of its normalized title, creating postings that do
+    //              not exist yet
+    private void post(Entry entry) {
+        String title = entry.normalized;
+        for (int i = 0; i + GRAM_LENGTH <= title.length(); i++) {
+            postings.compute(trigram(title, i), (key, posting) -> {
+                Set<Entry> added = posting == null ? ConcurrentHashMap.newKeySet() : posting;
+                added.add(entry);
+                return added;
+            });
+        }
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     removes entry from the posting of every trigram of its normalized title,
+    //              dropping postings that become empty
+    private void unpost(Entry entry) {
+        String title = entry.normalized;
+        for (int i = 0; i + GRAM_LENGTH <= title.length(); i++) {
+            postings.computeIfPresent(trigram(title, i), (key, posting) -> {
+                posting.remove(entry);
+                return posting.isEmpty() ? null : posting;
+            });
+        }
+    }
+
+    // EFFECTS:     packs the three characters of text starting at position into a single key
+    private static long trigram(String text, int position) {
+        return ((long) text.charAt(position) << 32)
+                | ((long) text.charAt(position + 1) << 16)
+                | text.charAt(position + 2);
+    }
+}
@@ -0,0 +1,104 @@
+package persistence;
+
+import model.InventoryItem;
+import model.InventoryManagement;
+import model.StringPool;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+
+// Represents a reader that reads an inventory list from a binary snapshot written by BinaryWriter.
+// The file is memory-mapped rather than read into the heap, and the id and quantity columns are read in place.
+public class BinaryReader {
+    private static final int REPORT_INTERVAL = 4096;    // items read between reports of progress
+
+    private final String source;    // source location
+
+    // EFFECTS:     constructs reader to read from source file
+    public BinaryReader(String source) {
+        this.source = source;
+    }
+
+    // EFFECTS:     reads inventorymanagement from file and returns it, replaying any changes recorded in its
+    //              journal since the file was written;
+    //              throws FileNotFoundException if the source file does not exist, and
+    //              throws IOException if the file is not a binary snapshot or an error occurs reading it
+    public InventoryManagement read() throws IOException {
+        return read(Progress.NONE);
+    }
+
+    // EFFECTS:     reads inventorymanagement from file as read() does, reporting the bytes read to progress
+    //              throws CancellationException if progress is cancelled before the file has been read
+    public InventoryManagement read(Progress progress) throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(source, "r");
+             FileChannel channel = file.getChannel()) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            InventoryManagement im = parseInventoryManagement(buffer, progress);
+            InventoryJournal.replay(im, source);
+            return im;
+        } catch (BufferUnderflowException | IllegalArgumentException | NegativeArraySizeException e) {
+            throw new IOException("Truncated binary snapshot: " + source, e);
+        }
+    }
+
+    // EFFECTS:     parses inventorymanagement from the mapped snapshot and returns it
+    //              throws IOException if the snapshot has the wrong magic number or version
+    private InventoryManagement parseInventoryManagement(MappedByteBuffer buffer, Progress progress)
+            throws IOException {
+        if (buffer.remaining() < 8 || buffer.getInt() != BinaryWriter.MAGIC) {
+            throw new IOException("Not a binary inventory snapshot: " + source);
+        }
+        int version = buffer.getInt();
+        if (version < 1 || version > BinaryWriter.VERSION) {
+            throw new IOException("Unsupported binary snapshot version " + version + ": " + source);
+        }
+        InventoryManagement im = new InventoryManagement(readString(buffer));
+        int nextId = buffer.getInt();
+        addItems(im, buffer, version > 1, progress);
+        im.setNextId(nextId);
+        return im;
+    }
+
+    // MODIFIES:    im
+    // EFFECTS:     reads the id, quantity and reorder columns in place, and each item's strings from the string
+    //              heap, adding the items to inventorymanagement, and reporting the bytes read to progress.
+    //              snapshots without a reorder column give every item no reorder point
+    //              throws CancellationException if progress is cancelled before every item has been read
+    private void addItems(InventoryManagement im, MappedByteBuffer buffer, boolean hasReorderColumn,
+                          Progress progress) {
+        int count = buffer.getInt();
+        int idColumn = buffer.position();
+        int quantityColumn = idColumn + count * Integer.BYTES;
+        int reorderColumn = hasReorderColumn ? quantityColumn + count * Integer.BYTES : -1;
+        buffer.position(quantityColumn + count * Integer.BYTES * (hasReorderColumn ? 3 : 1));
+        for (int i = 0; i < count; i++) {
+            int id = buffer.getInt(idColumn + i * Integer.BYTES);
+            int quantity = buffer.getInt(quantityColumn + i * Integer.BYTES);
+            String title = StringPool.intern(readString(buffer));
+            String description = StringPool.intern(readString(buffer));
+            im.addItemJson(new InventoryItem(id, title, quantity, description,
+                    reorderAt(buffer, reorderColumn, 2 * i), reorderAt(buffer, reorderColumn, 2 * i + 1)));
+            if (i % REPORT_INTERVAL == REPORT_INTERVAL - 1) {
+                Progress.report(progress, buffer.position(), buffer.capacity());
+            }
+        }
+        Progress.report(progress, buffer.position(), buffer.capacity());
+    }
+
+    // EFFECTS:     returns the int at the given index of the reorder column, or 0 if the snapshot has none
+    private static int reorderAt(MappedByteBuffer buffer, int reorderColumn, int index) {
+        return reorderColumn < 0 ? 0 : buffer.getInt(reorderColumn + index * Integer.BYTES);
+    }
+
+    // EFFECTS:     reads a length-prefixed UTF-8 string at the buffer's position
+    private String readString(MappedByteBuffer buffer) {
+        int length = buffer.getInt();
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
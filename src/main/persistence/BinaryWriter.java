@@ -0,0 +1,137 @@
+package persistence;
+
+import model.Event;
+import model.EventLog;
+import model.EventType;
+import model.InventoryItem;
+import model.InventoryManagement;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+// Represents a writer that writes a compact binary snapshot of Inventory Management to file.
+// The snapshot is laid out as:
+//      magic, version, name, next ID, item count      header
+//      item count x id                                 fixed-width id column
+//      item count x quantity                           fixed-width quantity column
+//      item count x (reorder point, restock level)     fixed-width reorder column
+//      item count x (title, description)               string heap
+// where every string is written as its length in bytes followed by its UTF-8 bytes, and every number as a
+// big-endian int.  The items are taken from the list once, into an array, and every column and the item count are
+// written from that array, so items added or removed by other threads while the snapshot is written cannot leave
+// the columns out of line with each other.
+// Version 1 snapshots, written before items had reorder points, have no reorder column.
+public class BinaryWriter {
+    public static final String EXTENSION = ".inv";  // file extension of binary snapshots
+    static final int MAGIC = 0x494E5642;            // "INVB"
+    static final int VERSION = 2;
+    private static final int REPORT_INTERVAL = 4096;    // items written between reports of progress
+
+    private DataOutputStream writer;        // buffered output to the destination
+    private final String destination;       // destination location
+
+    // EFFECTS:     constructs writer to write to the destination file
+    public BinaryWriter(String destination) {
+        this.destination = destination;
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     opens writer; throws FileNotFoundException if destination file
+    //              cannot be opened for writing
+    public void open() throws FileNotFoundException {
+        writer = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(destination)));
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     writes binary snapshot of InventoryManagement to file
+    //              logs that the list is saved
+    //              throws IOException if the snapshot cannot be written
+    public void write(InventoryManagement im) throws IOException {
+        write(im, Progress.NONE);
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     writes binary snapshot of InventoryManagement to file as write(im) does, reporting progress
+    //              through the four passes over the items as items written out of four times the list size
+    //              throws CancellationException if progress is cancelled before every item has been written,
+    //              leaving the file incomplete
+    //              throws IOException if the snapshot cannot be written
+    public void write(InventoryManagement im, Progress progress) throws IOException {
+        writer.writeInt(MAGIC);
+        writer.writeInt(VERSION);
+        writeString(im.getName());
+        writer.writeInt(im.getNextId());
+        InventoryItem[] items = snapshot(im);
+        writer.writeInt(items.length);
+        long total = 4L * items.length;
+        long done = writeNumberColumns(items, progress, total);
+        for (InventoryItem item : items) {
+            writeString(item.getTitle());
+            writeString(item.getDescription());
+            done = reportEvery(progress, done, total);
+        }
+        Progress.report(progress, total, total);
+        EventLog.getInstance().logEvent(new Event(EventType.LIST_SAVED, items.length, im.getName()));
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     flushes and closes writer
+    //              throws IOException if the remaining output cannot be written
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     writes the id, quantity and reorder columns, one pass over items each, reporting progress,
+    //              and returns the number of items written counted over the three passes
+    private long writeNumberColumns(InventoryItem[] items, Progress progress, long total) throws IOException {
+        long done = 0;
+        for (InventoryItem item : items) {
+            writer.writeInt(item.getId());
+            done = reportEvery(progress, done, total);
+        }
+        for (InventoryItem item : items) {
+            writer.writeInt(item.getQuantity());
+            done = reportEvery(progress, done, total);
+        }
+        for (InventoryItem item : items) {
+            writer.writeInt(item.getReorderPoint());
+            writer.writeInt(item.getRestockLevel());
+            done = reportEvery(progress, done, total);
+        }
+        return done;
+    }
+
+    // EFFECTS:     returns the items of im in list order, taken in one pass over the list
+    private static InventoryItem[] snapshot(InventoryManagement im) {
+        List<InventoryItem> items = new ArrayList<>(im.getListSize());
+        for (InventoryItem item : im) {
+            items.add(item);
+        }
+        return items.toArray(new InventoryItem[0]);
+    }
+
+    // EFFECTS:     counts one more item written, reporting it to progress every REPORT_INTERVAL items, and returns
+    //              the count
+    private static long reportEvery(Progress progress, long done, long total) {
+        long counted = done + 1;
+        if (counted % REPORT_INTERVAL == 0) {
+            Progress.report(progress, counted, total);
+        }
+        return counted;
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     writes the length of the UTF-8 encoding of text, followed by the encoding
+    private void writeString(String text) throws IOException {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        writer.writeInt(bytes.length);
+        writer.write(bytes);
+    }
+}
@@ -0,0 +1,219 @@
+package persistence;
+
+import model.Event;
+import model.EventLog;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+// Represents a background writer that saves every event recorded by the EventLog to rolling segment files.
+// Events are handed to a bounded queue as they are logged, and a single writer thread drains the queue in batches,
+// writing each event as one line of JSON.  A thread logging an event while the queue is full waits up to
+// MAX_BLOCK milliseconds for room, after which the event is dropped and counted as lost.  A new segment is started
+// once the current one reaches its size limit or age limit, and every queued event is written on shutdown.
+public class EventLogAppender implements Consumer<Event> {
+    public static final long DEFAULT_SEGMENT_BYTES = 4L << 20;                  // 4 MiB
+    public static final long DEFAULT_SEGMENT_MILLIS = TimeUnit.HOURS.toMillis(1);
+    public static final int DEFAULT_QUEUE_CAPACITY = 8192;
+    private static final int BATCH_SIZE = 256;          // events written between flushes at most
+    private static final long FLUSH_INTERVAL = 200;     // milliseconds the writer waits for an event
+    private static final long MAX_BLOCK = 50;           // milliseconds a logging thread waits for room in the queue
+    private static final long SHUTDOWN_WAIT = 5000;     // milliseconds close waits for the writer to finish
+
+    private final Path directory;               // directory holding the segment files
+    private final long maxSegmentBytes;         // size at which a new segment is started
+    private final long maxSegmentMillis;        // age at which a new segment is started
+    private final BlockingQueue<Event> queue;   // events waiting to be written
+    private final LongAdder lost;               // events dropped because the queue stayed full
+    private Thread writerThread;
+    private Thread shutdownHook;
+    private volatile boolean running;
+    private Writer segment;                     // current segment, only used by the writer thread
+    private int segmentIndex;                   // number of the current segment
+    private long segmentBytes;                  // bytes written to the current segment
+    private long segmentStarted;                // time the current segment was started
+    private volatile IOException failure;       // first failure to write a segment, if any
+
+    // EFFECTS:     constructs an appender writing segments to directory with the default limits
+    public EventLogAppender(Path directory) {
+        this(directory, DEFAULT_SEGMENT_BYTES, DEFAULT_SEGMENT_MILLIS, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    // REQUIRES:    maxSegmentBytes > 0, maxSegmentMillis > 0, queueCapacity > 0
+    // EFFECTS:     constructs an appender writing segments to directory, starting a new segment once the current
+    //              one holds maxSegmentBytes or is maxSegmentMillis old, and queueing at most queueCapacity events
+    public EventLogAppender(Path directory, long maxSegmentBytes, long maxSegmentMillis, int queueCapacity) {
+        this.directory = directory;
+        this.maxSegmentBytes = maxSegmentBytes;
+        this.maxSegmentMillis = maxSegmentMillis;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.lost = new LongAdder();
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     starts a new segment after any already in the directory, subscribes to the EventLog, starts the
+    //              writer thread, and registers a shutdown hook that writes every queued event
+    //              throws IOException if the directory or segment cannot be created
+    public synchronized void start() throws IOException {
+        Files.createDirectories(directory);
+        List<Path> existing = EventLogReader.segmentsIn(directory);
+        segmentIndex = existing.isEmpty() ? 0 : EventLogReader.indexOf(existing.get(existing.size() - 1));
+        openSegment();
+        running = true;
+        writerThread = new Thread(this::drain, "event-log-appender");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        shutdownHook = new Thread(this::closeQuietly, "event-log-appender-shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+        EventLog.getInstance().addSubscriber(this);
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     queues the event to be written, waiting briefly for room if the queue is full.
+    //              the event is counted as lost if there is still no room
+    @Override
+    public void accept(Event event) {
+        try {
+            if (!queue.offer(event, MAX_BLOCK, TimeUnit.MILLISECONDS)) {
+                lost.increment();
+            }
+        } catch (InterruptedException e) {
+            lost.increment();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     stops receiving events, writes every queued event, and closes the current segment
+    //              throws IOException if any segment could not be written since the appender was started
+    public synchronized void close() throws IOException {
+        if (!running) {
+            return;
+        }
+        EventLog.getInstance().removeSubscriber(this);
+        running = false;
+        try {
+            writerThread.join(SHUTDOWN_WAIT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException expected) {
+            // the JVM is already shutting down, and may be running the hook itself
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    // EFFECTS:     returns the number of events dropped because the queue stayed full
+    public long getLostCount() {
+        return lost.sum();
+    }
+
+    // EFFECTS:     returns the number of events waiting to be written
+    public int getQueuedCount() {
+        return queue.size();
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     closes the appender from the shutdown hook, where a failure can no longer be reported
+    private void closeQuietly() {
+        try {
+            close();
+        } catch (IOException expected) {
+            // nothing can be done with the failure while the JVM is shutting down
+        }
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     runs on the writer thread, writing batches of queued events until the appender is closed and
+    //              the queue is empty, then closes the current segment
+    private void drain() {
+        List<Event> batch = new ArrayList<>(BATCH_SIZE);
+        while (running || !queue.isEmpty()) {
+            try {
+                Event first = queue.poll(FLUSH_INTERVAL, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, BATCH_SIZE - 1);
+                }
+            } catch (InterruptedException e) {
+                running = false;
+            }
+            writeBatch(batch);
+            batch.clear();
+        }
+        try {
+            segment.close();
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     writes the batch to the current segment and flushes it, starting a new segment first if the
+    //              current one is full or too old.  a failure to write is kept, and the batch counted as lost
+    private void writeBatch(List<Event> batch) {
+        try {
+            if (segmentBytes > 0 && (segmentBytes >= maxSegmentBytes
+                    || System.currentTimeMillis() - segmentStarted >= maxSegmentMillis)) {
+                segment.close();
+                openSegment();
+            }
+            for (Event event : batch) {
+                String line = toJson(event).toString() + "\n";
+                segment.write(line);
+                segmentBytes += line.getBytes(StandardCharsets.UTF_8).length;
+            }
+            segment.flush();
+        } catch (IOException e) {
+            lost.add(batch.size());
+            fail(e);
+        }
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     starts the segment following the current one
+    //              throws IOException if the segment cannot be created
+    private void openSegment() throws IOException {
+        segmentIndex++;
+        segment = Files.newBufferedWriter(EventLogReader.segmentPath(directory, segmentIndex),
+                StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        segmentBytes = 0;
+        segmentStarted = System.currentTimeMillis();
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     keeps the first failure to be reported by close
+    private void fail(IOException e) {
+        if (failure == null) {
+            failure = e;
+        }
+    }
+
+    // EFFECTS:     returns the saved form of event as a JSON object
+    static JSONObject toJson(Event event) {
+        JSONObject json = new JSONObject();
+        json.put("time", event.getTimeLogged());
+        json.put("type", event.getType().name());
+        json.put("id", event.getItemId());
+        json.put("number", event.getNumber());
+        json.put("text", event.getText());
+        json.put("detail", event.getDetail());
+        return json;
+    }
+}
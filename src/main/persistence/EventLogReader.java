@@ -0,0 +1,99 @@
+package persistence;
+
+import model.Event;
+import model.EventType;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+// Represents a reader that streams the events saved by an EventLogAppender back in, one segment at a time,
+// oldest first.  Only one line of each segment is held in memory at a time.
+public class EventLogReader {
+    private static final String PREFIX = "events-";
+    private static final String EXTENSION = ".log";
+
+    private final Path directory;   // directory holding the segment files
+
+    // EFFECTS:     constructs a reader of the segments in directory
+    public EventLogReader(Path directory) {
+        this.directory = directory;
+    }
+
+    // EFFECTS:     returns the segment files in the directory, oldest first
+    //              throws IOException if the directory cannot be listed
+    public List<Path> segments() throws IOException {
+        return segmentsIn(directory);
+    }
+
+    // EFFECTS:     hands every saved event to action, oldest first.  lines that are not complete events,
+    //              such as one torn by a crash, are skipped
+    //              throws IOException if a segment cannot be read
+    public void forEach(Consumer<? super Event> action) throws IOException {
+        for (Path segment : segments()) {
+            try (BufferedReader reader = Files.newBufferedReader(segment, StandardCharsets.UTF_8)) {
+                String line = reader.readLine();
+                while (line != null) {
+                    Event event = parse(line);
+                    if (event != null) {
+                        action.accept(event);
+                    }
+                    line = reader.readLine();
+                }
+            }
+        }
+    }
+
+    // EFFECTS:     returns the segment files in directory, oldest first, or an empty list if there is no directory
+    //              throws IOException if the directory cannot be listed
+    static List<Path> segmentsIn(Path directory) throws IOException {
+        List<Path> segments = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return segments;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, PREFIX + "*" + EXTENSION)) {
+            for (Path file : files) {
+                if (indexOf(file) > 0) {
+                    segments.add(file);
+                }
+            }
+        }
+        segments.sort(Comparator.comparingInt(EventLogReader::indexOf));
+        return segments;
+    }
+
+    // EFFECTS:     returns the location of the segment with the given number in directory
+    static Path segmentPath(Path directory, int index) {
+        return directory.resolve(String.format("%s%08d%s", PREFIX, index, EXTENSION));
+    }
+
+    // EFFECTS:     returns the number of the given segment file, or 0 if it is not named like a segment
+    static int indexOf(Path segment) {
+        String name = segment.getFileName().toString();
+        try {
+            return Integer.parseInt(name.substring(PREFIX.length(), name.length() - EXTENSION.length()));
+        } catch (NumberFormatException | IndexOutOfBoundsException e) {
+            return 0;
+        }
+    }
+
+    // EFFECTS:     returns the event saved on line, or null if line is not a complete event
+    private static Event parse(String line) {
+        try {
+            JSONObject json = new JSONObject(line);
+            return new Event(json.getLong("time"), EventType.valueOf(json.getString("type")), json.getInt("id"),
+                    json.getLong("number"), json.optString("text", null), json.optString("detail", null));
+        } catch (JSONException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
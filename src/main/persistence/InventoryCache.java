@@ -0,0 +1,133 @@
+package persistence;
+
+import model.InventoryItem;
+import model.InventoryManagement;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Represents a cache of inventory lists already loaded from their snapshots, so switching back to a list does not
+// read it again.  The cache holds lists up to a memory budget, estimated from the items in each and the lengths of
+// their titles and descriptions, and evicts the least recently used lists first once it is over.  The estimate
+// counts every item's strings, even those shared with other items through the string pool, so it errs high.
+// Each list is cached with the stamp of its snapshot and journal, and a list whose files have been saved to since is
+// dropped rather than handed out.
+// A list is taken out of the cache while it is in use, and put back once it is no longer the list being changed.
+public class InventoryCache {
+    static final long LIST_BYTES = 1024;        // approximate bytes held by a list and its indexes when empty
+    static final long ITEM_BYTES = 240;         // approximate bytes held per item by a list and its indexes, besides
+                                                // the item's strings: the item, its store entry and index entries
+    static final long STRING_BYTES = 40;        // approximate bytes of a string object and its array, besides text
+    static final long POSTING_BYTES = 48;       // approximate bytes of one trigram posting in the title index
+
+    private final long budget;                          // most bytes the cached lists may hold together
+    private final LinkedHashMap<String, Entry> lists;   // cached lists by snapshot, least recently used first
+    private long usedBytes;                             // estimated bytes held by the cached lists
+
+    // Represents a cached list, with the stamp of the files it was loaded from
+    private static class Entry {
+        private final InventoryManagement list;
+        private final SnapshotStamp stamp;
+        private final long bytes;
+
+        Entry(InventoryManagement list, SnapshotStamp stamp, long bytes) {
+            this.list = list;
+            this.stamp = stamp;
+            this.bytes = bytes;
+        }
+    }
+
+    // EFFECTS:     constructs an empty cache that may hold a quarter of the maximum heap
+    public InventoryCache() {
+        this(Runtime.getRuntime().maxMemory() / 4);
+    }
+
+    // EFFECTS:     constructs an empty cache whose lists may hold an estimated budget bytes together
+    public InventoryCache(long budget) {
+        this.budget = budget;
+        this.lists = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    // EFFECTS:     returns the approximate bytes held on the heap by im: a fixed amount for the list, and for each
+    //              item a fixed amount, its title and description, and the lower-case copy of the title and its
+    //              trigram postings kept by the title index
+    static long estimateBytes(InventoryManagement im) {
+        long bytes = LIST_BYTES;
+        for (InventoryItem item : im) {
+            String title = item.getTitle();
+            bytes += ITEM_BYTES + 2 * stringBytes(title) + stringBytes(item.getDescription())
+                    + POSTING_BYTES * Math.max(0, title.length() - 2);
+        }
+        return bytes;
+    }
+
+    // EFFECTS:     returns the approximate bytes held on the heap by text: the string object, and one byte for each
+    //              character if every character is Latin-1, or two otherwise, as the JVM stores strings
+    static long stringBytes(String text) {
+        int charBytes = 1;
+        for (int i = 0; i < text.length() && charBytes == 1; i++) {
+            if (text.charAt(i) > 0xFF) {
+                charBytes = 2;
+            }
+        }
+        return STRING_BYTES + (long) charBytes * text.length();
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     removes the list saved to source from the cache and returns it, or returns null if it is not
+    //              cached or its snapshot or journal have changed since it was cached
+    public synchronized InventoryManagement take(String source) {
+        Entry entry = lists.remove(source);
+        if (entry == null) {
+            return null;
+        }
+        usedBytes -= entry.bytes;
+        return entry.stamp.equals(SnapshotStamp.of(source)) ? entry.list : null;
+    }
+
+    // REQUIRES:    im holds exactly what is saved to the source snapshot and its journal
+    // MODIFIES:    this
+    // EFFECTS:     caches im as the list saved to source, replacing any list cached for source, then evicts the
+    //              least recently used lists until the cache is within its budget.  a list larger than the whole
+    //              budget, or whose snapshot does not exist, is not cached
+    public synchronized void put(String source, InventoryManagement im) {
+        evict(source);
+        SnapshotStamp stamp = SnapshotStamp.of(source);
+        long bytes = estimateBytes(im);
+        if (stamp == null || bytes > budget) {
+            return;
+        }
+        lists.put(source, new Entry(im, stamp, bytes));
+        usedBytes += bytes;
+        Iterator<Map.Entry<String, Entry>> eldest = lists.entrySet().iterator();
+        while (usedBytes > budget) {
+            usedBytes -= eldest.next().getValue().bytes;
+            eldest.remove();
+        }
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     removes the list saved to source from the cache, if it is cached
+    public synchronized void evict(String source) {
+        Entry entry = lists.remove(source);
+        if (entry != null) {
+            usedBytes -= entry.bytes;
+        }
+    }
+
+    // EFFECTS:     returns true if a list saved to source is cached, whether or not it is still current
+    public synchronized boolean contains(String source) {
+        return lists.containsKey(source);
+    }
+
+    // EFFECTS:     returns the number of cached lists
+    public synchronized int size() {
+        return lists.size();
+    }
+
+    // EFFECTS:     returns the estimated bytes held by the cached lists
+    public synchronized long getUsedBytes() {
+        return usedBytes;
+    }
+}
@@ -0,0 +1,546 @@
+package persistence;
+
+import model.InventoryItem;
+import model.InventoryListener;
+import model.InventoryManagement;
+import model.StringPool;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Represents an append-only journal of the changes made to an inventory list since its snapshot was written.
+// Each add, remove, quantity change, edit and reorder point change is recorded as one line of JSON, except that the
+// quantity changes made by one batch are recorded together on one line.  Records are written and forced to disk in
+// groups by a background committer, either once COMMIT_BATCH changes are waiting or every COMMIT_INTERVAL
+// milliseconds, so a crash loses at most the last commit window and the thread making a change never waits for the
+// disk.  Saving only commits the records written since the last save, and the snapshot is rewritten (compacted) once
+// the journal holds more changes than the list holds items.
+// Compaction marks how far the journal has been committed, writes the new snapshot from a copy of the list while
+// changes go on being recorded, and only then briefly holds the journal to replace it with the records written since
+// the mark.  Records are idempotent, so those made while the copy was taken may safely be replayed over it.
+// Each save also rewrites the summary of the list kept next to the snapshot (see ListSummary), from an item count
+// and total quantity the journal keeps up to date as it records each change, so saving never walks the list.
+// Changes are recorded while holding the journal itself, and only for as long as it takes to add them to the
+// pending group.  Writes to the journal file are serialized on fileLock, and saves on saveLock.
+public class InventoryJournal implements InventoryListener {
+    public static final String EXTENSION = ".journal";
+    private static final int COMMIT_BATCH = 64;             // changes waiting before they are committed
+    private static final long COMMIT_INTERVAL = 200;        // milliseconds between background commits
+    private static final int MIN_COMPACT_RECORDS = 1000;    // changes always allowed before compacting
+
+    private final String source;            // location of the JSON or binary snapshot
+    private final Path journalPath;         // location of the journal, next to the snapshot
+    private final Object fileLock;          // guards channel, journalRecords, savedLength and savedRecords
+    private final Object saveLock;          // held by each save, compaction and discard
+    private volatile InventoryManagement im;    // inventory list being journaled
+    private FileChannel channel;            // journal file, open for reading and appending
+    private ScheduledExecutorService committer;
+    private StringBuilder pending;          // records not yet committed
+    private int pendingRecords;             // number of changes recorded in pending
+    private boolean commitRequested;        // true if a commit of the full pending group is waiting to run
+    private int journalRecords;             // number of changes recorded in the journal file
+    private long savedLength;               // length of the journal when the list was last saved
+    private int savedRecords;               // number of changes in the journal when the list was last saved
+    private IOException failure;            // failure of the last background commit, if any
+    private int itemCount;                  // number of items in the list
+    private long totalQuantity;             // sum of the quantities of the items in the list
+
+    // EFFECTS:     constructs a journal for the inventory list saved to the source snapshot file
+    public InventoryJournal(String source) {
+        this.source = source;
+        this.journalPath = journalPathFor(source);
+        this.fileLock = new Object();
+        this.saveLock = new Object();
+        this.pending = new StringBuilder();
+    }
+
+    // EFFECTS:     returns the location of the journal kept next to the given snapshot.  the journal of a JSON
+    //              snapshot replaces its extension, and the journal of a binary snapshot is added after it
+    public static Path journalPathFor(String source) {
+        String base = source.endsWith(".json") ? source.substring(0, source.length() - 5) : source;
+        return Paths.get(base + EXTENSION);
+    }
+
+    // MODIFIES:    this, im
+    // EFFECTS:     starts recording every change made to im, which must already reflect the snapshot and
+    //              any journal records (as read by JsonReader).  a torn record left at the end of the journal
+    //              by a crash is cut off.  the current state of im is treated as saved
+    //              throws IOException if the journal cannot be opened
+    public void open(InventoryManagement im) throws IOException {
+        synchronized (fileLock) {
+            channel = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            channel.truncate(validLength());
+            channel.position(channel.size());
+            savedLength = channel.size();
+            savedRecords = journalRecords;
+        }
+        synchronized (this) {
+            this.im = im;
+            itemCount = im.getListSize();
+            totalQuantity = im.getTotalQuantity();
+            committer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "journal-committer");
+                thread.setDaemon(true);
+                return thread;
+            });
+            committer.scheduleWithFixedDelay(this::backgroundCommit, COMMIT_INTERVAL, COMMIT_INTERVAL,
+                    TimeUnit.MILLISECONDS);
+        }
+        im.addListener(this);
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     writes every pending record to the journal and forces it to disk.  changes go on being
+    //              recorded while the records are written
+    //              throws IOException if the journal cannot be written, or if a background commit failed
+    public void commit() throws IOException {
+        synchronized (fileLock) {
+            String records;
+            int changes;
+            synchronized (this) {
+                if (failure != null) {
+                    IOException e = failure;
+                    failure = null;
+                    throw e;
+                }
+                records = pending.toString();
+                changes = pendingRecords;
+                pending = new StringBuilder();
+                pendingRecords = 0;
+            }
+            if (changes > 0) {
+                append(records, changes);
+            }
+        }
+    }
+
+    // REQUIRES:    fileLock is held
+    // MODIFIES:    this
+    // EFFECTS:     writes records, holding the given number of changes, to the end of the journal and forces it to
+    //              disk.  records that cannot be written are cut off the journal and put back in front of the pending
+    //              group, to be written by the next commit
+    //              throws IOException if the journal cannot be written
+    private void append(String records, int changes) throws IOException {
+        long length = channel.size();
+        try {
+            ByteBuffer bytes = StandardCharsets.UTF_8.encode(records);
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            channel.force(false);
+            journalRecords += changes;
+        } catch (IOException e) {
+            synchronized (this) {
+                pending.insert(0, records);
+                pendingRecords += changes;
+            }
+            channel.truncate(length);
+            throw e;
+        }
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     saves the inventory list by committing the changes recorded since the last save,
+    //              compacting them into the snapshot once the journal has grown larger than the list
+    //              throws IOException if the journal or snapshot cannot be written
+    public void save() throws IOException {
+        save(Progress.NONE);
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     saves the inventory list as save() does, reporting the progress of any compaction to progress
+    //              throws CancellationException if progress is cancelled before a compaction has finished,
+    //              leaving the changes committed to the journal and the snapshot as it was
+    //              throws IOException if the journal or snapshot cannot be written
+    public void save(Progress progress) throws IOException {
+        synchronized (saveLock) {
+            commit();
+            int committed;
+            synchronized (fileLock) {
+                committed = journalRecords;
+            }
+            if (committed > Math.max(MIN_COMPACT_RECORDS, im.getListSize())) {
+                compact(progress);
+            } else {
+                summarize();
+            }
+            synchronized (fileLock) {
+                savedLength = channel.size();
+                savedRecords = journalRecords;
+            }
+        }
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     writes the whole inventory list to a new snapshot, replacing the old one only once the new one
+    //              is complete, then empties the journal of the changes the snapshot holds
+    //              throws IOException if the snapshot or journal cannot be written
+    public void compact() throws IOException {
+        compact(Progress.NONE);
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     compacts the journal into the snapshot as compact() does, reporting the items written to progress.
+    //              changes made while the snapshot is written are recorded as usual, and are kept in the journal
+    //              throws CancellationException if progress is cancelled before the new snapshot is complete,
+    //              leaving the journal and the old snapshot as they were
+    //              throws IOException if the snapshot or journal cannot be written
+    public void compact(Progress progress) throws IOException {
+        synchronized (saveLock) {
+            long mark;
+            int markRecords;
+            synchronized (fileLock) {
+                commit();
+                mark = channel.size();
+                markRecords = journalRecords;
+            }
+            writeSnapshot(progress);
+            synchronized (fileLock) {
+                commit();
+                replaceJournal(mark);
+                journalRecords -= markRecords;
+                savedLength = 0;
+                savedRecords = 0;
+            }
+            summarize();
+        }
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     writes the whole inventory list, copied as it is now, to a new snapshot and forces it to disk, then
+    //              puts it in place of the old snapshot
+    //              throws CancellationException if progress is cancelled before the new snapshot is complete
+    //              throws IOException if the snapshot cannot be written
+    private void writeSnapshot(Progress progress) throws IOException {
+        String temporary = source + ".tmp";
+        try {
+            SnapshotConverter.write(im, temporary, SnapshotConverter.isBinary(source), progress);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(Paths.get(temporary));
+            throw e;
+        }
+        try (FileChannel snapshot = FileChannel.open(Paths.get(temporary), StandardOpenOption.WRITE)) {
+            snapshot.force(true);
+        }
+        Files.move(Paths.get(temporary), Paths.get(source), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // REQUIRES:    fileLock is held
+    // MODIFIES:    this
+    // EFFECTS:     replaces the journal with a new one holding only the records written after its first mark bytes,
+    //              forced to disk before it takes the old journal's place.  the journal is reopened for appending
+    //              either way
+    //              throws IOException if the new journal cannot be written
+    private void replaceJournal(long mark) throws IOException {
+        Path temporary = Paths.get(journalPath + ".tmp");
+        try (FileChannel tail = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            long copied = 0;
+            while (mark + copied < channel.size()) {
+                copied += channel.transferTo(mark + copied, channel.size() - mark - copied, tail);
+            }
+            tail.force(true);
+        }
+        channel.close();
+        try {
+            Files.move(temporary, journalPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            channel = FileChannel.open(journalPath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            channel.position(channel.size());
+        }
+    }
+
+    // EFFECTS:     rewrites the summary of the list next to the snapshot.  a summary that cannot be written is
+    //              left to be rebuilt by the catalogue, since it never holds anything the snapshot does not
+    private void summarize() {
+        int count;
+        long total;
+        synchronized (this) {
+            count = itemCount;
+            total = totalQuantity;
+        }
+        try {
+            ListSummary.write(source, im.getName(), count, total);
+        } catch (IOException expected) {
+            // the stale or missing summary is ignored when it is next read
+        }
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     drops every change recorded since the list was last saved, so the next load
+    //              will not include them.  the inventory list itself is left unchanged
+    //              throws IOException if the journal cannot be truncated
+    public void discard() throws IOException {
+        synchronized (saveLock) {
+            synchronized (fileLock) {
+                synchronized (this) {
+                    pending.setLength(0);
+                    pendingRecords = 0;
+                    failure = null;
+                }
+                journalRecords = savedRecords;
+                channel.truncate(savedLength);
+                channel.force(false);
+            }
+        }
+    }
+
+    // MODIFIES:    this, im
+    // EFFECTS:     stops recording changes to the inventory list, then commits any pending records
+    //              throws IOException if the pending records cannot be written
+    public void close() throws IOException {
+        im.removeListener(this);
+        synchronized (this) {
+            committer.shutdown();
+        }
+        synchronized (fileLock) {
+            try {
+                commit();
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+    // EFFECTS:     returns true if changes have been made to the inventory list since it was last saved
+    public boolean hasUnsavedChanges() {
+        synchronized (fileLock) {
+            synchronized (this) {
+                return pendingRecords > 0 || journalRecords > savedRecords || failure != null;
+            }
+        }
+    }
+
+    // EFFECTS:     returns the snapshot file the inventory list is saved to
+    public String getSource() {
+        return source;
+    }
+
+    // EFFECTS:     returns the inventory list being journaled, or null if the journal has not been opened
+    public synchronized InventoryManagement getInventoryList() {
+        return im;
+    }
+
+    // EFFECTS:     returns true if this journal is recording the changes made to im
+    public boolean isJournaling(InventoryManagement im) {
+        synchronized (fileLock) {
+            return getInventoryList() == im && channel != null && channel.isOpen();
+        }
+    }
+
+    // MODIFIES:    im
+    // EFFECTS:     applies the changes recorded in the journal next to the source snapshot to im, in order.
+    //              does nothing if there is no journal.  replay stops at a torn record left by a crash
+    //              throws IOException if the journal cannot be read
+    public static void replay(InventoryManagement im, String source) throws IOException {
+        Path path = journalPathFor(source);
+        if (!Files.exists(path)) {
+            return;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            while (line != null && apply(im, line)) {
+                line = reader.readLine();
+            }
+        }
+    }
+
+    @Override
+    public synchronized void itemAdded(InventoryItem item) {
+        itemCount++;
+        totalQuantity += item.getQuantity();
+        record(record("add", item)
+                .put("title", item.getTitle())
+                .put("quantity", item.getQuantity())
+                .put("description", item.getDescription()));
+    }
+
+    @Override
+    public synchronized void itemRemoved(InventoryItem item) {
+        itemCount--;
+        totalQuantity -= item.getQuantity();
+        record(record("remove", item));
+    }
+
+    @Override
+    public synchronized void quantityChanged(InventoryItem item, int oldQuantity) {
+        totalQuantity += item.getQuantity() - oldQuantity;
+        record(record("quantity", item).put("quantity", item.getQuantity()));
+    }
+
+    @Override
+    public synchronized void quantitiesChanged(List<InventoryItem> items, int[] oldQuantities) {
+        JSONArray ids = new JSONArray();
+        JSONArray quantities = new JSONArray();
+        for (int i = 0; i < items.size(); i++) {
+            InventoryItem item = items.get(i);
+            ids.put(item.getId());
+            quantities.put(item.getQuantity());
+            totalQuantity += item.getQuantity() - oldQuantities[i];
+        }
+        record(new JSONObject().put("op", "quantities").put("ids", ids).put("quantities", quantities), items.size());
+    }
+
+    @Override
+    public synchronized void itemEdited(InventoryItem item) {
+        record(record("edit", item)
+                .put("title", item.getTitle())
+                .put("description", item.getDescription()));
+    }
+
+    @Override
+    public synchronized void reorderPointChanged(InventoryItem item) {
+        record(record("reorder", item)
+                .put("reorderPoint", item.getReorderPoint())
+                .put("restockLevel", item.getRestockLevel()));
+    }
+
+    // EFFECTS:     returns a new journal record of the given operation on item
+    private JSONObject record(String op, InventoryItem item) {
+        return new JSONObject().put("op", op).put("id", item.getId());
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     adds the record of one change to the pending group, as record(record, changes) does
+    private void record(JSONObject record) {
+        record(record, 1);
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     adds the record of the given number of changes to the pending group, and asks the background
+    //              committer to commit the group once it is full
+    private void record(JSONObject record, int changes) {
+        pending.append(record.toString()).append('\n');
+        pendingRecords += changes;
+        if (pendingRecords >= COMMIT_BATCH && !commitRequested && !committer.isShutdown()) {
+            commitRequested = true;
+            committer.execute(this::backgroundCommit);
+        }
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     commits the pending group, keeping any failure to be reported by the next call to commit or save
+    private void backgroundCommit() {
+        synchronized (this) {
+            commitRequested = false;
+            if (failure != null) {
+                return;
+            }
+        }
+        try {
+            commit();
+        } catch (IOException e) {
+            synchronized (this) {
+                failure = e;
+            }
+        }
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     returns the length in bytes of the complete records at the start of the journal,
+    //              counting them as the records already in the journal
+    private long validLength() throws IOException {
+        long length = 0;
+        journalRecords = 0;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new FileInputStream(journalPath.toFile()), StandardCharsets.UTF_8))) {
+            String line = reader.readLine();
+            JSONObject record = line == null ? null : parse(line);
+            while (record != null) {
+                length += line.getBytes(StandardCharsets.UTF_8).length + 1;
+                journalRecords += changes(record);
+                line = reader.readLine();
+                record = line == null ? null : parse(line);
+            }
+        } catch (FileNotFoundException e) {
+            return 0;
+        }
+        return Math.min(length, channel.size());
+    }
+
+    // EFFECTS:     returns the journal record on line, or null if line is not a complete record
+    private static JSONObject parse(String line) {
+        try {
+            JSONObject record = new JSONObject(line);
+            return record.has("op") ? record : null;
+        } catch (JSONException e) {
+            return null;
+        }
+    }
+
+    // EFFECTS:     returns the number of changes held by record
+    private static int changes(JSONObject record) {
+        JSONArray ids = record.optJSONArray("ids");
+        return ids == null ? 1 : ids.length();
+    }
+
+    // MODIFIES:    im
+    // EFFECTS:     applies one journal record to im, returning false if the line is not a complete record.
+    //              records are idempotent, so a record already reflected in the snapshot can safely be applied again
+    private static boolean apply(InventoryManagement im, String line) {
+        JSONObject record = parse(line);
+        if (record == null) {
+            return false;
+        }
+        if (record.getString("op").equals("quantities")) {
+            applyQuantities(im, record);
+        } else {
+            applyChange(im, record);
+        }
+        return true;
+    }
+
+    // MODIFIES:    im
+    // EFFECTS:     sets the quantity of each item in the record of a batch's quantity changes that is still in im
+    private static void applyQuantities(InventoryManagement im, JSONObject record) {
+        JSONArray ids = record.getJSONArray("ids");
+        JSONArray quantities = record.getJSONArray("quantities");
+        for (int i = 0; i < ids.length(); i++) {
+            InventoryItem item = im.lookupItem(ids.getInt(i));
+            if (item != null) {
+                item.setQuantity(quantities.getInt(i));
+            }
+        }
+    }
+
+    // MODIFIES:    im
+    // EFFECTS:     applies the record of one change to im
+    private static void applyChange(InventoryManagement im, JSONObject record) {
+        int id = record.getInt("id");
+        InventoryItem item = im.lookupItem(id);
+        String op = record.getString("op");
+        if (op.equals("add") && item == null) {
+            im.addItemJson(new InventoryItem(id, StringPool.intern(record.getString("title")),
+                    record.getInt("quantity"), StringPool.intern(record.getString("description"))));
+        } else if (op.equals("remove") && item != null) {
+            im.removeItem(id);
+        } else if (op.equals("quantity") && item != null) {
+            item.setQuantity(record.getInt("quantity"));
+        } else if (op.equals("edit") && item != null) {
+            item.setTitle(record.getString("title"));
+            item.setDescription(record.getString("description"));
+        } else if (op.equals("reorder") && item != null) {
+            item.setReorderPoint(record.getInt("reorderPoint"), record.getInt("restockLevel"));
+        }
+    }
+}
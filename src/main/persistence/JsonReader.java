@@ -1,19 +1,28 @@
 package persistence;
 
+import metrics.InventoryMetrics;
 import model.InventoryItem;
 import model.InventoryManagement;
-import org.json.JSONArray;
+import model.StringPool;
+import org.json.JSONException;
 import org.json.JSONObject;
+import org.json.JSONTokener;
 
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Paths;
-import java.util.stream.Stream;
+import java.util.LinkedList;
+import java.util.List;
 
-// Represents a reader that reads inventory list from JSON data stored in file
+// Represents a reader that reads inventory list from JSON data stored in file.
+// The file is tokenized as it is read, and each item is added to the inventory list as soon as it has been parsed,
+// so only one item is held in memory as JSON at a time.
 public class JsonReader {
-    private String source; // TODO: review if this is correct
+    private final String source;    // source location
 
     // EFFECTS:     constructs reader to read from source file
     // CREDIT:      this portion is substantively modelled off of the JsonSerializationDemo
@@ -22,73 +31,155 @@ public class JsonReader {
         this.source = source;
     }
 
-    // EFFECTS:     reads inventorymanagement from file and returns it;
+    // EFFECTS:     reads inventorymanagement from file and returns it, replaying any changes recorded in its
+    //              journal since the file was written;
+    //              throws FileNotFoundException if the source file does not exist, and
     //              throws IOException if an error occurs reading data from file
     // CREDIT:      this portion is substantively modelled off of the JsonSerializationDemo
     //              provided as a reference for the term project
     public InventoryManagement read() throws IOException {
-        String jsonData = readFile(source);
-        JSONObject jsonObject = new JSONObject(jsonData);
-        return parseInventoryManagement(jsonObject);
+        return read(Progress.NONE);
     }
 
-    // EFFECTS:     reads source file as string and returns it
-    // CREDIT:      this portion is substantively modelled off of the JsonSerializationDemo
-    //              provided as a reference for the term project
-    private String readFile(String source) throws IOException {
-        StringBuilder inventoryBuilder = new StringBuilder();
-
-        try (Stream<String> stream = Files.lines(Paths.get(source), StandardCharsets.UTF_8)) {
-            stream.forEach(s -> inventoryBuilder.append(s));
+    // EFFECTS:     reads inventorymanagement from file as read() does, reporting the bytes read to progress
+    //              throws CancellationException if progress is cancelled before the file has been read
+    public InventoryManagement read(Progress progress) throws IOException {
+        long start = InventoryMetrics.JSON_READ.start();
+        try (Reader reader = new BufferedReader(new InputStreamReader(
+                new ProgressInputStream(new FileInputStream(source), new File(source).length(), progress),
+                StandardCharsets.UTF_8))) {
+            InventoryManagement im = parseInventoryManagement(new JSONTokener(reader));
+            InventoryJournal.replay(im, source);
+            InventoryMetrics.JSON_READ.finish(start);
+            return im;
+        } catch (JSONException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw e;
         }
-
-        return inventoryBuilder.toString();
     }
 
-    // EFFECTS:     parses inventorymanagement from JSON object and returns it
+    // EFFECTS:     parses inventorymanagement from the JSON object being tokenized and returns it
+    //              throws JSONException if the source is not a valid inventory list
     // CREDIT:      this portion is substantively modelled off of the JsonSerializationDemo
     //              provided as a reference for the term project
-    private InventoryManagement parseInventoryManagement(JSONObject jsonObject) {
-        // TODO: investigate this.
-        String name = jsonObject.getString("name");
-        InventoryManagement im = new InventoryManagement(name);
-        addItems(im, jsonObject);
-        return im;
+    private InventoryManagement parseInventoryManagement(JSONTokener tokener) {
+        StreamedList list = new StreamedList();
+        expect(tokener, '{');
+        if (tokener.nextClean() == '}') {
+            return list.finish(tokener);
+        }
+        tokener.back();
+        do {
+            String key = nextKey(tokener);
+            if (key.equals("items")) {
+                addItems(list, tokener);
+            } else if (key.equals("name")) {
+                list.setName(tokener.nextValue().toString());
+            } else if (key.equals("nextId")) {
+                list.nextId = ((Number) tokener.nextValue()).intValue();
+            } else {
+                tokener.nextValue();
+            }
+        } while (hasNextElement(tokener, '}'));
+        return list.finish(tokener);
     }
 
-    // MODIFIES:    im
-    // EFFECTS:     parses items from JSON object and adds them to inventorymanagement
+    // MODIFIES:    list
+    // EFFECTS:     parses items from the JSON array being tokenized and adds them to inventorymanagement one by one
     // CREDIT:      this portion is substantively modelled off of the JsonSerializationDemo
     //              provided as a reference for the term project
-    private void addItems(InventoryManagement im, JSONObject jsonObject) {
-        JSONArray jsonArray = jsonObject.getJSONArray("items");
-        for (Object json : jsonArray) {
-            JSONObject nextItem = (JSONObject) json;
-            addItem(im, nextItem);
+    private void addItems(StreamedList list, JSONTokener tokener) {
+        expect(tokener, '[');
+        if (tokener.nextClean() == ']') {
+            return;
         }
+        tokener.back();
+        do {
+            Object json = tokener.nextValue();
+            if (!(json instanceof JSONObject)) {
+                throw tokener.syntaxError("Expected an inventory item");
+            }
+            list.add(addItem((JSONObject) json));
+        } while (hasNextElement(tokener, ']'));
     }
 
-    // MODIFIES:    im
-    // EFFECTS:     parses item from JSON object and adds it to inventorymanagement
+    // EFFECTS:     parses item from JSON object and returns it, sharing its title and description with any
+    //              other item holding the same text.  items saved without a reorder point have none
     // CREDIT:      this portion is substantively modelled off of the JsonSerializationDemo
     //              provided as a reference for the term project
-/*
-    public InventoryItem(int id, String title, int quantity, String description) {
-        this.id = id;
-        this.title = title;
-        this.quantity = quantity;
-        this.description = description;
-    } */
-    private void addItem(InventoryManagement im, JSONObject jsonObject) {
-        Integer id = jsonObject.getInt("id");
-        String title = jsonObject.getString("title");
-        Integer quantity = jsonObject.getInt("quantity");
-        String description = jsonObject.getString("description");
-        InventoryItem item = new InventoryItem(id, title, quantity, description);
-        im.addItemJson(item);
+    private InventoryItem addItem(JSONObject jsonObject) {
+        int id = jsonObject.getInt("id");
+        String title = StringPool.intern(jsonObject.getString("title"));
+        int quantity = jsonObject.getInt("quantity");
+        String description = StringPool.intern(jsonObject.getString("description"));
+        return new InventoryItem(id, title, quantity, description, jsonObject.optInt("reorderPoint"),
+                jsonObject.optInt("restockLevel"));
+    }
 
+    // EFFECTS:     reads the next key of a JSON object and the colon following it
+    private String nextKey(JSONTokener tokener) {
+        expect(tokener, '"');
+        String key = tokener.nextString('"');
+        expect(tokener, ':');
+        return key;
+    }
 
+    // EFFECTS:     reads the separator after an element of an object or array.
+    //              returns true if another element follows, and false if the closing character was read
+    private boolean hasNextElement(JSONTokener tokener, char closing) {
+        char next = tokener.nextClean();
+        if (next == ',') {
+            return true;
+        } else if (next == closing) {
+            return false;
+        }
+        throw tokener.syntaxError("Expected ',' or '" + closing + "'");
+    }
 
+    // EFFECTS:     reads the next non-whitespace character, throwing JSONException if it is not the expected one
+    private void expect(JSONTokener tokener, char expected) {
+        if (tokener.nextClean() != expected) {
+            throw tokener.syntaxError("Expected '" + expected + "'");
+        }
+    }
+
+    // Represents an inventory list while it is being read.  Items are added to the list as they are parsed,
+    // except for any that appear in the file before the list name, which are held until the list can be created.
+    private static class StreamedList {
+        private InventoryManagement im;
+        private final List<InventoryItem> pending = new LinkedList<>();
+        private int nextId;
+
+        // MODIFIES:    this
+        // EFFECTS:     creates the inventory list with the given name, adding any items already parsed to it
+        void setName(String name) {
+            im = new InventoryManagement(name);
+            for (InventoryItem item : pending) {
+                im.addItemJson(item);
+            }
+            pending.clear();
+        }
+
+        // MODIFIES:    this
+        // EFFECTS:     adds the parsed item to the inventory list, or holds it if the list has no name yet
+        void add(InventoryItem item) {
+            if (im == null) {
+                pending.add(item);
+            } else {
+                im.addItemJson(item);
+            }
+        }
 
+        // EFFECTS:     returns the inventory list that has been read, restoring its saved next ID if there was one
+        //              throws JSONException if the list has no name
+        InventoryManagement finish(JSONTokener tokener) {
+            if (im == null) {
+                throw tokener.syntaxError("Inventory list has no name");
+            }
+            im.setNextId(nextId);
+            return im;
+        }
     }
 }
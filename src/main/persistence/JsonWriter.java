@@ -1,19 +1,37 @@
 package persistence;
 
+import metrics.InventoryMetrics;
+import model.Event;
+import model.EventLog;
+import model.EventType;
+import model.InventoryItem;
 import model.InventoryManagement;
 import org.json.JSONObject;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
 
-// Represents a writer that writes JSON representation of Inventory Management to file
+// Represents a writer that writes JSON representation of Inventory Management to file.
+// Each item is serialized straight to a buffered file stream, so the whole document is never built in memory.
+// The print writer does not throw when the file cannot be written, so any failure is only reported once the writer
+// is closed, and a file is not complete unless close() returns normally.
 public class JsonWriter {
     private static final int TAB = 4;  // for spacing purposes in the JSON file
+    private static final int REPORT_INTERVAL = 1024;    // items written between reports of progress
     private PrintWriter writer;        // print writer object
     private final String destination;        // destination location
+    private final boolean prettyPrint;       // true if the file is indented for reading, false for compact output
 
-    // EFFECTS:     constructs writer to write to the destination file
+    // EFFECTS:     constructs writer to write indented JSON to the destination file
     public JsonWriter(String destination) {
+        this(destination, true);
+    }
+
+    // EFFECTS:     constructs writer to write to the destination file,
+    //              indenting the JSON only if prettyPrint is true
+    public JsonWriter(String destination, boolean prettyPrint) {
         this.destination = destination;
+        this.prettyPrint = prettyPrint;
     }
 
     // MODIFIES:    this
@@ -22,24 +40,51 @@ public class JsonWriter {
     // CREDIT:      this portion is substantively modelled off of the JsonSerializationDemo
     //              provided as a reference for the term project
     public void open() throws FileNotFoundException {
-        writer = new PrintWriter(new File(destination));
+        writer = new PrintWriter(new BufferedWriter(
+                new OutputStreamWriter(new FileOutputStream(destination), StandardCharsets.UTF_8)));
     }
 
     // MODIFIES:    this
-    // EFFECTS:     writes JSON representation of InventoryManagement to file
+    // EFFECTS:     writes JSON representation of InventoryManagement to file, one item at a time
+    //              logs that the list is saved
     // CREDIT:      this portion is substantively modelled off of the JsonSerializationDemo
     //              provided as a reference for the term project
     public void write(InventoryManagement im) {
-        JSONObject json = im.toJson();
-        saveToFile(json.toString(TAB));
+        write(im, Progress.NONE);
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     writes JSON representation of InventoryManagement to file as write(im) does, reporting the
+    //              items written to progress
+    //              throws CancellationException if progress is cancelled before every item has been written,
+    //              leaving the file incomplete
+    public void write(InventoryManagement im, Progress progress) {
+        long start = InventoryMetrics.JSON_WRITE.start();
+        writer.print('{');
+        writeKey(1, "name");
+        writer.print(JSONObject.quote(im.getName()));
+        writer.print(',');
+        writeKey(1, "nextId");
+        writer.print(im.getNextId());
+        writer.print(',');
+        writeKey(1, "items");
+        writeItems(im, progress);
+        newLine(0);
+        writer.print('}');
+        EventLog.getInstance().logEvent(new Event(EventType.LIST_SAVED, im.getListSize(), im.getName()));
+        InventoryMetrics.JSON_WRITE.finish(start);
     }
 
     // MODIFIES:    this
-    // EFFECTS:     closes writer
+    // EFFECTS:     flushes and closes writer
+    //              throws IOException if anything written since the writer was opened could not be written to file
     // CREDIT:      this portion is substantively modelled off of the JsonSerializationDemo
     //              provided as a reference for the term project
-    public void close() {
+    public void close() throws IOException {
         writer.close();
+        if (writer.checkError()) {
+            throw new IOException("Unable to write to file: " + destination);
+        }
     }
 
     // MODIFIES:    this
@@ -49,4 +94,75 @@ public class JsonWriter {
     public void saveToFile(String json) {
         writer.print(json);
     }
+
+    // MODIFIES:    this
+    // EFFECTS:     writes a JSON array of the items in InventoryManagement to file, one item at a time,
+    //              reporting the items written to progress
+    private void writeItems(InventoryManagement im, Progress progress) {
+        writer.print('[');
+        int written = 0;
+        for (InventoryItem item : im) {
+            if (written > 0) {
+                writer.print(',');
+            }
+            writeItem(item);
+            if (++written % REPORT_INTERVAL == 0) {
+                Progress.report(progress, written, im.getListSize());
+            }
+        }
+        Progress.report(progress, written, im.getListSize());
+        if (written > 0) {
+            newLine(1);
+        }
+        writer.print(']');
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     writes JSON representation of a single inventory item to file, including its reorder point and
+    //              restock level if it has them
+    private void writeItem(InventoryItem item) {
+        newLine(2);
+        writer.print('{');
+        writeKey(3, "id");
+        writer.print(item.getId());
+        writer.print(',');
+        writeKey(3, "title");
+        writer.print(JSONObject.quote(item.getTitle()));
+        writer.print(',');
+        writeKey(3, "quantity");
+        writer.print(item.getQuantity());
+        writer.print(',');
+        writeKey(3, "description");
+        writer.print(JSONObject.quote(item.getDescription()));
+        if (item.getReorderPoint() > 0 || item.getRestockLevel() > 0) {
+            writer.print(',');
+            writeKey(3, "reorderPoint");
+            writer.print(item.getReorderPoint());
+            writer.print(',');
+            writeKey(3, "restockLevel");
+            writer.print(item.getRestockLevel());
+        }
+        newLine(2);
+        writer.print('}');
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     writes an object key on a new line at the given depth, followed by its colon
+    private void writeKey(int depth, String key) {
+        newLine(depth);
+        writer.print('"');
+        writer.print(key);
+        writer.print(prettyPrint ? "\": " : "\":");
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     if pretty printing, starts a new line indented to the given depth
+    private void newLine(int depth) {
+        if (prettyPrint) {
+            writer.print('\n');
+            for (int i = 0; i < depth * TAB; i++) {
+                writer.print(' ');
+            }
+        }
+    }
 }
@@ -0,0 +1,73 @@
+package persistence;
+
+import org.json.JSONException;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Represents a catalogue of the inventory lists saved in a directory.  Each list is described by the summary in
+// its sidecar, so listing the directory reads only a few bytes per list.  A list without a current sidecar, such
+// as one saved by an older version or changed since, is read in full once and its sidecar rewritten.  Files that
+// are not inventory list snapshots are left out.
+public class ListCatalogue {
+    private final File directory;       // directory the lists are saved in
+
+    // EFFECTS:     constructs a catalogue of the lists saved in the given directory
+    public ListCatalogue(String directory) {
+        this.directory = new File(directory);
+    }
+
+    // EFFECTS:     returns a summary of every list saved in the directory, ordered by file name
+    public List<ListSummary> list() {
+        return list(Progress.NONE);
+    }
+
+    // EFFECTS:     returns a summary of every list saved in the directory as list() does, reporting the snapshots
+    //              checked out of the snapshots found to progress
+    //              throws CancellationException if progress is cancelled before every snapshot has been checked
+    public List<ListSummary> list(Progress progress) {
+        File[] snapshots = snapshotsIn(directory);
+        List<ListSummary> summaries = new ArrayList<>();
+        for (int i = 0; i < snapshots.length; i++) {
+            ListSummary summary = summarize(snapshots[i].getPath());
+            if (summary != null) {
+                summaries.add(summary);
+            }
+            Progress.report(progress, i + 1, snapshots.length);
+        }
+        return summaries;
+    }
+
+    // EFFECTS:     returns the JSON and binary snapshots in directory, ordered by file name.  returns no snapshots
+    //              if directory does not exist or cannot be listed
+    static File[] snapshotsIn(File directory) {
+        File[] snapshots = directory.listFiles(file -> file.isFile() && isSnapshot(file.getName()));
+        if (snapshots == null) {
+            return new File[0];
+        }
+        Arrays.sort(snapshots);
+        return snapshots;
+    }
+
+    // EFFECTS:     returns true if a file with the given name is a JSON or binary snapshot
+    private static boolean isSnapshot(String fileName) {
+        return fileName.endsWith(".json") || SnapshotConverter.isBinary(fileName);
+    }
+
+    // EFFECTS:     returns the summary of the list saved to source, reading the list and rewriting its sidecar if
+    //              the sidecar is missing or stale.  returns null if source is not an inventory list snapshot
+    private static ListSummary summarize(String source) {
+        ListSummary summary = ListSummary.read(source);
+        if (summary != null) {
+            return summary;
+        }
+        try {
+            return ListSummary.write(source, SnapshotConverter.read(source));
+        } catch (IOException | JSONException e) {
+            return null;
+        }
+    }
+}
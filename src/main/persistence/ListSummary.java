@@ -0,0 +1,117 @@
+package persistence;
+
+import model.InventoryManagement;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Date;
+
+// Represents a summary of a saved inventory list: its name, item count and total quantity, and when it was saved.
+// The summary is kept in a small sidecar file next to the snapshot, written each time the list is saved, so lists
+// can be listed without reading their snapshots.  The sidecar also holds the stamp of the snapshot and journal it
+// summarizes, and a sidecar whose stamp no longer matches the files on disk is ignored as stale.
+public class ListSummary {
+    public static final String EXTENSION = ".summary";
+
+    private final String source;            // snapshot the list is saved to
+    private final String name;              // name of the list
+    private final int itemCount;            // number of items in the list
+    private final long totalQuantity;       // sum of the quantities of the items in the list
+    private final SnapshotStamp stamp;      // state of the snapshot and journal summarized
+
+    // EFFECTS:     constructs a summary of the list saved to source
+    ListSummary(String source, String name, int itemCount, long totalQuantity, SnapshotStamp stamp) {
+        this.source = source;
+        this.name = name;
+        this.itemCount = itemCount;
+        this.totalQuantity = totalQuantity;
+        this.stamp = stamp;
+    }
+
+    // EFFECTS:     returns the location of the sidecar kept next to the given snapshot.  the sidecar of a JSON
+    //              snapshot replaces its extension, and the sidecar of a binary snapshot is added after it
+    public static Path summaryPathFor(String source) {
+        String base = source.endsWith(".json") ? source.substring(0, source.length() - 5) : source;
+        return Paths.get(base + EXTENSION);
+    }
+
+    // EFFECTS:     returns the summary in the sidecar of the source snapshot, or null if there is no sidecar, it
+    //              cannot be read, or the snapshot or journal have changed since it was written
+    public static ListSummary read(String source) {
+        SnapshotStamp current = SnapshotStamp.of(source);
+        try {
+            JSONObject json = new JSONObject(new String(Files.readAllBytes(summaryPathFor(source)),
+                    StandardCharsets.UTF_8));
+            SnapshotStamp stamp = new SnapshotStamp(json.getLong("modified"), json.getLong("snapshotLength"),
+                    json.getLong("journalLength"));
+            if (!stamp.equals(current)) {
+                return null;
+            }
+            return new ListSummary(source, json.getString("name"), json.getInt("itemCount"),
+                    json.getLong("totalQuantity"), stamp);
+        } catch (IOException | JSONException e) {
+            return null;
+        }
+    }
+
+    // EFFECTS:     writes a sidecar summarizing im, as just saved to the source snapshot and its journal, and
+    //              returns the summary
+    //              throws IOException if the snapshot does not exist or the sidecar cannot be written
+    public static ListSummary write(String source, InventoryManagement im) throws IOException {
+        return write(source, im.getName(), im.getListSize(), im.getTotalQuantity());
+    }
+
+    // EFFECTS:     writes a sidecar summarizing the list with the given name, item count and total quantity, as just
+    //              saved to the source snapshot and its journal, and returns the summary
+    //              throws IOException if the snapshot does not exist or the sidecar cannot be written
+    public static ListSummary write(String source, String name, int itemCount, long totalQuantity)
+            throws IOException {
+        SnapshotStamp stamp = SnapshotStamp.of(source);
+        if (stamp == null) {
+            throw new NoSuchFileException(source);
+        }
+        ListSummary summary = new ListSummary(source, name, itemCount, totalQuantity, stamp);
+        JSONObject json = new JSONObject()
+                .put("name", summary.name)
+                .put("itemCount", summary.itemCount)
+                .put("totalQuantity", summary.totalQuantity)
+                .put("modified", stamp.getModified())
+                .put("snapshotLength", stamp.getSnapshotLength())
+                .put("journalLength", stamp.getJournalLength());
+        Files.write(summaryPathFor(source), json.toString().getBytes(StandardCharsets.UTF_8));
+        return summary;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    public long getTotalQuantity() {
+        return totalQuantity;
+    }
+
+    // EFFECTS:     returns when the list was last saved
+    public Date getModified() {
+        return new Date(stamp.getModified());
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + Paths.get(source).getFileName() + ") - " + itemCount + " item(s), total quantity "
+                + totalQuantity + ", saved " + getModified();
+    }
+}
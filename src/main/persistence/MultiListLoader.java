@@ -0,0 +1,88 @@
+package persistence;
+
+import model.InventoryLists;
+import model.InventoryManagement;
+import org.json.JSONException;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Represents a loader of every inventory list saved in a directory at once, for queries across all of them.
+// The snapshots are split in halves on a fork-join pool until each task holds a single list, so idle workers steal
+// the remaining halves and the lists are read in parallel on every core.  Each list is read with the changes in its
+// journal applied, as it is when loaded on its own.  Files that are not inventory list snapshots, or cannot be
+// read, are left out, as they are from the catalogue.
+public class MultiListLoader {
+    private final File directory;       // directory the lists are saved in
+    private final ForkJoinPool pool;    // pool the lists are read on
+
+    // EFFECTS:     constructs a loader of the lists saved in the given directory, reading them on the common pool
+    public MultiListLoader(String directory) {
+        this(directory, ForkJoinPool.commonPool());
+    }
+
+    // EFFECTS:     constructs a loader of the lists saved in the given directory, reading them on pool
+    public MultiListLoader(String directory, ForkJoinPool pool) {
+        this.directory = new File(directory);
+        this.pool = pool;
+    }
+
+    // EFFECTS:     returns every list saved in the directory by the path of its snapshot, ordered by file name
+    public InventoryLists load() {
+        File[] snapshots = ListCatalogue.snapshotsIn(directory);
+        InventoryManagement[] loaded = new InventoryManagement[snapshots.length];
+        pool.invoke(new LoadTask(snapshots, loaded, 0, snapshots.length));
+        Map<String, InventoryManagement> lists = new LinkedHashMap<>();
+        for (int i = 0; i < snapshots.length; i++) {
+            if (loaded[i] != null) {
+                lists.put(snapshots[i].getPath(), loaded[i]);
+            }
+        }
+        return new InventoryLists(lists);
+    }
+
+    // EFFECTS:     returns the list saved to source with its journal applied, or null if it cannot be read
+    private static InventoryManagement read(String source) {
+        try {
+            InventoryManagement im = SnapshotConverter.read(source);
+            InventoryJournal.replay(im, source);
+            return im;
+        } catch (IOException | JSONException e) {
+            return null;
+        }
+    }
+
+    // Represents the reading of the snapshots from position from up to position to, each into the same position
+    // of loaded
+    private static class LoadTask extends RecursiveAction {
+        private final File[] snapshots;
+        private final InventoryManagement[] loaded;
+        private final int from;
+        private final int to;
+
+        LoadTask(File[] snapshots, InventoryManagement[] loaded, int from, int to) {
+            this.snapshots = snapshots;
+            this.loaded = loaded;
+            this.from = from;
+            this.to = to;
+        }
+
+        // MODIFIES:    loaded
+        // EFFECTS:     reads the snapshot if this task holds one, and otherwise reads each half in parallel
+        @Override
+        protected void compute() {
+            if (to - from <= 1) {
+                if (from < to) {
+                    loaded[from] = read(snapshots[from].getPath());
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new LoadTask(snapshots, loaded, from, middle), new LoadTask(snapshots, loaded, middle, to));
+        }
+    }
+}
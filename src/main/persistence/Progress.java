@@ -0,0 +1,30 @@
+package persistence;
+
+import java.util.concurrent.CancellationException;
+
+// Represents an observer of the progress of a long read or write, which may also ask for it to be cancelled.
+// Reads report the bytes read out of the size of the file, and writes report the items written out of the size
+// of the list.  A read or write that is cancelled stops at the next report by throwing CancellationException.
+public interface Progress {
+
+    // Represents the observer of work that nobody is watching, which is never cancelled
+    Progress NONE = (done, total) -> {
+    };
+
+    // EFFECTS:     called from the thread doing the work, as it proceeds, with the amount done out of the total
+    void update(long done, long total);
+
+    // EFFECTS:     returns true if the work should stop at its next report
+    default boolean isCancelled() {
+        return false;
+    }
+
+    // EFFECTS:     reports the amount done out of the total to progress
+    //              throws CancellationException if progress has been cancelled
+    static void report(Progress progress, long done, long total) {
+        progress.update(done, total);
+        if (progress.isCancelled()) {
+            throw new CancellationException("Cancelled");
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package persistence;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+// Represents an input stream that reports the bytes read from it to a Progress, at most once per REPORT_INTERVAL
+// bytes, and stops with CancellationException once the progress is cancelled
+class ProgressInputStream extends FilterInputStream {
+    private static final long REPORT_INTERVAL = 64 << 10;
+
+    private final Progress progress;    // observer of the bytes read
+    private final long total;           // bytes in the stream
+    private long done;                  // bytes read so far
+    private long reported;              // bytes read when progress was last reported
+
+    // EFFECTS:     constructs a stream reading in, which holds total bytes, reporting to progress
+    ProgressInputStream(InputStream in, long total, Progress progress) {
+        super(in);
+        this.progress = progress;
+        this.total = total;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int read = super.read();
+        advance(read < 0 ? 0 : 1);
+        return read;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        int read = super.read(buffer, offset, length);
+        advance(Math.max(read, 0));
+        return read;
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     counts the bytes just read, reporting them if enough have been read since the last report,
+    //              or if the end of the stream has been reached
+    //              throws CancellationException if the progress has been cancelled
+    private void advance(int read) {
+        done += read;
+        boolean atEnd = read == 0 || done >= total;
+        if (done - reported >= REPORT_INTERVAL || (atEnd && done > reported)) {
+            reported = done;
+            Progress.report(progress, done, total);
+        }
+    }
+}
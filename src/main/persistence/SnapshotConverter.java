@@ -0,0 +1,78 @@
+package persistence;
+
+import model.InventoryManagement;
+
+import java.io.IOException;
+
+// Represents the choice between the JSON and binary snapshot formats, made from the file extension.
+// Snapshots ending in BinaryWriter.EXTENSION are binary, and every other snapshot is JSON.
+public class SnapshotConverter {
+
+    // EFFECTS:     returns true if the snapshot at path is in the binary format
+    public static boolean isBinary(String path) {
+        return path.endsWith(BinaryWriter.EXTENSION);
+    }
+
+    // EFFECTS:     reads the inventory list from the snapshot at source, in the format given by its extension
+    //              throws IOException if the snapshot cannot be read
+    public static InventoryManagement read(String source) throws IOException {
+        return read(source, Progress.NONE);
+    }
+
+    // EFFECTS:     reads the inventory list from the snapshot at source as read(source) does, reporting the bytes
+    //              read to progress
+    //              throws CancellationException if progress is cancelled before the snapshot has been read
+    //              throws IOException if the snapshot cannot be read
+    public static InventoryManagement read(String source, Progress progress) throws IOException {
+        if (isBinary(source)) {
+            return new BinaryReader(source).read(progress);
+        }
+        return new JsonReader(source).read(progress);
+    }
+
+    // EFFECTS:     writes the inventory list to a snapshot at destination, in the format given by its extension
+    //              throws IOException if the snapshot cannot be written
+    public static void write(InventoryManagement im, String destination) throws IOException {
+        write(im, destination, isBinary(destination));
+    }
+
+    // EFFECTS:     writes the inventory list to a snapshot at destination, in the binary format if binary is true
+    //              and in compact JSON otherwise
+    //              throws IOException if the snapshot cannot be written
+    public static void write(InventoryManagement im, String destination, boolean binary) throws IOException {
+        write(im, destination, binary, Progress.NONE);
+    }
+
+    // EFFECTS:     writes the inventory list to a snapshot at destination as write(im, destination, binary) does,
+    //              reporting the items written to progress
+    //              throws CancellationException if progress is cancelled before the snapshot has been written,
+    //              leaving it incomplete
+    //              throws IOException if the snapshot cannot be written
+    public static void write(InventoryManagement im, String destination, boolean binary, Progress progress)
+            throws IOException {
+        if (binary) {
+            BinaryWriter writer = new BinaryWriter(destination);
+            writer.open();
+            try {
+                writer.write(im, progress);
+            } finally {
+                writer.close();
+            }
+        } else {
+            JsonWriter writer = new JsonWriter(destination, false);
+            writer.open();
+            try {
+                writer.write(im, progress);
+            } finally {
+                writer.close();
+            }
+        }
+    }
+
+    // EFFECTS:     converts the snapshot at source into a snapshot at destination, each in the format given by
+    //              its extension, so JSON lists can be converted to binary and back
+    //              throws IOException if either snapshot cannot be read or written
+    public static void convert(String source, String destination) throws IOException {
+        write(read(source), destination);
+    }
+}
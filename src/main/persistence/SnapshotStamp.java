@@ -0,0 +1,61 @@
+package persistence;
+
+import java.io.File;
+
+// Represents the state on disk of a saved inventory list: when its snapshot or journal was last modified, and how
+// long each of them is.  Two equal stamps of the same list mean it has not been saved again in between, without
+// reading either file.
+class SnapshotStamp {
+    private final long modified;            // latest modification time of the snapshot and journal, in ms
+    private final long snapshotLength;      // length of the snapshot in bytes
+    private final long journalLength;       // length of the journal in bytes, 0 if there is none
+
+    // EFFECTS:     constructs a stamp of the given times and lengths
+    SnapshotStamp(long modified, long snapshotLength, long journalLength) {
+        this.modified = modified;
+        this.snapshotLength = snapshotLength;
+        this.journalLength = journalLength;
+    }
+
+    // EFFECTS:     returns the current stamp of the list saved to the source snapshot, or null if the snapshot
+    //              does not exist
+    static SnapshotStamp of(String source) {
+        File snapshot = new File(source);
+        if (!snapshot.isFile()) {
+            return null;
+        }
+        File journal = InventoryJournal.journalPathFor(source).toFile();
+        return new SnapshotStamp(Math.max(snapshot.lastModified(), journal.lastModified()), snapshot.length(),
+                journal.length());
+    }
+
+    long getModified() {
+        return modified;
+    }
+
+    long getSnapshotLength() {
+        return snapshotLength;
+    }
+
+    long getJournalLength() {
+        return journalLength;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        SnapshotStamp stamp = (SnapshotStamp) o;
+        return modified == stamp.modified && snapshotLength == stamp.snapshotLength
+                && journalLength == stamp.journalLength;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(modified) * 31 * 31 + Long.hashCode(snapshotLength) * 31 + Long.hashCode(journalLength);
+    }
+}
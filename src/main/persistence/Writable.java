@@ -6,5 +6,5 @@ public interface Writable {
     // EFFECTS:     returns this as JSON object
     // CREDIT:      this portion is substantively modelled off of the JsonSerializationDemo
     //              provided as a reference for the term project
-    //JSONObject toJson();
+    JSONObject toJson();
 }
@@ -1,14 +1,22 @@
 package ui;
 
 import exceptions.IllegalQuantityException;
+import metrics.InventoryMetrics;
 import model.EventLog;
 import model.Event;
+import model.EventType;
 import model.InventoryItem;
 import model.InventoryManagement;
-import persistence.JsonReader;
-import persistence.JsonWriter;
+import persistence.BinaryWriter;
+import persistence.EventLogAppender;
+import persistence.InventoryCache;
+import persistence.InventoryJournal;
+import persistence.ListCatalogue;
+import persistence.ListSummary;
+import persistence.SnapshotConverter;
 
 import javax.imageio.ImageIO;
+import javax.management.JMException;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
@@ -20,8 +28,10 @@ import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.text.NumberFormat;
-import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
 
 // This is the front-end interface where the UI will be processed.
 public class InventoryAppUI extends JFrame {
@@ -30,8 +40,15 @@ public class InventoryAppUI extends JFrame {
 
     private String jsonStore;
 
-    private JsonWriter jsonWriter;
-    private JsonReader jsonReader;
+    private InventoryJournal journal;
+
+    private static final String LIST_DIRECTORY = "./data";
+    private final InventoryCache listCache = new InventoryCache();  // lists loaded before, ready to switch back to
+
+    private PersistenceWorker<Void> saving;     // latest save, which may still be writing after being cancelled
+
+    private static final String EVENT_LOG_DIRECTORY = "./data/logs";
+    private EventLogAppender eventLogAppender;
 
     private static final int WIDTH = 1280;
     private static final int HEIGHT = 720;
@@ -39,6 +56,7 @@ public class InventoryAppUI extends JFrame {
     private JDesktopPane program;
     private JInternalFrame buttons;
     private JInternalFrame inventoryDisplay;
+    private SearchUI searchDisplay;
     private JInternalFrame addItem;
 
     private JTextField addTitle;
@@ -49,9 +67,35 @@ public class InventoryAppUI extends JFrame {
 
     // EFFECTS:     starts running the inventory application
     public InventoryAppUI() {
+        startEventLogAppender();
+        registerMetrics();
         gui();
     }
 
+    // MODIFIES:    this
+    // EFFECTS:     makes the operation metrics and list size visible to JMX clients such as JConsole.
+    //              the program runs without them if they cannot be registered
+    private void registerMetrics() {
+        try {
+            InventoryMetrics.getInstance().register();
+        } catch (JMException e) {
+            System.out.println("Unable to register the inventory metrics");
+        }
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     starts saving the event log to rolling files in the background, so events survive a crash.
+    //              the program runs without saving its event log if the files cannot be created
+    private void startEventLogAppender() {
+        eventLogAppender = new EventLogAppender(Paths.get(EVENT_LOG_DIRECTORY));
+        try {
+            eventLogAppender.start();
+        } catch (IOException e) {
+            eventLogAppender = null;
+            System.out.println("Unable to save the event log to " + EVENT_LOG_DIRECTORY);
+        }
+    }
+
     // MODIFIES:    this
     // EFFECTS:     initializes graphical user interface elements
     //              if no list is currently loaded, load the welcome splash screen
@@ -83,6 +127,10 @@ public class InventoryAppUI extends JFrame {
     // CREDIT:      substantively learned from https://www.clear.rice.edu/comp310/JavaResources/frame_close.html
     protected void processWindowEvent(WindowEvent e) {
         if (e.getID() == WindowEvent.WINDOW_CLOSING) {
+            if (saving != null && !saving.isFinished()) {
+                JOptionPane.showMessageDialog(null, "The last save is still finishing - please try again shortly.");
+                return;
+            }
             if (inventoryList != null) {
                 int n = JOptionPane.showConfirmDialog(null,
                         "Would you like to save the file before exiting?",
@@ -90,6 +138,7 @@ public class InventoryAppUI extends JFrame {
                         JOptionPane.YES_NO_CANCEL_OPTION);
 
                 if (n == JOptionPane.NO_OPTION) {
+                    closeJournal();
                     JOptionPane.showMessageDialog(null, "File not saved!");
                 } else if (n != JOptionPane.YES_OPTION) {
                     return;
@@ -98,12 +147,27 @@ public class InventoryAppUI extends JFrame {
                 }
             }
 
+            closeJournal();
+            closeEventLogAppender();
             printLog();
             super.processWindowEvent(e);
             System.exit(0);
         }
     }
 
+    // MODIFIES:    this
+    // EFFECTS:     writes every event still queued to the event log files and stops saving the event log
+    private void closeEventLogAppender() {
+        if (eventLogAppender != null) {
+            try {
+                eventLogAppender.close();
+            } catch (IOException e) {
+                System.out.println("Unable to save the event log to " + EVENT_LOG_DIRECTORY);
+            }
+            eventLogAppender = null;
+        }
+    }
+
     // EFFECTS:   prints the eventLog to console upon exiting the program.
     private void printLog() {
         EventLog el = EventLog.getInstance();
@@ -114,9 +178,20 @@ public class InventoryAppUI extends JFrame {
 
     // MODIFIES:    this
     // EFFECTS:     on the successful load of an inventory list, run initial gui, inventory table, and add-item option
+    //              and report the size of the list in the metrics.  the table and search of any list shown before
+    //              are closed
     private void successfulLoad() {
+        InventoryMetrics.getInstance().watch(inventoryList);
+        if (inventoryDisplay != null) {
+            inventoryDisplay.dispose();
+            inventoryDisplay = null;
+        }
+        if (searchDisplay != null) {
+            searchDisplay.dispose();
+            searchDisplay = null;
+        }
         gui();
-        addInventoryArea(inventoryList.getName(), inventoryList.getList());
+        showInventoryTable();
         addItemArea();
 
     }
@@ -224,12 +299,14 @@ public class InventoryAppUI extends JFrame {
     }
 
     // MODIFIES:    this
-    // EFFECTS:     creates a new JTable based on the provided list, with a title of name
-    private void addInventoryArea(String name, LinkedList<InventoryItem> list) {
-        inventoryDisplay = new InventoryTableUI(name, list, InventoryAppUI.this);
-        program.add(inventoryDisplay);
+    // EFFECTS:     brings the table of the whole inventory list to the front, creating it if it is not open.
+    //              the table keeps itself up to date as the list changes, so it is never rebuilt
+    private void showInventoryTable() {
+        if (inventoryDisplay == null || inventoryDisplay.isClosed()) {
+            inventoryDisplay = new InventoryTableUI(inventoryList);
+            program.add(inventoryDisplay);
+        }
         inventoryDisplay.moveToFront();
-
     }
 
     // MODIFIES:    inventoryList
@@ -257,8 +334,7 @@ public class InventoryAppUI extends JFrame {
 
     }
 
-
-    // EFFECTS:     request user input to specify name of list to load, then run loadList() with provided String name
+    // EFFECTS:     request user to choose one of the saved lists, shown with their summaries, then load it
     private class LoadListAction extends AbstractAction {
 
         LoadListAction() {
@@ -267,11 +343,37 @@ public class InventoryAppUI extends JFrame {
 
         @Override
         public void actionPerformed(ActionEvent e) {
+            new PersistenceWorker<List<ListSummary>>(InventoryAppUI.this, "Reading saved lists",
+                    progress -> new ListCatalogue(LIST_DIRECTORY).list(progress),
+                    this::chooseList,
+                    err -> JOptionPane.showMessageDialog(null, "List not loaded - the saved lists could not be read."))
+                    .start();
+        }
+
+        // EFFECTS:     asks the user which of the saved lists to load, showing the summary of each, then loads it.
+        //              if no saved lists were found, asks for the name of the list instead
+        private void chooseList(List<ListSummary> lists) {
+            if (lists.isEmpty()) {
+                askForName();
+                return;
+            }
+            Object chosen = JOptionPane.showInputDialog(null, "Choose the inventory list you wish to load",
+                    "Load list", JOptionPane.QUESTION_MESSAGE, null, lists.toArray(), lists.get(0));
+            if (chosen == null) {
+                JOptionPane.showMessageDialog(null, "List not loaded - please choose a list.");
+                return;
+            }
+            ListSummary summary = (ListSummary) chosen;
+            loadStore(summary.getSource(), summary.getName());
+        }
+
+        // EFFECTS:     asks the user for the name of the list to load, then loads it
+        private void askForName() {
             try {
                 String nameToLoad = JOptionPane.showInputDialog(null,
                         "Specify name of inventory list you wish to load",
                         "Enter list name...").toLowerCase().replace(" ", "");
-                loadList(nameToLoad);
+                loadStore(storeFor(nameToLoad), nameToLoad);
             } catch (NullPointerException err) {
                 JOptionPane.showMessageDialog(null, "List not loaded - please provide a list name.");
             }
@@ -279,24 +381,65 @@ public class InventoryAppUI extends JFrame {
     }
 
     // MODIFIES:    this
-    // EFFECTS:     ask user to input name for the existing inventory list to load from file,
-    //              if file exists, load the inventory list from JSON
+    // EFFECTS:     loads the inventory list with the given name saved to store, and starts journaling changes.
+    //              a list still cached since it was last used is switched back to at once.  otherwise
+    //              if file exists, load the inventory list from JSON or binary (chosen by the file extension)
+    //              and its journal
     //              if files does not exist, catch FileNotFoundException
     //              if file cannot be read, catch IOException
-    private void loadList(String name) {
-        jsonStore = "./data/" + name + ".json";
+    private void loadStore(String store, String name) {
+        InventoryManagement cached = listCache.take(store);
+        if (cached != null) {
+            loaded(cached, store);
+            return;
+        }
+        new PersistenceWorker<InventoryManagement>(this, "Loading " + name,
+                progress -> SnapshotConverter.read(store, progress),
+                loaded -> loaded(loaded, store),
+                err -> loadFailed(err, name, store)).start();
+    }
 
+    // MODIFIES:    this
+    // EFFECTS:     makes the list loaded from store the active list, and starts journaling changes to it
+    //              if the journal cannot be opened, catch IOException
+    private void loaded(InventoryManagement loaded, String store) {
         try {
-            jsonReader = new JsonReader(jsonStore);
-            inventoryList = jsonReader.read();
+            closeJournal();
+            jsonStore = store;
+            inventoryList = loaded;
+            journal = new InventoryJournal(jsonStore);
+            journal.open(inventoryList);
             successfulLoad();
-        } catch (FileNotFoundException err) {
-            JOptionPane.showMessageDialog(null, "Unable to find an inventory list with name: " + name);
         } catch (IOException err) {
             JOptionPane.showMessageDialog(null, "Unable to read from file: " + jsonStore);
         }
     }
 
+    // EFFECTS:     tells the user why the list with the given name could not be loaded from store
+    private void loadFailed(Exception err, String name, String store) {
+        if (err instanceof FileNotFoundException) {
+            JOptionPane.showMessageDialog(null, "Unable to find an inventory list with name: " + name);
+        } else if (err instanceof CancellationException) {
+            JOptionPane.showMessageDialog(null, "List not loaded - loading was cancelled.");
+        } else {
+            JOptionPane.showMessageDialog(null, "Unable to read from file: " + store);
+        }
+    }
+
+    // EFFECTS:     returns the file in ./data/ that the list with the given file name is saved to.
+    //              a name ending in .json or the binary extension names the file directly.  otherwise the
+    //              JSON file is used, unless only a binary file exists for the name
+    private String storeFor(String name) {
+        String store = "./data/" + name;
+        if (store.endsWith(".json") || SnapshotConverter.isBinary(store)) {
+            return store;
+        }
+        String binaryStore = store + BinaryWriter.EXTENSION;
+        if (!new File(store + ".json").isFile() && new File(binaryStore).isFile()) {
+            return binaryStore;
+        }
+        return store + ".json";
+    }
 
     // EFFECTS:     view every item in the list, formatted according to their parameters, in the order they were added
     private class ViewListAction extends AbstractAction {
@@ -310,7 +453,8 @@ public class InventoryAppUI extends JFrame {
             if (inventoryList.getListSize() == 0) {
                 JOptionPane.showMessageDialog(null, "There are currently no items in the inventory system.");
             } else {
-                addInventoryArea(inventoryList.getName(), inventoryList.getList());
+                EventLog.getInstance().logEvent(new Event(EventType.LIST_VIEWED, 0, inventoryList.getName()));
+                showInventoryTable();
             }
         }
     }
@@ -329,13 +473,13 @@ public class InventoryAppUI extends JFrame {
                     "Enter integer ID...");
             try {
                 int removeId = Integer.parseInt(remove);
-                if (inventoryList.hasItem(removeId)) {
-                    InventoryItem currentItem = inventoryList.getItem(inventoryList.getPositionOfItem(removeId));
+                InventoryItem currentItem = inventoryList.lookupItem(removeId);
+                if (currentItem != null) {
                     String title = currentItem.getTitle();
                     inventoryList.removeItem(removeId);
                     JOptionPane.showMessageDialog(null,
                             "Item " + title + " with ID: " + removeId + " successfully removed!");
-                    reloadInventoryTable();
+                    showInventoryTable();
                 } else {
                     JOptionPane.showMessageDialog(null, "Unable to find an item with the ID: " + removeId,
                             "Item Does Not Exist", JOptionPane.ERROR_MESSAGE);
@@ -347,8 +491,9 @@ public class InventoryAppUI extends JFrame {
         }
     }
 
-    // EFFECTS:     search for a specific item by providing its item ID, or search for any item whose title
-    //              contains the provided phrase
+    // MODIFIES:    this
+    // EFFECTS:     brings the live search of the inventory list to the front, creating it if it is not open,
+    //              and puts the cursor in its search field
     private class SearchListAction extends AbstractAction {
 
         SearchListAction() {
@@ -357,41 +502,12 @@ public class InventoryAppUI extends JFrame {
 
         @Override
         public void actionPerformed(ActionEvent e) {
-            LinkedList searchList = new LinkedList<InventoryItem>();
-            String search;
-            try {
-                search =
-                        JOptionPane.showInputDialog(
-                                null,
-                                "Enter either an item ID (int) to search for one item, or a string for many items.",
-                                "Enter integer ID or string name...");
-                try {
-                    if (searchByID(searchList, search) == null) {
-                        return;
-                    }
-                } catch (NumberFormatException err) {
-                    searchList = inventoryList.getItemsFromTitle(search);
-                    if (searchList.size() == 0) {
-                        JOptionPane.showMessageDialog(null, "Unable to find an item with the title: " + search);
-                        return;
-                    }
-                }
-                addInventoryArea("Search", searchList);
-            } catch (NullPointerException err) {
-                JOptionPane.showMessageDialog(null, "Please specify an ID or title to search for.");
-            }
-        }
-
-        // EFFECTS:     searches for the item by item ID
-        private LinkedList searchByID(LinkedList searchList, String search) {
-            int searchId = Integer.parseInt(search);
-            if (inventoryList.hasItem(searchId)) {
-                searchList.add(inventoryList.getItemFromId(searchId));
-            } else {
-                JOptionPane.showMessageDialog(null, "Unable to find an item with the ID: " + searchId);
-                return null;
+            if (searchDisplay == null || searchDisplay.isClosed()) {
+                searchDisplay = new SearchUI(inventoryList);
+                program.add(searchDisplay);
             }
-            return searchList;
+            searchDisplay.moveToFront();
+            searchDisplay.focusQuery();
         }
     }
 
@@ -421,7 +537,7 @@ public class InventoryAppUI extends JFrame {
                 try {
                     inventoryList.addItem(addTitle.getText(), quantityInt, addDescription.getText());
                     setFieldsToBlank();
-                    reloadInventoryTable();
+                    showInventoryTable();
                 } catch (IllegalQuantityException err) {
                     JOptionPane.showMessageDialog(null, "Please enter a quantity greater than 0.",
                             "Illegal Quantity", JOptionPane.ERROR_MESSAGE);
@@ -450,12 +566,6 @@ public class InventoryAppUI extends JFrame {
         }
     }
 
-    // EFFECTS:     destroys and reloads the main inventory table
-    private void reloadInventoryTable() {
-        inventoryDisplay.dispose();
-        addInventoryArea(inventoryList.getName(), inventoryList.getList());
-    }
-
     // EFFECTS:     runs the saveList() method, which saves the list to file
     private class SaveListAction extends AbstractAction {
 
@@ -471,9 +581,22 @@ public class InventoryAppUI extends JFrame {
 
     // EFFECTS:     saves the current inventory list to a file using inventorylist.getName() as the name.
     //              invalid characters will be removed, and the string will be converted toLowerCase()
+    //              a name ending in the binary extension is saved as a binary snapshot, otherwise as JSON
+    //              if the list is already being journaled, only the changes since the last save are written
     private boolean saveList() {
+        if (saving != null && !saving.isFinished()) {
+            JOptionPane.showMessageDialog(null, "The last save is still finishing - please try again shortly.");
+            return false;
+        }
+        if (journal != null && journal.isJournaling(inventoryList)) {
+            InventoryJournal saved = journal;
+            return saveInBackground(progress -> {
+                saved.save(progress);
+                return null;
+            });
+        }
         String name = inventoryList.getName().toLowerCase().replace(" ", "");
-        jsonStore = "./data/" + name + ".json";
+        jsonStore = storeFor(name);
         if (new File(jsonStore).isFile()) {
             int n = JOptionPane.showConfirmDialog(null,
                     "File already exists - would you like to save and overwrite the existing file?",
@@ -486,16 +609,57 @@ public class InventoryAppUI extends JFrame {
         }
 
         try {
-            jsonWriter = new JsonWriter(jsonStore);
-            jsonWriter.open();
-            jsonWriter.write(inventoryList);
-            jsonWriter.close();
-            JOptionPane.showMessageDialog(null, "Saved " + inventoryList.getName() + " to " + jsonStore);
-            return true;
-        } catch (FileNotFoundException err) {
+            closeJournal();
+            journal = new InventoryJournal(jsonStore);
+            journal.open(inventoryList);
+        } catch (IOException err) {
             JOptionPane.showMessageDialog(null, "Unable to write to file: " + jsonStore + ".");
             return false;
         }
+        InventoryJournal compacted = journal;
+        return saveInBackground(progress -> {
+            compacted.compact(progress);
+            return null;
+        });
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     runs the given save of the current inventory list in the background, showing its progress,
+    //              and returns true once it has succeeded.  returns false if it failed or was cancelled
+    private boolean saveInBackground(PersistenceWorker.Task<Void> save) {
+        String name = inventoryList.getName();
+        String store = jsonStore;
+        boolean[] saved = {false};
+        saving = new PersistenceWorker<>(this, "Saving " + name, save,
+                ignored -> {
+                    saved[0] = true;
+                    JOptionPane.showMessageDialog(null, "Saved " + name + " to " + store);
+                },
+                err -> JOptionPane.showMessageDialog(null, err instanceof CancellationException
+                        ? "File not saved - saving was cancelled." : "Unable to write to file: " + store + "."));
+        saving.start();
+        return saved[0];
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     drops any unsaved changes recorded in the journal of the active list, then closes the journal
+    //              a list without unsaved changes is kept in the list cache, to switch back to without reading it
+    private void closeJournal() {
+        if (journal != null) {
+            try {
+                boolean unsaved = journal.hasUnsavedChanges();
+                journal.discard();
+                journal.close();
+                if (unsaved) {
+                    listCache.evict(journal.getSource());
+                } else {
+                    listCache.put(journal.getSource(), journal.getInventoryList());
+                }
+            } catch (IOException err) {
+                JOptionPane.showMessageDialog(null, "Unable to close the journal of: " + jsonStore + ".");
+            }
+            journal = null;
+        }
     }
 
     // EFFECTS: Represents action to be taken when user clicks desktop to switch focus. (Needed for key handling.)
@@ -1,25 +1,178 @@
 package ui;
 
 import model.InventoryItem;
+import model.InventoryListener;
+import model.InventoryManagement;
 
+import javax.swing.SwingUtilities;
 import javax.swing.table.AbstractTableModel;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 // CREDIT: implementation came from https://www.codejava.net/java-se/swing/editable-jtable-example
 /*
 This method extends the AbstractTableModel.
 Its purpose is to facilitate the editing of items in the inventory list, by editing the JTable itself
+The rows are held in an array list, so painting a cell never walks the inventory list.  A table model of a whole
+inventory list listens to it, and keeps its rows up to date by adding, removing or repainting only the rows that
+changed.  The row of each item is found through a map by ID; removing a row only marks the rows after it as moved,
+and they are re-mapped once one of them is next looked up.  The quantity changes of a batch are applied together,
+repainting the changed rows once.  Changes made on other threads are applied to the rows on the event dispatch thread.
  */
-public class InventoryTableModel extends AbstractTableModel {
-    private final List<InventoryItem> inventoryList;
+public class InventoryTableModel extends AbstractTableModel implements InventoryListener {
+    private final List<InventoryItem> inventoryList;     // items shown in each row, in list order
+    private final Map<Integer, Integer> rows;            // row of each item by ID, up to date before movedFrom
+    private int movedFrom;                               // first row that may have moved since it was mapped
+    private final InventoryManagement source;            // inventory list the rows are kept up to date with, or null
     private final String[] columnNames = {"ID", "TITLE", "QUANTITY", "DESCRIPTION"};
     private final Class[] columnClass = new Class[] {Integer.class, String.class, Integer.class, String.class};
 
 
-    public InventoryTableModel(LinkedList<InventoryItem> inventoryList) {
+    // EFFECTS:     creates a table model showing the given items, such as the results of a search
+    public InventoryTableModel(List<InventoryItem> inventoryList) {
+        this.inventoryList = new ArrayList<>(inventoryList);
+        this.rows = new HashMap<>();
+        this.source = null;
+    }
 
-        this.inventoryList = inventoryList;
+    // MODIFIES:    source
+    // EFFECTS:     creates a table model showing every item in source, kept up to date as source changes
+    public InventoryTableModel(InventoryManagement source) {
+        this.inventoryList = new ArrayList<>(source.getListSize());
+        for (InventoryItem item : source) {
+            this.inventoryList.add(item);
+        }
+        this.rows = new HashMap<>();
+        this.source = source;
+        source.addListener(this);
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     stops keeping the rows up to date with the inventory list, if they were
+    public void detach() {
+        if (source != null) {
+            source.removeListener(this);
+        }
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     adds a row for the added item at the end of the table
+    @Override
+    public void itemAdded(InventoryItem item) {
+        onEventThread(() -> {
+            inventoryList.add(item);
+            fireTableRowsInserted(inventoryList.size() - 1, inventoryList.size() - 1);
+        });
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     removes the row of the removed item
+    @Override
+    public void itemRemoved(InventoryItem item) {
+        onEventThread(() -> {
+            int row = rowOf(item.getId());
+            if (row >= 0) {
+                inventoryList.remove(row);
+                rows.remove(item.getId());
+                movedFrom = Math.min(movedFrom, row);
+                fireTableRowsDeleted(row, row);
+            }
+        });
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     repaints the row of the changed item
+    @Override
+    public void quantityChanged(InventoryItem item, int oldQuantity) {
+        itemEdited(item);
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     shows each of the changed items in its row, then repaints the rows from the first changed row
+    //              to the last at once
+    @Override
+    public void quantitiesChanged(List<InventoryItem> items, int[] oldQuantities) {
+        List<InventoryItem> changed = new ArrayList<>(items);
+        onEventThread(() -> {
+            int first = Integer.MAX_VALUE;
+            int last = -1;
+            for (InventoryItem item : changed) {
+                int row = rowOf(item.getId());
+                if (row >= 0) {
+                    inventoryList.set(row, item);
+                    first = Math.min(first, row);
+                    last = Math.max(last, row);
+                }
+            }
+            if (last >= 0) {
+                fireTableRowsUpdated(first, last);
+            }
+        });
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     repaints the row of the edited item, showing the edited item in it.  a store that hands out
+    //              views of its items may pass a different view from the one in the row
+    @Override
+    public void itemEdited(InventoryItem item) {
+        onEventThread(() -> {
+            int row = rowOf(item.getId());
+            if (row >= 0) {
+                inventoryList.set(row, item);
+                fireTableRowsUpdated(row, row);
+            }
+        });
+    }
+
+    // REQUIRES:    called on the event dispatch thread
+    // MODIFIES:    this
+    // EFFECTS:     removes every row, such as the results of an earlier search
+    public void clearRows() {
+        int rows = inventoryList.size();
+        if (rows > 0) {
+            inventoryList.clear();
+            this.rows.clear();
+            movedFrom = 0;
+            fireTableRowsDeleted(0, rows - 1);
+        }
+    }
+
+    // REQUIRES:    called on the event dispatch thread
+    // MODIFIES:    this
+    // EFFECTS:     adds a row for each of the given items at the end of the table, such as the next results of a
+    //              search
+    public void addRows(List<InventoryItem> items) {
+        if (!items.isEmpty()) {
+            int first = inventoryList.size();
+            inventoryList.addAll(items);
+            fireTableRowsInserted(first, inventoryList.size() - 1);
+        }
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     returns the row showing the item with the given ID, or -1 if there is none.  re-maps the rows
+    //              that may have moved first if the item is not mapped to a row before them
+    private int rowOf(int id) {
+        Integer row = rows.get(id);
+        if (row == null || row >= movedFrom) {
+            for (int moved = movedFrom; moved < inventoryList.size(); moved++) {
+                rows.put(inventoryList.get(moved).getId(), moved);
+            }
+            movedFrom = inventoryList.size();
+            row = rows.get(id);
+        }
+        return row == null ? -1 : row;
+    }
+
+    // EFFECTS:     runs change now if called on the event dispatch thread, and otherwise later on it
+    private void onEventThread(Runnable change) {
+        if (SwingUtilities.isEventDispatchThread()) {
+            change.run();
+        } else {
+            SwingUtilities.invokeLater(change);
+        }
     }
 
     @Override
@@ -1,10 +1,13 @@
 package ui;
 
 import model.InventoryItem;
+import model.InventoryManagement;
 
 import javax.swing.*;
+import javax.swing.event.InternalFrameAdapter;
+import javax.swing.event.InternalFrameEvent;
 import java.awt.*;
-import java.util.LinkedList;
+import java.util.List;
 
 /*
 This method extends JInternalFrame.
@@ -25,12 +28,30 @@ public class InventoryTableUI extends JInternalFrame {
 
     //EFFECTS:  Creates a JInternalFrame of specified minWIDTH and minHEIGHT at the target location posX, posY.
     //          A new InventoryTableModel will be created for the new JTable which will also be created.
-    public InventoryTableUI(String name, LinkedList<InventoryItem> list, Component parent) {
+    //          The table shows the given items as they are now, such as the results of a search.
+    public InventoryTableUI(String name, List<InventoryItem> list, Component parent) {
+        this(name, new InventoryTableModel(list));
+    }
+
+    //EFFECTS:  Creates a JInternalFrame of a table showing every item in list, kept up to date as list changes
+    //          until the frame is closed.
+    public InventoryTableUI(InventoryManagement list) {
+        this(list.getName(), new InventoryTableModel(list));
+    }
+
+    //EFFECTS:  Creates a JInternalFrame of specified minWIDTH and minHEIGHT at the target location posX, posY,
+    //          holding a JTable of the given table model.
+    private InventoryTableUI(String name, InventoryTableModel tableModel) {
         super(name, true, true, false, false);
         setMinimumSize(new Dimension(minWIDTH, minHEIGHT));
         setPreferredSize(new Dimension(prefWIDTH, prefHEIGHT));
 
-        InventoryTableModel tableModel = new InventoryTableModel(list);
+        addInternalFrameListener(new InternalFrameAdapter() {
+            @Override
+            public void internalFrameClosed(InternalFrameEvent e) {
+                tableModel.detach();
+            }
+        });
         inventoryTable = new JTable(tableModel);
         inventoryTable.getColumn("DESCRIPTION").setPreferredWidth(descWIDTH);
 
@@ -0,0 +1,121 @@
+package ui;
+
+import persistence.Progress;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.io.IOException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+
+/*
+This class extends SwingWorker.
+Its purpose is to load or save an inventory list on a background thread, so the window keeps repainting while a
+large list is read or written.  A dialog shows a progress bar, driven by the bytes or items processed, and a Cancel
+button that stops the work at its next report of progress.  The dialog is modal, so the list cannot be changed
+while it is being saved.  The result is handed to the UI on the event dispatch thread once the work has finished.
+ */
+class PersistenceWorker<T> extends SwingWorker<T, Void> implements Progress {
+    private static final int WIDTH = 360;
+
+    private final Task<T> task;                     // work to run in the background
+    private final Consumer<T> onSuccess;            // given the result on the event dispatch thread
+    private final Consumer<Exception> onFailure;    // given the failure, or CancellationException, likewise
+    private final JDialog dialog;
+    private volatile boolean finished;              // true once the background work has stopped
+
+    // Represents the work to run in the background, which reports its progress as it goes
+    interface Task<T> {
+        T run(Progress progress) throws IOException;
+    }
+
+    // EFFECTS:     creates a worker that runs task, showing its progress in a dialog with the given title over owner
+    PersistenceWorker(Frame owner, String title, Task<T> task, Consumer<T> onSuccess,
+                      Consumer<Exception> onFailure) {
+        this.task = task;
+        this.onSuccess = onSuccess;
+        this.onFailure = onFailure;
+        this.dialog = new JDialog(owner, title, true);
+        JProgressBar bar = new JProgressBar(0, 100);
+        bar.setStringPainted(true);
+        addPropertyChangeListener(e -> {
+            if ("progress".equals(e.getPropertyName())) {
+                bar.setValue((Integer) e.getNewValue());
+            }
+        });
+        JButton cancel = new JButton("Cancel");
+        cancel.addActionListener(e -> cancel(false));
+        layoutDialog(owner, bar, cancel);
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     starts the work in the background, and shows the progress dialog until it has finished or been
+    //              cancelled.  must be called on the event dispatch thread, which keeps handling events while the
+    //              dialog is shown.  returns once the result or failure has been handed to the UI
+    void start() {
+        execute();
+        dialog.setVisible(true);
+    }
+
+    // EFFECTS:     returns true once the background work has stopped.  a cancelled worker may still be working
+    //              until its next report of progress
+    boolean isFinished() {
+        return finished;
+    }
+
+    @Override
+    protected T doInBackground() throws IOException {
+        try {
+            return task.run(this);
+        } finally {
+            finished = true;
+        }
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     shows the amount done out of the total as a percentage on the progress bar
+    @Override
+    public void update(long done, long total) {
+        setProgress(total <= 0 ? 100 : (int) Math.min(100, Math.max(0, done * 100 / total)));
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     closes the progress dialog and hands the result, or the failure, to the UI
+    @Override
+    protected void done() {
+        dialog.dispose();
+        try {
+            onSuccess.accept(get());
+        } catch (CancellationException e) {
+            onFailure.accept(e);
+        } catch (ExecutionException e) {
+            onFailure.accept(e.getCause() instanceof Exception ? (Exception) e.getCause() : e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     lays out the progress bar and cancel button in the dialog, centered over owner.
+    //              closing the dialog cancels the work
+    private void layoutDialog(Frame owner, JProgressBar bar, JButton cancel) {
+        JPanel panel = new JPanel(new BorderLayout(10, 10));
+        panel.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+        panel.add(bar, BorderLayout.CENTER);
+        panel.add(cancel, BorderLayout.EAST);
+        dialog.setContentPane(panel);
+        dialog.setDefaultCloseOperation(WindowConstants.DO_NOTHING_ON_CLOSE);
+        dialog.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                cancel(false);
+            }
+        });
+        dialog.pack();
+        dialog.setSize(WIDTH, dialog.getHeight());
+        dialog.setLocationRelativeTo(owner);
+    }
+}
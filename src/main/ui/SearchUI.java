@@ -0,0 +1,163 @@
+package ui;
+
+import model.InventoryItem;
+import model.InventoryManagement;
+
+import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.event.InternalFrameAdapter;
+import javax.swing.event.InternalFrameEvent;
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/*
+This class extends JInternalFrame.
+Its purpose is to search the inventory list as the user types, showing the results in one table that is reused for
+every search.  Typing restarts a short timer, and the search only runs once typing pauses.  Each search runs on a
+background thread, cancelling the search before it, so the event dispatch thread only ever adds rows to the table.
+The results are added in chunks as they are handed over, and results of a search that has been replaced are dropped.
+ */
+public class SearchUI extends JInternalFrame {
+    private static final int DEBOUNCE_MILLIS = 150;
+    private static final int CHUNK_SIZE = 500;
+
+    private static final int prefWIDTH = 600;
+    private static final int prefHEIGHT = 300;
+    private static final int descWIDTH = 300;
+    private static final int posX = 300;
+    private static final int posY = 100;
+
+    private final InventoryManagement inventoryList;
+    private final InventoryTableModel results;      // rows of the latest search
+    private final JTextField query;
+    private final JLabel status;
+    private final Timer debounce;                   // runs the search once typing pauses
+    private final ExecutorService searcher;         // runs one search at a time, off the event dispatch thread
+    private Future<?> running;                      // latest search, which may still be running
+    private int generation;                         // number of the latest search, read only on the EDT
+
+    //EFFECTS:  Creates a JInternalFrame with a search field over a table of the items in list that match it
+    public SearchUI(InventoryManagement list) {
+        super("Search " + list.getName(), true, true, false, false);
+        this.inventoryList = list;
+        this.results = new InventoryTableModel(Collections.emptyList());
+        this.query = new JTextField();
+        this.status = new JLabel("Enter either an item ID (int) to search for one item, or a string for many items.");
+        this.debounce = new Timer(DEBOUNCE_MILLIS, e -> search(query.getText()));
+        this.debounce.setRepeats(false);
+        this.searcher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "inventory-search");
+            thread.setDaemon(true);
+            return thread;
+        });
+        query.getDocument().addDocumentListener(new QueryListener());
+        addInternalFrameListener(new InternalFrameAdapter() {
+            @Override
+            public void internalFrameClosed(InternalFrameEvent e) {
+                debounce.stop();
+                searcher.shutdownNow();
+            }
+        });
+        layoutFrame();
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     gives the search field the keyboard focus
+    public void focusQuery() {
+        query.requestFocusInWindow();
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     cancels the search before, empties the table, and starts searching for text in the background
+    private void search(String text) {
+        if (running != null) {
+            running.cancel(true);
+        }
+        int current = ++generation;
+        results.clearRows();
+        String trimmed = text.trim();
+        if (trimmed.isEmpty()) {
+            status.setText(" ");
+            return;
+        }
+        status.setText("Searching...");
+        running = searcher.submit(() -> runQuery(trimmed, current));
+    }
+
+    // EFFECTS:     finds the items matching text on the search thread, and hands them to the table in chunks.
+    //              stops once the search has been cancelled
+    private void runQuery(String text, int current) {
+        List<InventoryItem> found = find(text);
+        for (int from = 0; from < found.size(); from += CHUNK_SIZE) {
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            List<InventoryItem> chunk = new ArrayList<>(found.subList(from, Math.min(found.size(), from + CHUNK_SIZE)));
+            SwingUtilities.invokeLater(() -> {
+                if (current == generation) {
+                    results.addRows(chunk);
+                }
+            });
+        }
+        SwingUtilities.invokeLater(() -> {
+            if (current == generation) {
+                status.setText(found.isEmpty() ? "No items match \"" + text + "\"" : found.size() + " item(s) found");
+            }
+        });
+    }
+
+    // EFFECTS:     returns the item with the ID given by text if it is an integer, and otherwise the items whose
+    //              title contains text
+    private List<InventoryItem> find(String text) {
+        List<InventoryItem> found = new ArrayList<>();
+        try {
+            int id = Integer.parseInt(text);
+            if (inventoryList.hasItem(id)) {
+                found.add(inventoryList.getItemFromId(id));
+            }
+        } catch (NumberFormatException err) {
+            found.addAll(inventoryList.getItemsFromTitle(text));
+        }
+        return found;
+    }
+
+    // MODIFIES:    this
+    // EFFECTS:     lays out the search field above the table of results, with the status of the search below
+    private void layoutFrame() {
+        JTable table = new JTable(results);
+        table.getColumn("DESCRIPTION").setPreferredWidth(descWIDTH);
+        JPanel panel = new JPanel(new BorderLayout(5, 5));
+        panel.add(query, BorderLayout.NORTH);
+        panel.add(new JScrollPane(table), BorderLayout.CENTER);
+        panel.add(status, BorderLayout.SOUTH);
+        add(panel);
+        setPreferredSize(new Dimension(prefWIDTH, prefHEIGHT));
+        pack();
+        setLocation(posX, posY);
+        setVisible(true);
+    }
+
+    // Represents a listener that restarts the debounce timer whenever the search field is edited
+    private class QueryListener implements DocumentListener {
+        @Override
+        public void insertUpdate(DocumentEvent e) {
+            debounce.restart();
+        }
+
+        @Override
+        public void removeUpdate(DocumentEvent e) {
+            debounce.restart();
+        }
+
+        @Override
+        public void changedUpdate(DocumentEvent e) {
+            debounce.restart();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package metrics;
+
+import model.InventoryManagement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InventoryMetricsTest {
+
+    @BeforeEach
+    void setup() {
+        InventoryMetrics.getInstance().reset();
+        InventoryMetrics.getInstance().watch(null);
+    }
+
+    @Test
+    void testOperationsRecorded() {
+        InventoryManagement testList = new InventoryManagement("Metrics");
+        testList.addItem("Shirt", 5, "Blue");
+        testList.addItem("Pants", 3, "Black");
+        testList.getItemFromId(1);
+        testList.getItemsFromTitle("shirt");
+        testList.updateQuantity(2, 4);
+        testList.removeItem(1);
+
+        assertEquals(2, InventoryMetrics.ADD_ITEM.getCount());
+        assertEquals(1, InventoryMetrics.GET_ITEM.getCount());
+        assertEquals(1, InventoryMetrics.SEARCH_TITLE.getCount());
+        assertEquals(1, InventoryMetrics.UPDATE_QUANTITY.getCount());
+        assertEquals(1, InventoryMetrics.REMOVE_ITEM.getCount());
+        assertTrue(InventoryMetrics.ADD_ITEM.getMaxMicros() >= InventoryMetrics.ADD_ITEM.getP50Micros());
+        assertTrue(InventoryMetrics.ADD_ITEM.getThroughputPerSecond() > 0);
+        assertTrue(InventoryMetrics.getInstance().getEventsLogged() > 0);
+    }
+
+    @Test
+    void testWatchedList() {
+        InventoryMetrics metrics = InventoryMetrics.getInstance();
+        assertNull(metrics.getListName());
+        assertEquals(0, metrics.getListSize());
+
+        InventoryManagement testList = new InventoryManagement("Watched");
+        testList.addItem("Shirt", 5, "Blue");
+        metrics.watch(testList);
+        assertEquals("Watched", metrics.getListName());
+        assertEquals(1, metrics.getListSize());
+    }
+
+    @Test
+    void testRegister() throws JMException {
+        InventoryMetrics.getInstance().register();
+        InventoryMetrics.getInstance().register();
+        InventoryMetrics.ADD_ITEM.finish(InventoryMetrics.ADD_ITEM.start());
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        assertEquals(1L, server.getAttribute(new ObjectName("inventory:type=Operation,name=addItem"), "Count"));
+        assertEquals(0, server.getAttribute(new ObjectName("inventory:type=Inventory"), "ListSize"));
+    }
+}
@@ -0,0 +1,59 @@
+package metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LatencyHistogramTest {
+
+    private LatencyHistogram testHistogram;
+
+    @BeforeEach
+    void setup() {
+        testHistogram = new LatencyHistogram();
+    }
+
+    @Test
+    void testEmpty() {
+        assertEquals(0, testHistogram.getCount());
+        assertEquals(0, testHistogram.getMean());
+        assertEquals(0, testHistogram.getMax());
+        assertEquals(0, testHistogram.getPercentile(50));
+    }
+
+    @Test
+    void testBuckets() {
+        for (long latency = 0; latency < 1_000_000; latency++) {
+            int bucket = LatencyHistogram.bucketOf(latency);
+            assertTrue(latency <= LatencyHistogram.upperBoundOf(bucket));
+            assertTrue(bucket == 0 || latency > LatencyHistogram.upperBoundOf(bucket - 1));
+            assertTrue(LatencyHistogram.upperBoundOf(bucket) <= latency + latency / 4);
+        }
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.upperBoundOf(LatencyHistogram.bucketOf(Long.MAX_VALUE)));
+    }
+
+    @Test
+    void testPercentiles() {
+        for (int i = 1; i <= 1000; i++) {
+            testHistogram.record(i * 1000L);
+        }
+        testHistogram.record(-5);
+
+        assertEquals(1001, testHistogram.getCount());
+        assertEquals(1_000_000, testHistogram.getMax());
+        assertEquals(500_000, testHistogram.getMean(), 1000);
+        assertEquals(500_000, testHistogram.getPercentile(50), 500_000 / 4);
+        assertEquals(990_000, testHistogram.getPercentile(99), 990_000 / 4);
+        assertEquals(1_000_000, testHistogram.getPercentile(100));
+        assertEquals(0, testHistogram.getPercentile(0));
+    }
+
+    @Test
+    void testReset() {
+        testHistogram.record(42);
+        testHistogram.reset();
+        assertEquals(0, testHistogram.getCount());
+        assertEquals(0, testHistogram.getMax());
+    }
+}
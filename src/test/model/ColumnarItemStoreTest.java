@@ -0,0 +1,144 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.LinkedList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ColumnarItemStoreTest {
+
+    private ColumnarItemStore testStore;
+
+    @BeforeEach
+    void setup() {
+        testStore = new ColumnarItemStore(2);
+    }
+
+    @Test
+    void testEmptyStore() {
+        assertEquals(0, testStore.size());
+        assertNull(testStore.getById(1));
+        assertFalse(testStore.contains(1));
+        assertEquals(-1, testStore.positionOf(1));
+        assertNull(testStore.remove(1));
+        assertFalse(testStore.iterator().hasNext());
+        assertFalse(testStore.keepsItemsOnHeap());
+        assertEquals(0, testStore.totalQuantity());
+        assertTrue(testStore.itemsWithQuantityBetween(0, Integer.MAX_VALUE).isEmpty());
+    }
+
+    @Test
+    void testAddAndGet() {
+        for (int i = 1; i <= 100; i++) {
+            testStore.add(new InventoryItem(i, "Item " + i, i, "Description " + i));
+        }
+
+        assertEquals(100, testStore.size());
+        InventoryItem item = testStore.getById(42);
+        assertEquals(42, item.getId());
+        assertEquals("Item 42", item.getTitle());
+        assertEquals(42, item.getQuantity());
+        assertEquals("Description 42", item.getDescription());
+        assertEquals(41, testStore.positionOf(42));
+        assertEquals(100, testStore.get(99).getId());
+        assertThrows(IndexOutOfBoundsException.class, () -> testStore.get(100));
+    }
+
+    @Test
+    void testIdsOutOfOrder() {
+        testStore.add(new InventoryItem(5, "Loaded first", 1, ""));
+        testStore.add(new InventoryItem(2, "Loaded second", 1, ""));
+        testStore.add(new InventoryItem(9, "Loaded third", 1, ""));
+
+        assertEquals(0, testStore.positionOf(5));
+        assertEquals(1, testStore.positionOf(2));
+        assertEquals("Loaded third", testStore.getById(9).getTitle());
+        assertEquals(-1, testStore.positionOf(7));
+    }
+
+    @Test
+    void testRemove() {
+        for (int i = 1; i <= 5; i++) {
+            testStore.add(new InventoryItem(i, "Item " + i, i, "Description " + i));
+        }
+
+        assertEquals("Item 3", testStore.remove(3).getTitle());
+        assertEquals(4, testStore.size());
+        assertFalse(testStore.contains(3));
+        assertEquals(2, testStore.positionOf(4));
+        assertEquals("Item 4", testStore.get(2).getTitle());
+        assertNull(testStore.remove(3));
+        assertEquals(12, testStore.totalQuantity());
+    }
+
+    @Test
+    void testUpdate() {
+        testStore.add(new InventoryItem(1, "Hat", 1, "Red"));
+        InventoryItem hat = testStore.getById(1);
+        hat.setQuantity(40);
+        hat.setTitle("Cap");
+        testStore.updateQuantity(hat);
+        assertEquals(40, testStore.getById(1).getQuantity());
+        assertEquals("Hat", testStore.getById(1).getTitle());
+
+        testStore.update(hat);
+        assertEquals("Cap", testStore.getById(1).getTitle());
+        testStore.update(new InventoryItem(2, "Missing", 1, ""));
+        assertEquals(1, testStore.size());
+    }
+
+    @Test
+    void testQuantityQueries() {
+        for (int i = 1; i <= 10; i++) {
+            testStore.add(new InventoryItem(i, "Item " + i, i * 10, ""));
+        }
+
+        assertEquals(550, testStore.totalQuantity());
+        LinkedList<InventoryItem> found = testStore.itemsWithQuantityBetween(25, 50);
+        assertEquals(3, found.size());
+        assertEquals(3, found.get(0).getId());
+        assertEquals(5, found.get(2).getId());
+        assertTrue(testStore.itemsWithQuantityBetween(101, 200).isEmpty());
+    }
+
+    @Test
+    void testIterator() {
+        testStore.add(new InventoryItem(1, "Shirt", 5, "Blue"));
+        testStore.add(new InventoryItem(2, "Pants", 3, "Black"));
+
+        Iterator<InventoryItem> items = testStore.iterator();
+        assertEquals("Shirt", items.next().getTitle());
+        assertEquals("Pants", items.next().getTitle());
+        assertFalse(items.hasNext());
+        assertEquals(2, testStore.toLinkedList().size());
+    }
+
+    @Test
+    void testInventoryManagementOverStore() {
+        InventoryManagement testList = new InventoryManagement("Columnar", testStore);
+        testList.addItem("Shirt", 5, "Blue");
+        testList.addItem("Pants", 3, "Black");
+        testList.addItem("Shirt jacket", 1, "Green");
+
+        InventoryItem shirt = testList.getItemFromId(1);
+        shirt.increaseQuantity(10);
+        shirt.setTitle("T-Shirt");
+        assertEquals(15, testList.getItem(0).getQuantity());
+        assertEquals("T-Shirt", testList.getItemFromId(1).getTitle());
+        assertEquals(2, testList.getItemsFromTitle("shirt").size());
+        assertEquals(19, testList.getTotalQuantity());
+
+        LinkedList<InventoryItem> low = testList.getItemsWithQuantityBetween(0, 3);
+        assertEquals(2, low.size());
+        low.get(0).setQuantity(30);
+        assertEquals(30, testList.getItemFromId(2).getQuantity());
+
+        testList.removeItem(2);
+        assertEquals(2, testList.getListSize());
+        assertEquals(1, testList.getPositionOfItem(3));
+        assertEquals(16, testList.getTotalQuantity());
+    }
+}
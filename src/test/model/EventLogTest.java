@@ -0,0 +1,177 @@
+package model;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EventLogTest {
+
+    private EventLog testLog;
+
+    @BeforeEach
+    void setup() {
+        testLog = EventLog.getInstance();
+        testLog.configure(4, EventLog.OverflowPolicy.OVERWRITE_OLDEST);
+    }
+
+    @AfterEach
+    void tearDown() {
+        testLog.configure(EventLog.DEFAULT_CAPACITY, EventLog.OverflowPolicy.OVERWRITE_OLDEST);
+        testLog.setVerbosity(EventLog.Verbosity.ALL);
+    }
+
+    @Test
+    void testSingleton() {
+        assertSame(testLog, EventLog.getInstance());
+        assertEquals(4, testLog.getCapacity());
+        assertEquals(EventLog.OverflowPolicy.OVERWRITE_OLDEST, testLog.getPolicy());
+        assertThrows(IllegalArgumentException.class,
+                () -> testLog.configure(0, EventLog.OverflowPolicy.DROP_NEWEST));
+    }
+
+    @Test
+    void testLogEvents() {
+        testLog.logEvent(new Event("one"));
+        testLog.logEvent(new Event("two"));
+
+        assertEquals(List.of("one", "two"), descriptions());
+    }
+
+    @Test
+    void testOverwriteOldest() {
+        long dropped = testLog.getDroppedCount();
+        for (int i = 1; i <= 6; i++) {
+            testLog.logEvent(new Event("event " + i));
+        }
+
+        assertEquals(List.of("event 3", "event 4", "event 5", "event 6"), descriptions());
+        assertEquals(dropped + 2, testLog.getDroppedCount());
+    }
+
+    @Test
+    void testDropNewest() {
+        testLog.configure(3, EventLog.OverflowPolicy.DROP_NEWEST);
+        long dropped = testLog.getDroppedCount();
+        for (int i = 1; i <= 5; i++) {
+            testLog.logEvent(new Event("event " + i));
+        }
+
+        assertEquals(List.of("event 1", "event 2", "event 3"), descriptions());
+        assertEquals(dropped + 2, testLog.getDroppedCount());
+    }
+
+    @Test
+    void testClear() {
+        testLog.configure(3, EventLog.OverflowPolicy.DROP_NEWEST);
+        for (int i = 1; i <= 5; i++) {
+            testLog.logEvent(new Event("event " + i));
+        }
+        testLog.clear();
+        testLog.logEvent(new Event("after clear"));
+
+        assertEquals(List.of("Event log cleared.", "after clear"), descriptions());
+    }
+
+    @Test
+    void testIteratorIsWeaklyConsistent() {
+        testLog.logEvent(new Event("one"));
+        testLog.logEvent(new Event("two"));
+        Iterator<Event> events = testLog.iterator();
+        assertEquals("one", events.next().getDescription());
+        for (int i = 0; i < 5; i++) {
+            testLog.logEvent(new Event("later"));
+        }
+
+        assertFalse(events.hasNext());
+    }
+
+    @Test
+    void testStructuredEvents() {
+        testLog.configure(16, EventLog.OverflowPolicy.OVERWRITE_OLDEST);
+        InventoryManagement testList = new InventoryManagement("Clothes");
+        testList.addItem("Shirt", 5, "Blue");
+        testList.getItemFromId(1);
+        testList.getItemFromId(2);
+        testList.removeItem(1);
+
+        Iterator<Event> events = testLog.iterator();
+        assertEquals("Created a new list named Clothes", events.next().getDescription());
+        Event added = events.next();
+        assertEquals(EventType.ITEM_ADDED, added.getType());
+        assertEquals(1, added.getItemId());
+        assertEquals(5, added.getNumber());
+        assertEquals("Added item with ID: 1, Title: Shirt, Quantity: 5, and Description: Blue",
+                added.getDescription());
+        assertEquals("Found Item with ID: 1, with Title: Shirt, Quantity: 5, and Description: Blue",
+                events.next().getDescription());
+        assertEquals("Did not find any item with ID: 2", events.next().getDescription());
+        Event removed = events.next();
+        assertEquals(EventType.ITEM_REMOVED, removed.getType());
+        assertTrue(removed.toString().endsWith(
+                "\nRemoved item with ID: 1, Title: Shirt, Quantity: 5, and Description: Blue"));
+    }
+
+    @Test
+    void testVerbosityChanges() {
+        testLog.configure(16, EventLog.OverflowPolicy.OVERWRITE_OLDEST);
+        testLog.setVerbosity(EventLog.Verbosity.CHANGES);
+        assertTrue(testLog.isEnabled(EventType.ITEM_ADDED));
+        assertFalse(testLog.isEnabled(EventType.ITEM_FOUND));
+        InventoryManagement testList = new InventoryManagement("Clothes");
+        testList.addItem("Shirt", 5, "Blue");
+        testList.getItemFromId(1);
+        testList.getItemsFromTitle("shirt");
+        testList.getList();
+
+        assertEquals(List.of("Created a new list named Clothes",
+                "Added item with ID: 1, Title: Shirt, Quantity: 5, and Description: Blue"), descriptions());
+        assertEquals(EventLog.Verbosity.CHANGES, testLog.getVerbosity());
+    }
+
+    @Test
+    void testVerbosityNone() {
+        testLog.setVerbosity(EventLog.Verbosity.NONE);
+        testLog.logEvent(new Event("ignored"));
+        new InventoryManagement("Clothes").addItem("Shirt", 5, "Blue");
+
+        assertTrue(descriptions().isEmpty());
+        assertFalse(testLog.isEnabled(EventType.MESSAGE));
+    }
+
+    @Test
+    void testConcurrentProducers() throws InterruptedException {
+        testLog.configure(1000, EventLog.OverflowPolicy.OVERWRITE_OLDEST);
+        long dropped = testLog.getDroppedCount();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    testLog.logEvent(new Event("event"));
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(1000, descriptions().size());
+        assertEquals(dropped + 3000, testLog.getDroppedCount());
+    }
+
+    // EFFECTS: returns the descriptions of the events in the log, oldest first
+    private List<String> descriptions() {
+        List<String> descriptions = new ArrayList<>();
+        for (Event event : testLog) {
+            descriptions.add(event.getDescription());
+        }
+        return descriptions;
+    }
+}
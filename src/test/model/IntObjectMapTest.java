@@ -0,0 +1,85 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IntObjectMapTest {
+
+    private IntObjectMap<String> testMap;
+
+    @BeforeEach
+    void setup() {
+        testMap = new IntObjectMap<>();
+    }
+
+    @Test
+    void testEmptyMap() {
+        assertEquals(0, testMap.size());
+        assertNull(testMap.get(1));
+        assertFalse(testMap.containsKey(1));
+        assertNull(testMap.remove(1));
+    }
+
+    @Test
+    void testPutAndGet() {
+        assertNull(testMap.put(1, "one"));
+        assertNull(testMap.put(0, "zero"));
+        assertNull(testMap.put(-5, "minus five"));
+
+        assertEquals(3, testMap.size());
+        assertEquals("one", testMap.get(1));
+        assertEquals("zero", testMap.get(0));
+        assertEquals("minus five", testMap.get(-5));
+        assertTrue(testMap.containsKey(0));
+    }
+
+    @Test
+    void testPutReplacesValue() {
+        testMap.put(1, "one");
+        assertEquals("one", testMap.put(1, "uno"));
+        assertEquals(1, testMap.size());
+        assertEquals("uno", testMap.get(1));
+    }
+
+    @Test
+    void testRemove() {
+        testMap.put(1, "one");
+        testMap.put(2, "two");
+
+        assertEquals("one", testMap.remove(1));
+        assertEquals(1, testMap.size());
+        assertFalse(testMap.containsKey(1));
+        assertEquals("two", testMap.get(2));
+    }
+
+    @Test
+    void testManyKeysSurviveGrowthAndRemoval() {
+        for (int i = 1; i <= 10000; i++) {
+            testMap.put(i, "item " + i);
+        }
+        assertEquals(10000, testMap.size());
+
+        for (int i = 1; i <= 10000; i += 2) {
+            assertEquals("item " + i, testMap.remove(i));
+        }
+        assertEquals(5000, testMap.size());
+
+        for (int i = 1; i <= 10000; i++) {
+            if (i % 2 == 0) {
+                assertEquals("item " + i, testMap.get(i));
+            } else {
+                assertNull(testMap.get(i));
+            }
+        }
+    }
+
+    @Test
+    void testClear() {
+        testMap.put(1, "one");
+        testMap.clear();
+        assertEquals(0, testMap.size());
+        assertNull(testMap.get(1));
+    }
+}
@@ -1,5 +1,6 @@
 package model;
 
+import exceptions.IllegalQuantityException;
 import exceptions.NegativeQuantityException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -97,4 +98,41 @@ class InventoryItemTest {
         testItem.setDescription("This is a revised first widget");
         assertEquals("This is a revised first widget", testItem.getDescription());
     }
+
+    @Test
+    void testReorderPointHysteresis() {
+        assertEquals(0, testItem.getReorderPoint());
+        assertNull(testItem.crossReorderPoint(0));
+
+        testItem.setReorderPoint(5, 8);
+        assertEquals(5, testItem.getReorderPoint());
+        assertEquals(8, testItem.getRestockLevel());
+        assertNull(testItem.crossReorderPoint(5));
+        ReorderAlert below = testItem.crossReorderPoint(4);
+        assertEquals(ReorderAlert.Kind.BELOW_REORDER_POINT, below.getKind());
+        assertEquals(4, below.getQuantity());
+        assertSame(testItem, below.getItem());
+        assertTrue(testItem.isBelowReorderPoint());
+
+        assertNull(testItem.crossReorderPoint(3));
+        assertNull(testItem.crossReorderPoint(6));
+        assertNull(testItem.crossReorderPoint(4));
+        assertEquals(ReorderAlert.Kind.RESTOCKED, testItem.crossReorderPoint(8).getKind());
+        assertFalse(testItem.isBelowReorderPoint());
+        assertNull(testItem.crossReorderPoint(9));
+    }
+
+    @Test
+    void testSetReorderPoint() {
+        testItem.setReorderPoint(20, 25);
+        assertTrue(testItem.isBelowReorderPoint());
+        testItem.setReorderPoint(0, 0);
+        assertFalse(testItem.isBelowReorderPoint());
+        assertThrows(IllegalQuantityException.class, () -> testItem.setReorderPoint(-1, 5));
+        assertThrows(IllegalArgumentException.class, () -> testItem.setReorderPoint(5, 4));
+
+        InventoryItem restored = new InventoryItem(2, "Widget B", 1, "", 3, 6);
+        assertTrue(restored.isBelowReorderPoint());
+        assertEquals(6, restored.getRestockLevel());
+    }
 }
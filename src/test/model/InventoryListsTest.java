@@ -0,0 +1,78 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InventoryListsTest {
+
+    private InventoryLists testLists;
+    private InventoryManagement clothes;
+
+    @BeforeEach
+    void setup() {
+        clothes = new InventoryManagement("Clothes");
+        clothes.addItem("Blue shirt", 5, "Cotton");
+        clothes.addItem("Pants", 3, "Black");
+        InventoryManagement uniforms = new InventoryManagement("Uniforms");
+        uniforms.addItem("White Shirt", 20, "Pressed");
+        Map<String, InventoryManagement> lists = new LinkedHashMap<>();
+        lists.put("clothes.json", clothes);
+        lists.put("uniforms.json", uniforms);
+        lists.put("empty.json", new InventoryManagement("Empty"));
+        testLists = new InventoryLists(lists);
+    }
+
+    @Test
+    void testConstructor() {
+        assertEquals(3, testLists.size());
+        assertEquals(Arrays.asList("clothes.json", "uniforms.json", "empty.json"), testLists.getSources());
+        assertSame(clothes, testLists.getList("clothes.json"));
+        assertNull(testLists.getList("missing.json"));
+        assertEquals(0, new InventoryLists(Collections.emptyMap()).getTotalQuantity());
+    }
+
+    @Test
+    void testTotals() {
+        assertEquals(3, testLists.getItemCount());
+        assertEquals(28, testLists.getTotalQuantity());
+        Map<String, Long> totals = testLists.getTotalsByList();
+        assertEquals(Arrays.asList("clothes.json", "uniforms.json", "empty.json"),
+                Arrays.asList(totals.keySet().toArray()));
+        assertEquals(8, totals.get("clothes.json"));
+        assertEquals(20, totals.get("uniforms.json"));
+        assertEquals(0, totals.get("empty.json"));
+    }
+
+    @Test
+    void testTotalsMatchingTitle() {
+        assertEquals(25, testLists.getTotalQuantityMatching("shirt"));
+        assertEquals(0, testLists.getTotalQuantityMatching("hat"));
+        Map<String, Long> totals = testLists.getTotalsMatching("SHIRT");
+        assertEquals(5, totals.get("clothes.json"));
+        assertEquals(20, totals.get("uniforms.json"));
+        assertEquals(0, totals.get("empty.json"));
+    }
+
+    @Test
+    void testManyLists() {
+        Map<String, InventoryManagement> lists = new LinkedHashMap<>();
+        for (int i = 0; i < 200; i++) {
+            InventoryManagement im = new InventoryManagement("List " + i);
+            im.addItem("Bolt", i, "Steel");
+            im.addItem("Nut", 1, "Brass");
+            lists.put("list" + i + ".json", im);
+        }
+        InventoryLists many = new InventoryLists(lists);
+        assertEquals(19900, many.getTotalQuantityMatching("bolt"));
+        assertEquals(20100, many.getTotalQuantity());
+        assertEquals(200, many.getTotalsByList().size());
+        assertEquals(200, many.getTotalsMatching("nut").values().stream().mapToLong(Long::longValue).sum());
+    }
+}
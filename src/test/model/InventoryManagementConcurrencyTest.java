@@ -0,0 +1,205 @@
+package model;
+
+import exceptions.NegativeQuantityException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InventoryManagementConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int OPERATIONS = 5000;
+
+    private InventoryManagement testList;
+
+    @BeforeEach
+    void setup() {
+        EventLog.getInstance().setVerbosity(EventLog.Verbosity.NONE);
+        testList = new InventoryManagement("Warehouse");
+    }
+
+    @AfterEach
+    void tearDown() {
+        EventLog.getInstance().setVerbosity(EventLog.Verbosity.ALL);
+    }
+
+    @Test
+    void testNoLostQuantityUpdates() throws InterruptedException {
+        testList.addItem("Widget", 0, "Shared by every thread");
+        InventoryItem widget = testList.getItemFromId(1);
+        AtomicInteger negativeSeen = new AtomicInteger();
+        testList.addListener(new InventoryListener() {
+            @Override
+            public void quantityChanged(InventoryItem item, int oldQuantity) {
+                if (item.getQuantity() < 0) {
+                    negativeSeen.incrementAndGet();
+                }
+            }
+        });
+
+        AtomicInteger net = new AtomicInteger();
+        runConcurrently(thread -> {
+            for (int i = 0; i < OPERATIONS; i++) {
+                int change = (i + thread) % 3 == 0 ? -2 : 1;
+                try {
+                    widget.updateQuantity(change);
+                    net.addAndGet(change);
+                } catch (NegativeQuantityException expected) {
+                    // the stock ran out, so the decrease was refused
+                }
+            }
+        });
+
+        assertEquals(net.get(), widget.getQuantity());
+        assertTrue(widget.getQuantity() >= 0);
+        assertEquals(0, negativeSeen.get());
+    }
+
+    @Test
+    void testBatchesDoNotLoseItemUpdates() throws InterruptedException {
+        testList.addItem("Widget", 0, "Changed in batches and directly");
+        InventoryItem widget = testList.getItemFromId(1);
+        InventoryBatch batch = new InventoryBatch().updateQuantity(1, 3).updateQuantity(1, -1);
+        runConcurrently(thread -> {
+            for (int i = 0; i < OPERATIONS; i++) {
+                if (thread % 2 == 0) {
+                    testList.applyBatch(batch);
+                } else {
+                    widget.increaseQuantity(1);
+                }
+            }
+        });
+
+        assertEquals(THREADS / 2 * OPERATIONS * 3, widget.getQuantity());
+        assertEquals(widget.getQuantity(), testList.getTotalQuantity());
+    }
+
+    @Test
+    void testNoLostUpdatesThroughMappedStore() throws InterruptedException, IOException {
+        Path path = Files.createTempFile("testConcurrentStore", ".items");
+        Files.delete(path);
+        try (MappedItemStore store = new MappedItemStore(path, 4096)) {
+            InventoryManagement mappedList = new InventoryManagement("Mapped", store);
+            mappedList.addItem("Widget", 10, "");
+            AtomicInteger net = new AtomicInteger(10);
+            runConcurrently(thread -> {
+                for (int i = 0; i < OPERATIONS; i++) {
+                    int change = i % 2 == 0 ? 3 : -4;
+                    try {
+                        mappedList.updateQuantity(1, change);
+                        net.addAndGet(change);
+                    } catch (NegativeQuantityException expected) {
+                        // the stock ran out, so the decrease was refused
+                    }
+                }
+            });
+            assertEquals(net.get(), mappedList.getItemFromId(1).getQuantity());
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    void testConcurrentAddAndRemove() throws InterruptedException {
+        ConcurrentLinkedQueue<Integer> kept = new ConcurrentLinkedQueue<>();
+        runConcurrently(thread -> {
+            for (int i = 0; i < OPERATIONS / 10; i++) {
+                int id = testList.addItem("Item from thread " + thread, i, "");
+                testList.getItemsFromTitle("thread " + thread);
+                if (i % 2 == 0) {
+                    kept.add(testList.addItem("Kept item " + thread, 1, ""));
+                }
+                testList.removeItem(id);
+            }
+        });
+
+        assertEquals(kept.size(), testList.getListSize());
+        assertEquals(THREADS * OPERATIONS / 10 * 3 / 2 + 1, testList.getNextId());
+        Set<Integer> ids = new HashSet<>();
+        for (InventoryItem item : testList) {
+            assertTrue(ids.add(item.getId()));
+            assertTrue(kept.contains(item.getId()));
+            assertEquals(item.getId(), testList.getItemFromId(item.getId()).getId());
+        }
+        assertEquals(kept.size(), testList.getItemsFromTitle("kept item").size());
+    }
+
+    @Test
+    void testConcurrentChangesKeepIndexesInStep() throws InterruptedException {
+        runConcurrently(thread -> {
+            int previous = 0;
+            for (int i = 0; i < OPERATIONS; i++) {
+                int id = testList.addItem("Stress item " + thread + "-" + i, i % 50, "");
+                if (i % 3 == 0) {
+                    testList.getItemFromId(id).setTitle("Renamed item " + thread + "-" + i);
+                }
+                if (i % 2 == 1) {
+                    testList.removeItem(previous);
+                }
+                testList.getItemsFromTitle(thread + "-" + i);
+                previous = id;
+            }
+        });
+
+        int kept = THREADS * OPERATIONS / 2;
+        int renamed = THREADS * ((OPERATIONS - 4) / 6 + 1);
+        assertEquals(kept, testList.getListSize());
+        assertEquals(kept, testList.getItemsFromTitle(" item ").size());
+        assertEquals(renamed, testList.getItemsFromTitle("renamed").size());
+        assertEquals(kept - renamed, testList.getItemsFromTitle("stress").size());
+        assertEquals(kept, testList.getItemsWithQuantityBetween(0, 49).size());
+        for (InventoryItem item : testList) {
+            assertTrue(testList.getItemsFromTitle(item.getTitle()).contains(item));
+        }
+    }
+
+    @Test
+    void testUpdateQuantityOfMissingItem() {
+        assertThrows(IllegalArgumentException.class, () -> testList.updateQuantity(1, 5));
+        testList.addItem("Widget", 1, "");
+        assertEquals(6, testList.updateQuantity(1, 5));
+        assertThrows(NegativeQuantityException.class, () -> testList.updateQuantity(1, -7));
+        assertEquals(6, testList.getItemFromId(1).getQuantity());
+    }
+
+    // EFFECTS: runs task on THREADS threads at once, passing each its thread number, and waits for all of them
+    private void runConcurrently(IntConsumer task) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        List<Throwable> failures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                    task.accept(thread);
+                } catch (Throwable e) {
+                    synchronized (failures) {
+                        failures.add(e);
+                    }
+                }
+            });
+            threads.add(worker);
+            worker.start();
+        }
+        start.countDown();
+        for (Thread worker : threads) {
+            worker.join();
+        }
+        assertEquals(List.of(), failures);
+    }
+}
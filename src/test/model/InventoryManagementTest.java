@@ -1,10 +1,13 @@
 package model;
 
 import exceptions.IllegalQuantityException;
+import exceptions.NegativeQuantityException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.LinkedList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -147,6 +150,35 @@ public class InventoryManagementTest {
         assertEquals(4, testInventoryList.assignId());
     }
 
+    @Test
+    void testAssignIdNotReusedAfterRemovingLastItem() {
+        addThreeItems();
+        testInventoryList.removeItem(3);
+
+        assertEquals(4, testInventoryList.assignId());
+        testInventoryList.addItem("Zubat", 6, "This is the fourth item, not a widget");
+        assertEquals(4, testInventoryList.getLastIdInList());
+    }
+
+    @Test
+    void testAssignIdAfterAddItemJson() {
+        testInventoryList.addItemJson(testItem4);
+        assertEquals(5, testInventoryList.assignId());
+
+        testInventoryList.addItemJson(testItem2);
+        assertEquals(5, testInventoryList.assignId());
+    }
+
+    @Test
+    void testSetNextId() {
+        addThreeItems();
+        testInventoryList.setNextId(10);
+        assertEquals(10, testInventoryList.getNextId());
+
+        testInventoryList.setNextId(2);
+        assertEquals(10, testInventoryList.getNextId());
+    }
+
     @Test
     void testGetItemFromId() {
         addThreeItems();
@@ -204,6 +236,43 @@ public class InventoryManagementTest {
         assertEquals(0, testInventoryList.getItemsFromTitle("Widget Z").size());
     }
 
+    @Test
+    void testGetItemsFromTitleMatchesScan() {
+        String[] words = {"Widget", "Gadget", "Sprocket", "Cable", "Speaker", "TV", "Remote", "HDMI"};
+        for (int i = 0; i < 500; i++) {
+            String title = words[i % words.length] + " " + words[(i * 7) % words.length] + " " + i;
+            testInventoryList.addItem(title, i, "Generated item " + i);
+        }
+        for (int i = 1; i <= 500; i += 3) {
+            testInventoryList.removeItem(i);
+        }
+        testInventoryList.getItemFromId(2).setTitle("Renamed Widget");
+
+        String[] queries = {"widget", "GADGET sp", "cable tv", "renamed", "et 1", "hd", "", "x", "4", "nothing"};
+        for (String query : queries) {
+            assertEquals(testInventoryList.scanItemsFromTitle(query), testInventoryList.getItemsFromTitle(query));
+        }
+    }
+
+    @Test
+    void testGetItemsFromTitleAfterSetTitle() {
+        addThreeItems();
+        testInventoryList.getItemFromId(3).setTitle("Zubat");
+
+        assertEquals(2, testInventoryList.getItemsFromTitle("Widget").size());
+        assertEquals(3, testInventoryList.getItemsFromTitle("zubat").get(0).getId());
+    }
+
+    @Test
+    void testGetItemsFromTitleAfterRemove() {
+        addThreeItems();
+        InventoryItem removed = testInventoryList.getItemFromId(1);
+        testInventoryList.removeItem(1);
+        removed.setTitle("Widget A again");
+
+        assertEquals(2, testInventoryList.getItemsFromTitle("Widget").size());
+    }
+
     @Test
     void testGetPositionOfItem() {
         addThreeItems();
@@ -228,6 +297,209 @@ public class InventoryManagementTest {
         assertFalse(testInventoryList.hasItem(6));
     }
 
+    @Test
+    void testHasItemAfterRemove() {
+        addThreeItems();
+        testInventoryList.removeItem(2);
+        assertFalse(testInventoryList.hasItem(2));
+        assertNull(testInventoryList.getItemFromId(2));
+        assertEquals(-1, testInventoryList.getPositionOfItem(2));
+        assertEquals(1, testInventoryList.getPositionOfItem(3));
+    }
+
+    @Test
+    void testHasItemJson() {
+        testInventoryList.addItemJson(testItem4);
+        assertTrue(testInventoryList.hasItem(4));
+        assertEquals(testItem4, testInventoryList.getItemFromId(4));
+        assertEquals(0, testInventoryList.getPositionOfItem(4));
+    }
+
+    @Test
+    void testListenerNotified() {
+        StringBuilder changes = new StringBuilder();
+        testInventoryList.addListener(new InventoryListener() {
+            @Override
+            public void itemAdded(InventoryItem item) {
+                changes.append("add ").append(item.getId()).append(";");
+            }
+
+            @Override
+            public void itemRemoved(InventoryItem item) {
+                changes.append("remove ").append(item.getId()).append(";");
+            }
+
+            @Override
+            public void quantityChanged(InventoryItem item, int oldQuantity) {
+                changes.append("quantity ").append(oldQuantity).append(">").append(item.getQuantity()).append(";");
+            }
+
+            @Override
+            public void itemEdited(InventoryItem item) {
+                changes.append("edit ").append(item.getTitle()).append(";");
+            }
+        });
+        testInventoryList.addItem("Widget A", 10, "This is the first widget");
+        InventoryItem item = testInventoryList.getItemFromId(1);
+        item.updateQuantity(5);
+        item.updateQuantity(-3);
+        item.setQuantity(2);
+        item.setTitle("Widget Z");
+        item.setDescription("This is the revised widget");
+        testInventoryList.removeItem(1);
+        item.setQuantity(4);
+
+        assertEquals("add 1;quantity 10>15;quantity 15>12;quantity 12>2;edit Widget Z;edit Widget Z;remove 1;",
+                changes.toString());
+    }
+
+    @Test
+    void testApplyBatch() {
+        addThreeItems();
+        InventoryBatch batch = new InventoryBatch()
+                .updateQuantity(1, 5)
+                .updateQuantity(2, -25)
+                .updateQuantity(1, -15)
+                .addItem("Widget D", 7, "This is the fourth widget")
+                .removeItem(3)
+                .addItem("Widget E", 0, "This is the fifth widget");
+        testInventoryList.applyBatch(batch);
+
+        assertEquals(6, batch.size());
+        assertEquals(4, testInventoryList.getListSize());
+        assertEquals(0, testInventoryList.getItemFromId(1).getQuantity());
+        assertEquals(0, testInventoryList.getItemFromId(2).getQuantity());
+        assertFalse(testInventoryList.hasItem(3));
+        assertEquals("Widget D", testInventoryList.getItemFromId(4).getTitle());
+        assertEquals(7, testInventoryList.getItemFromId(4).getQuantity());
+        assertEquals(5, testInventoryList.getLastIdInList());
+        assertEquals(6, testInventoryList.getNextId());
+    }
+
+    @Test
+    void testApplyBatchIsAllOrNothing() {
+        addThreeItems();
+        assertThrows(NegativeQuantityException.class, () -> testInventoryList.applyBatch(new InventoryBatch()
+                .addItem("Widget D", 7, "")
+                .updateQuantity(1, 5)
+                .updateQuantity(1, -16)));
+        assertThrows(IllegalArgumentException.class, () -> testInventoryList.applyBatch(new InventoryBatch()
+                .updateQuantity(1, 5)
+                .removeItem(2)
+                .updateQuantity(2, 1)));
+        assertThrows(IllegalArgumentException.class, () -> testInventoryList.applyBatch(new InventoryBatch()
+                .removeItem(1)
+                .removeItem(10)));
+        assertThrows(IllegalQuantityException.class, () -> testInventoryList.applyBatch(new InventoryBatch()
+                .removeItem(1)
+                .addItem("Widget D", -1, "")));
+
+        assertEquals(3, testInventoryList.getListSize());
+        assertEquals(10, testInventoryList.getItemFromId(1).getQuantity());
+        assertEquals(25, testInventoryList.getItemFromId(2).getQuantity());
+        assertTrue(testInventoryList.getNextId() > 4);
+    }
+
+    @Test
+    void testApplyBatchLogsOneEventAndNotifiesListeners() {
+        addThreeItems();
+        List<String> changes = new ArrayList<>();
+        testInventoryList.addListener(new InventoryListener() {
+            @Override
+            public void quantityChanged(InventoryItem item, int oldQuantity) {
+                changes.add("quantity " + item.getId() + " " + item.getQuantity());
+            }
+
+            @Override
+            public void itemRemoved(InventoryItem item) {
+                changes.add("remove " + item.getId());
+            }
+        });
+        EventLog.getInstance().clear();
+        testInventoryList.applyBatch(new InventoryBatch()
+                .updateQuantity(1, 1)
+                .updateQuantity(1, 1)
+                .updateQuantity(3, 4)
+                .updateQuantity(3, -4)
+                .removeItem(2));
+
+        assertEquals(List.of("remove 2", "quantity 1 12"), changes);
+        List<String> events = new ArrayList<>();
+        for (Event event : EventLog.getInstance()) {
+            events.add(event.getDescription());
+        }
+        assertEquals(List.of("Event log cleared.",
+                "Applied a batch of 5 change(s) to The greatest inventory list."), events);
+    }
+
+    @Test
+    void testApplyBatchNotifiesQuantityChangesTogether() {
+        addThreeItems();
+        List<String> changes = new ArrayList<>();
+        testInventoryList.addListener(new InventoryListener() {
+            @Override
+            public void quantitiesChanged(List<InventoryItem> items, int[] oldQuantities) {
+                for (int i = 0; i < items.size(); i++) {
+                    changes.add(items.get(i).getId() + ": " + oldQuantities[i] + " to " + items.get(i).getQuantity());
+                }
+            }
+        });
+        testInventoryList.applyBatch(new InventoryBatch().updateQuantity(3, 2).updateQuantity(1, -10));
+
+        assertEquals(List.of("3: 0 to 2", "1: 10 to 0"), changes);
+        assertEquals(1, testInventoryList.getLowestQuantityItems(1).getFirst().getId());
+        assertEquals(2, testInventoryList.getItemsBelowQuantity(8).getLast().getQuantity());
+    }
+
+    @Test
+    void testQuantityQueries() {
+        assertEquals(0, testInventoryList.getTotalQuantity());
+        addThreeItems();
+        assertEquals(35, testInventoryList.getTotalQuantity());
+        LinkedList<InventoryItem> found = testInventoryList.getItemsWithQuantityBetween(0, 10);
+        assertEquals(2, found.size());
+        assertEquals(1, found.get(0).getId());
+        assertEquals(3, found.get(1).getId());
+        assertTrue(testInventoryList.getItemsWithQuantityBetween(11, 24).isEmpty());
+    }
+
+    @Test
+    void testQuantityIndexQueries() {
+        addThreeItems();
+        testInventoryList.addItem("Widget D", 10, "This is the fourth widget");
+
+        LinkedList<InventoryItem> low = testInventoryList.getItemsBelowQuantity(11);
+        assertEquals(3, low.size());
+        assertEquals(3, low.get(0).getId());
+        assertEquals(1, low.get(1).getId());
+        assertEquals(4, low.get(2).getId());
+        assertEquals(2, testInventoryList.getItemsByQuantity(10, 24).size());
+        assertEquals(2, testInventoryList.getHighestQuantityItems(1).getFirst().getId());
+        assertEquals(3, testInventoryList.getLowestQuantityItems(5).getFirst().getId());
+
+        testInventoryList.getItemFromId(3).setQuantity(40);
+        testInventoryList.updateQuantity(2, -20);
+        testInventoryList.removeItem(4);
+        assertEquals(3, testInventoryList.getHighestQuantityItems(1).getFirst().getId());
+        assertEquals(2, testInventoryList.getLowestQuantityItems(1).getFirst().getId());
+        assertEquals(2, testInventoryList.getItemsBelowQuantity(11).size());
+        assertTrue(testInventoryList.getItemsBelowQuantity(Integer.MIN_VALUE).isEmpty());
+    }
+
+    @Test
+    void testQuantityQueriesWithoutIndex() {
+        InventoryManagement columnar = new InventoryManagement("Columnar", new ColumnarItemStore());
+        columnar.addItem("Widget A", 10, "This is the first widget");
+        columnar.addItem("Widget B", 25, "This is the second widget");
+        columnar.addItem("Widget C", 0, "This is the third widget");
+        columnar.updateQuantity(1, 20);
+
+        assertEquals(3, columnar.getItemsBelowQuantity(1).getFirst().getId());
+        assertEquals(1, columnar.getItemsByQuantity(26, 30).getFirst().getId());
+        assertEquals(1, columnar.getHighestQuantityItems(2).getFirst().getId());
+        assertEquals(2, columnar.getLowestQuantityItems(2).getLast().getId());
+    }
+
     private void addThreeItems() {
         testInventoryList.addItem("Widget A", 10, "This is the first widget");
         testInventoryList.addItem("Widget B", 25, "This is the second widget");
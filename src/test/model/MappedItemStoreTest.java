@@ -0,0 +1,264 @@
+package model;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MappedItemStoreTest {
+
+    private static final int SEGMENT_SIZE = 4096;
+
+    private Path testPath;
+    private MappedItemStore testStore;
+
+    @BeforeEach
+    void setup() throws IOException {
+        testPath = Files.createTempFile("testMappedStore", ".items");
+        Files.delete(testPath);
+        testStore = new MappedItemStore(testPath, SEGMENT_SIZE);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        testStore.close();
+        Files.deleteIfExists(testPath);
+    }
+
+    @Test
+    void testEmptyStore() {
+        assertEquals(0, testStore.size());
+        assertNull(testStore.getById(1));
+        assertFalse(testStore.contains(1));
+        assertEquals(-1, testStore.positionOf(1));
+        assertNull(testStore.remove(1));
+        assertFalse(testStore.iterator().hasNext());
+        assertFalse(testStore.keepsItemsOnHeap());
+    }
+
+    @Test
+    void testAddAndGet() {
+        testStore.add(new InventoryItem(1, "Shirt", 5, "Blue"));
+        testStore.add(new InventoryItem(7, "Café mug", 2, ""));
+
+        assertEquals(2, testStore.size());
+        assertEquals("Café mug", testStore.get(1).getTitle());
+        assertEquals("", testStore.get(1).getDescription());
+        InventoryItem shirt = testStore.getById(1);
+        assertEquals(1, shirt.getId());
+        assertEquals("Shirt", shirt.getTitle());
+        assertEquals(5, shirt.getQuantity());
+        assertEquals("Blue", shirt.getDescription());
+        assertEquals(1, testStore.positionOf(7));
+        assertThrows(IndexOutOfBoundsException.class, () -> testStore.get(2));
+    }
+
+    @Test
+    void testRemove() {
+        for (int i = 1; i <= 5; i++) {
+            testStore.add(new InventoryItem(i, "Item " + i, i, "Description " + i));
+        }
+
+        assertEquals("Item 3", testStore.remove(3).getTitle());
+        assertEquals(4, testStore.size());
+        assertFalse(testStore.contains(3));
+        assertEquals(2, testStore.positionOf(4));
+        assertEquals("Item 4", testStore.get(2).getTitle());
+        assertNull(testStore.remove(3));
+    }
+
+    @Test
+    void testUpdateInPlaceAndMoved() {
+        testStore.add(new InventoryItem(1, "Hat", 1, "Red"));
+        testStore.add(new InventoryItem(2, "Scarf", 1, "Wool"));
+
+        InventoryItem hat = testStore.getById(1);
+        hat.setQuantity(40);
+        testStore.updateQuantity(hat);
+        assertEquals(40, testStore.getById(1).getQuantity());
+
+        hat.setTitle("Cap");
+        testStore.update(hat);
+        assertEquals("Cap", testStore.getById(1).getTitle());
+
+        hat.setDescription("A much longer description than the record had room for");
+        testStore.update(hat);
+        InventoryItem moved = testStore.getById(1);
+        assertEquals("A much longer description than the record had room for", moved.getDescription());
+        assertEquals(40, moved.getQuantity());
+        assertEquals(0, testStore.positionOf(1));
+        assertEquals("Cap", testStore.get(0).getTitle());
+        assertEquals("Scarf", testStore.get(1).getTitle());
+    }
+
+    @Test
+    void testRecordsSpanManySegments() {
+        for (int i = 1; i <= 500; i++) {
+            testStore.add(new InventoryItem(i, "Item number " + i, i, "Stored in a small segment"));
+        }
+
+        assertTrue(Files.exists(testPath));
+        assertEquals(500, testStore.size());
+        for (int i = 1; i <= 500; i++) {
+            assertEquals(i, testStore.get(i - 1).getId());
+            assertEquals(i, testStore.getById(i).getQuantity());
+        }
+    }
+
+    @Test
+    void testItemTooLarge() {
+        StringBuilder title = new StringBuilder();
+        for (int i = 0; i < SEGMENT_SIZE; i++) {
+            title.append('x');
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> testStore.add(new InventoryItem(1, title.toString(), 1, "")));
+        assertEquals(0, testStore.size());
+    }
+
+    @Test
+    void testReopen() throws IOException {
+        for (int i = 1; i <= 300; i++) {
+            testStore.add(new InventoryItem(i, "Item " + i, i, ""));
+        }
+        InventoryItem first = testStore.getById(1);
+        first.setDescription("Moved to the end of the file, but still first in the list");
+        testStore.update(first);
+        testStore.remove(2);
+        testStore.close();
+
+        testStore = new MappedItemStore(testPath, 1 << 20);
+        assertEquals(299, testStore.size());
+        assertEquals("Moved to the end of the file, but still first in the list", testStore.get(0).getDescription());
+        assertEquals(3, testStore.get(1).getId());
+        assertFalse(testStore.contains(2));
+        assertEquals(298, testStore.positionOf(300));
+
+        testStore.add(new InventoryItem(301, "Item 301", 301, ""));
+        assertEquals(299, testStore.positionOf(301));
+    }
+
+    @Test
+    void testOpenNotRecordFile() throws IOException {
+        Path other = Files.createTempFile("testNotMappedStore", ".items");
+        Files.write(other, "not a record file, just some text".getBytes());
+        try {
+            assertThrows(IOException.class, () -> new MappedItemStore(other, SEGMENT_SIZE));
+        } finally {
+            Files.delete(other);
+        }
+    }
+
+    @Test
+    void testOpenOlderVersion() throws IOException {
+        testStore.add(new InventoryItem(1, "Shirt", 5, "Blue"));
+        testStore.close();
+        try (FileChannel channel = FileChannel.open(testPath, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(4).putInt(0, 1), 4);
+        }
+
+        IOException thrown = assertThrows(IOException.class, () -> new MappedItemStore(testPath, SEGMENT_SIZE));
+        assertTrue(thrown.getMessage().contains("version"));
+        Files.delete(testPath);
+        testStore = new MappedItemStore(testPath, SEGMENT_SIZE);
+    }
+
+    @Test
+    void testReorderStateKeptAcrossReopen() throws IOException {
+        InventoryManagement testList = new InventoryManagement("Mapped", testStore);
+        testList.addItem("Shirt", 5, "Blue");
+        testList.addItem("Pants", 30, "Black");
+        testList.getItemFromId(1).setReorderPoint(10, 20);
+        testList.getItemFromId(2).setReorderPoint(25, 40);
+        testList.getItemFromId(2).decreaseQuantity(-10);
+        testList.getItemFromId(1).increaseQuantity(1);
+        testStore.close();
+
+        testStore = new MappedItemStore(testPath);
+        InventoryItem shirt = testStore.getById(1);
+        InventoryItem pants = testStore.getById(2);
+        assertEquals(10, shirt.getReorderPoint());
+        assertEquals(20, shirt.getRestockLevel());
+        assertTrue(shirt.isBelowReorderPoint());
+        assertEquals(6, shirt.getQuantity());
+        assertEquals(25, pants.getReorderPoint());
+        assertEquals(40, pants.getRestockLevel());
+        assertTrue(pants.isBelowReorderPoint());
+
+        testList = new InventoryManagement("Mapped", testStore);
+        testList.getItemFromId(1).increaseQuantity(1);
+        assertTrue(testStore.getById(1).isBelowReorderPoint());
+        testList.getItemFromId(1).increaseQuantity(13);
+        assertFalse(testStore.getById(1).isBelowReorderPoint());
+    }
+
+    @Test
+    void testNextIdKeptAcrossReopen() throws IOException {
+        assertEquals(1, testStore.nextId());
+        testStore.add(new InventoryItem(4, "Shirt", 5, "Blue"));
+        assertEquals(5, testStore.nextId());
+        testStore.remove(4);
+        testStore.reserveIds(9);
+        testStore.reserveIds(6);
+        testStore.close();
+
+        testStore = new MappedItemStore(testPath);
+        assertEquals(0, testStore.size());
+        assertEquals(9, testStore.nextId());
+        assertEquals(9, new InventoryManagement("Mapped", testStore).addItem("Pants", 3, "Black"));
+    }
+
+    @Test
+    void testInventoryManagementOverStore() {
+        InventoryManagement testList = new InventoryManagement("Mapped", testStore);
+        testList.addItem("Shirt", 5, "Blue");
+        testList.addItem("Pants", 3, "Black");
+        testList.addItem("Shirt jacket", 1, "Green");
+
+        assertEquals(3, testList.getListSize());
+        InventoryItem shirt = testList.getItemFromId(1);
+        shirt.increaseQuantity(10);
+        shirt.setTitle("T-Shirt");
+        assertEquals(15, testList.getItem(0).getQuantity());
+        assertEquals("T-Shirt", testList.getItemFromId(1).getTitle());
+
+        LinkedList<InventoryItem> found = testList.getItemsFromTitle("shirt");
+        assertEquals(2, found.size());
+        assertEquals(3, found.get(1).getId());
+
+        testList.removeItem(2);
+        assertEquals(2, testList.getListSize());
+        assertEquals(1, testList.getPositionOfItem(3));
+        assertEquals(3, testList.getLastIdInList());
+        shirt.setQuantity(99);
+        assertEquals(99, testList.getItem(0).getQuantity());
+    }
+
+    @Test
+    void testInventoryManagementReopened() throws IOException {
+        InventoryManagement testList = new InventoryManagement("Mapped", testStore);
+        testList.addItem("Shirt", 5, "Blue");
+        testList.addItem("Pants", 3, "Black");
+        testList.removeItem(2);
+        testStore.close();
+
+        testStore = new MappedItemStore(testPath);
+        testList = new InventoryManagement("Mapped", testStore);
+        assertEquals(1, testList.getListSize());
+        assertEquals(3, testList.getNextId());
+        InventoryItem removed = testList.getItemFromId(1);
+        testList.removeItem(1);
+        removed.setQuantity(50);
+        assertEquals(0, testList.getListSize());
+        assertEquals(3, testList.addItem("Socks", 2, "Wool"));
+    }
+}
@@ -0,0 +1,154 @@
+package model;
+
+import exceptions.MemoryBudgetExceededException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OffHeapItemStoreTest {
+
+    private OffHeapItemStore testStore;
+
+    @BeforeEach
+    void setup() {
+        testStore = new OffHeapItemStore();
+    }
+
+    @Test
+    void testEmptyStore() {
+        assertEquals(0, testStore.size());
+        assertNull(testStore.getById(1));
+        assertFalse(testStore.contains(1));
+        assertEquals(-1, testStore.positionOf(1));
+        assertNull(testStore.remove(1));
+        assertFalse(testStore.iterator().hasNext());
+        assertFalse(testStore.keepsItemsOnHeap());
+        assertEquals(0, testStore.getMemoryUsage().getUsedOffHeapBytes());
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapItemStore(100));
+    }
+
+    @Test
+    void testAddAndGet() {
+        for (int i = 1; i <= 500; i++) {
+            testStore.add(new InventoryItem(i, "Item " + i, i, "Description " + i));
+        }
+        testStore.add(new InventoryItem(501, "Café mug", 2, ""));
+
+        assertEquals(501, testStore.size());
+        InventoryItem item = testStore.getById(42);
+        assertEquals("Item 42", item.getTitle());
+        assertEquals(42, item.getQuantity());
+        assertEquals("Description 42", item.getDescription());
+        assertEquals(41, testStore.positionOf(42));
+        assertEquals("Café mug", testStore.get(500).getTitle());
+        assertEquals("", testStore.get(500).getDescription());
+        assertThrows(IndexOutOfBoundsException.class, () -> testStore.get(501));
+        assertEquals(125252, testStore.totalQuantity());
+    }
+
+    @Test
+    void testIdsOutOfOrder() {
+        testStore.add(new InventoryItem(5, "Loaded first", 1, ""));
+        testStore.add(new InventoryItem(2, "Loaded second", 1, ""));
+
+        assertEquals(1, testStore.positionOf(2));
+        assertEquals("Loaded first", testStore.getById(5).getTitle());
+        assertEquals(-1, testStore.positionOf(7));
+    }
+
+    @Test
+    void testRemoveCompactsInPlace() {
+        for (int i = 1; i <= 100; i++) {
+            testStore.add(new InventoryItem(i, "Item " + i, i, "Description " + i));
+        }
+        long reserved = testStore.getMemoryUsage().getOffHeapBytes();
+        long used = testStore.getMemoryUsage().getUsedOffHeapBytes();
+
+        assertEquals("Item 3", testStore.remove(3).getTitle());
+        assertNull(testStore.remove(3));
+        for (int i = 4; i <= 80; i++) {
+            testStore.remove(i);
+        }
+
+        assertEquals(22, testStore.size());
+        assertEquals(2, testStore.positionOf(81));
+        assertEquals("Description 100", testStore.getById(100).getDescription());
+        MemoryUsage usage = testStore.getMemoryUsage();
+        assertEquals(reserved, usage.getOffHeapBytes());
+        assertTrue(usage.getUsedOffHeapBytes() < used / 3);
+    }
+
+    @Test
+    void testUpdate() {
+        testStore.add(new InventoryItem(1, "Hat", 1, "Red"));
+        testStore.add(new InventoryItem(2, "Scarf", 1, "Wool"));
+        InventoryItem hat = testStore.getById(1);
+        hat.setQuantity(40);
+        testStore.updateQuantity(hat);
+        assertEquals(40, testStore.getById(1).getQuantity());
+
+        hat.setTitle("Cap");
+        testStore.update(hat);
+        assertEquals("Cap", testStore.getById(1).getTitle());
+        assertEquals("Red", testStore.getById(1).getDescription());
+
+        hat.setDescription("A much longer description than the strings had room for");
+        testStore.update(hat);
+        assertEquals("A much longer description than the strings had room for",
+                testStore.getById(1).getDescription());
+        assertEquals("Scarf", testStore.get(1).getTitle());
+    }
+
+    @Test
+    void testBudgetExceeded() {
+        OffHeapItemStore small = new OffHeapItemStore(4096);
+        int added = 0;
+        try {
+            while (added < 1000) {
+                small.add(new InventoryItem(added + 1, "Item " + added, 1, "Filling the budget"));
+                added++;
+            }
+            fail("The budget should have been exceeded");
+        } catch (MemoryBudgetExceededException expected) {
+            // the store is full
+        }
+        assertEquals(added, small.size());
+        assertTrue(small.getMemoryUsage().getOffHeapBytes() <= 4096);
+
+        small.remove(1);
+        small.add(new InventoryItem(2000, "Fits again", 1, ""));
+        assertEquals("Fits again", small.get(added - 1).getTitle());
+    }
+
+    @Test
+    void testIterator() {
+        testStore.add(new InventoryItem(1, "Shirt", 5, "Blue"));
+        testStore.add(new InventoryItem(2, "Pants", 3, "Black"));
+
+        Iterator<InventoryItem> items = testStore.iterator();
+        assertEquals("Shirt", items.next().getTitle());
+        assertEquals("Pants", items.next().getTitle());
+        assertFalse(items.hasNext());
+    }
+
+    @Test
+    void testInventoryManagementOverStore() {
+        InventoryManagement testList = new InventoryManagement("Off heap", testStore);
+        testList.addItem("Shirt", 5, "Blue");
+        testList.addItem("Pants", 3, "Black");
+
+        InventoryItem shirt = testList.getItemFromId(1);
+        shirt.increaseQuantity(10);
+        shirt.setDescription("Light blue, with a pocket");
+        assertEquals(15, testList.getItem(0).getQuantity());
+        assertEquals("Light blue, with a pocket", testList.getItemFromId(1).getDescription());
+
+        testList.removeItem(1);
+        assertEquals(1, testList.getListSize());
+        assertEquals(0, testList.getPositionOfItem(2));
+        assertEquals(3, testList.getTotalQuantity());
+    }
+}
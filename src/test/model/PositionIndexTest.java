@@ -0,0 +1,65 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PositionIndexTest {
+
+    private PositionIndex testIndex;
+
+    @BeforeEach
+    void setup() {
+        testIndex = new PositionIndex();
+    }
+
+    @Test
+    void testEmptyIndex() {
+        assertEquals(0, testIndex.rank(0));
+        assertEquals(0, testIndex.rank(5000));
+        assertEquals(PositionIndex.MISSING, testIndex.select(0));
+        assertEquals(PositionIndex.MISSING, testIndex.select(-1));
+    }
+
+    @Test
+    void testRankAndSelect() {
+        testIndex.add(0);
+        testIndex.add(1);
+        testIndex.add(2);
+        testIndex.remove(1);
+
+        assertEquals(0, testIndex.rank(0));
+        assertEquals(1, testIndex.rank(2));
+        assertEquals(2, testIndex.rank(3));
+        assertEquals(0, testIndex.select(0));
+        assertEquals(2, testIndex.select(1));
+        assertEquals(PositionIndex.MISSING, testIndex.select(2));
+    }
+
+    @Test
+    void testManyChunks() {
+        List<Long> present = new ArrayList<>();
+        for (long seq = 0; seq < 5000; seq++) {
+            testIndex.add(seq);
+            present.add(seq);
+        }
+        for (long seq = 0; seq < 5000; seq += 3) {
+            testIndex.remove(seq);
+            present.remove(seq);
+        }
+        testIndex.add(100000);
+        present.add(100000L);
+
+        for (int position = 0; position < present.size(); position++) {
+            long seq = present.get(position);
+            assertEquals(seq, testIndex.select(position));
+            assertEquals(position, testIndex.rank(seq));
+        }
+        assertEquals(PositionIndex.MISSING, testIndex.select(present.size()));
+        assertEquals(present.size(), testIndex.rank(Long.MAX_VALUE >>> 1));
+    }
+}
@@ -0,0 +1,69 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class QuantityIndexTest {
+
+    private QuantityIndex testIndex;
+
+    @BeforeEach
+    void setup() {
+        testIndex = new QuantityIndex();
+        testIndex.add(1, 10);
+        testIndex.add(2, 0);
+        testIndex.add(3, 25);
+        testIndex.add(4, 10);
+    }
+
+    @Test
+    void testKeyOrder() {
+        assertTrue(QuantityIndex.key(0, Integer.MAX_VALUE) < QuantityIndex.key(1, 1));
+        assertTrue(QuantityIndex.key(5, 1) < QuantityIndex.key(5, 2));
+        assertTrue(QuantityIndex.key(-1, 7) < QuantityIndex.key(0, 1));
+    }
+
+    @Test
+    void testBetween() {
+        assertArrayEquals(new int[] {2, 1, 4}, testIndex.between(0, 10));
+        assertArrayEquals(new int[] {1, 4, 3}, testIndex.between(10, Integer.MAX_VALUE));
+        assertArrayEquals(new int[] {2, 1, 4, 3}, testIndex.between(Integer.MIN_VALUE, Integer.MAX_VALUE));
+        assertArrayEquals(new int[0], testIndex.between(11, 24));
+        assertArrayEquals(new int[0], testIndex.between(10, 9));
+    }
+
+    @Test
+    void testLowestAndHighest() {
+        assertArrayEquals(new int[] {2, 1}, testIndex.lowest(2));
+        assertArrayEquals(new int[] {3, 4, 1}, testIndex.highest(3));
+        assertArrayEquals(new int[] {3, 4, 1, 2}, testIndex.highest(10));
+        assertArrayEquals(new int[0], testIndex.lowest(0));
+    }
+
+    @Test
+    void testMoveAndRemove() {
+        testIndex.move(2, 0, 30);
+        assertArrayEquals(new int[] {2}, testIndex.highest(1));
+        testIndex.move(9, 0, 5);
+        assertEquals(4, testIndex.size());
+
+        testIndex.remove(1, 10);
+        testIndex.remove(4, 99);
+        assertArrayEquals(new int[] {4, 3, 2}, testIndex.lowest(10));
+    }
+
+    @Test
+    void testManyItems() {
+        QuantityIndex large = new QuantityIndex();
+        for (int id = 1; id <= 1000; id++) {
+            large.add(id, id % 100);
+        }
+        assertEquals(10, large.between(0, 0).length);
+        assertEquals(500, large.between(50, 99).length);
+        assertEquals(100, large.highest(100).length);
+        assertEquals(999, large.highest(1)[0]);
+        assertEquals(100, large.lowest(1)[0]);
+    }
+}
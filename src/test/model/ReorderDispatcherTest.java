@@ -0,0 +1,79 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReorderDispatcherTest {
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private BlockingQueue<ReorderAlert> alerts;
+    private ReorderListener listener;
+
+    @BeforeEach
+    void setup() {
+        alerts = new LinkedBlockingQueue<>();
+        listener = alerts::add;
+    }
+
+    @Test
+    void testAlertsDeliveredInOrder() throws InterruptedException {
+        InventoryManagement testList = new InventoryManagement("Test Reorder List");
+        testList.addItem("Widget A", 10, "This is the first widget");
+        testList.addReorderListener(listener);
+        InventoryItem item = testList.getItemFromId(1);
+        item.setReorderPoint(5, 8);
+
+        testList.updateQuantity(1, -6);
+        testList.updateQuantity(1, 2);
+        testList.updateQuantity(1, -2);
+        item.setQuantity(9);
+
+        ReorderAlert below = nextAlert();
+        assertEquals(ReorderAlert.Kind.BELOW_REORDER_POINT, below.getKind());
+        assertEquals(4, below.getQuantity());
+        assertEquals(ReorderAlert.Kind.RESTOCKED, nextAlert().getKind());
+        assertNull(alerts.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void testAlertsFromBatchAndViews() throws InterruptedException {
+        InventoryManagement testList = new InventoryManagement("Test Columnar Reorder", new ColumnarItemStore());
+        testList.addItem("Widget A", 10, "This is the first widget");
+        testList.addItem("Widget B", 10, "This is the second widget");
+        testList.getItemFromId(1).setReorderPoint(5, 8);
+        testList.getItemFromId(2).setReorderPoint(5, 8);
+        testList.addReorderListener(listener);
+
+        testList.applyBatch(new InventoryBatch().updateQuantity(1, -7));
+        assertEquals(1, nextAlert().getItem().getId());
+        testList.updateQuantity(1, 3);
+        testList.updateQuantity(2, -6);
+        assertEquals(2, nextAlert().getItem().getId());
+        assertTrue(testList.getItemFromId(1).isBelowReorderPoint());
+        assertEquals(8, testList.getItemFromId(1).getRestockLevel());
+    }
+
+    @Test
+    void testRemovedListener() throws InterruptedException {
+        InventoryManagement testList = new InventoryManagement("Test Reorder List");
+        testList.addItem("Widget A", 10, "This is the first widget");
+        testList.getItemFromId(1).setReorderPoint(5, 5);
+        testList.addReorderListener(listener);
+        testList.removeReorderListener(listener);
+        testList.updateQuantity(1, -6);
+        assertNull(alerts.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    // EFFECTS:     returns the next alert delivered, failing if none arrives in time
+    private ReorderAlert nextAlert() throws InterruptedException {
+        ReorderAlert alert = alerts.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertNotNull(alert);
+        return alert;
+    }
+}
@@ -0,0 +1,59 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StringPoolTest {
+
+    @Test
+    void testIntern() {
+        String first = new String("Vendor boilerplate");
+        String second = new String("Vendor boilerplate");
+
+        assertSame(first, StringPool.intern(first));
+        assertSame(first, StringPool.intern(second));
+        assertNull(StringPool.intern(null));
+        assertTrue(StringPool.size() > 0);
+    }
+
+    @Test
+    void testConcurrentIntern() throws InterruptedException {
+        String[][] interned = new String[8][500];
+        Thread[] threads = new Thread[interned.length];
+        for (int t = 0; t < threads.length; t++) {
+            int thread = t;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < interned[thread].length; i++) {
+                    interned[thread][i] = StringPool.intern(new String("Concurrent text " + i));
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        for (int i = 0; i < interned[0].length; i++) {
+            for (String[] strings : interned) {
+                assertSame(interned[0][i], strings[i]);
+            }
+        }
+    }
+
+    @Test
+    void testItemsShareStrings() {
+        InventoryManagement testList = new InventoryManagement("Bolts");
+        testList.addItem(new String("Bolt"), 1, new String("Box of 100"));
+        testList.addItem(new String("Bolt"), 2, new String("Box of 100"));
+        InventoryItem nut = testList.getItemFromId(2);
+        nut.setTitle(new String("Nut"));
+        testList.addItem(new String("Nut"), 3, new String("Box of 50"));
+
+        assertSame(testList.getItemFromId(1).getDescription(), nut.getDescription());
+        assertSame(nut.getTitle(), testList.getItemFromId(3).getTitle());
+        InventoryItem loose = testList.getItemFromId(3);
+        loose.setDescription(new String("Box of 100"));
+        assertSame(nut.getDescription(), loose.getDescription());
+    }
+}
@@ -0,0 +1,55 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TrigramIndexTest {
+
+    private TrigramIndex testIndex;
+
+    @BeforeEach
+    void setup() {
+        testIndex = new TrigramIndex();
+        testIndex.add(1, "Widget A");
+        testIndex.add(2, "Widget B");
+        testIndex.add(3, "Zubat");
+    }
+
+    @Test
+    void testSearch() {
+        assertArrayEquals(new int[] {1, 2}, testIndex.search("widget"));
+        assertArrayEquals(new int[] {3}, testIndex.search("ZUB"));
+        assertArrayEquals(new int[] {}, testIndex.search("gadget"));
+        assertEquals(3, testIndex.size());
+    }
+
+    @Test
+    void testSearchVerifiesCandidates() {
+        // every trigram of the query is posted, but no single title contains the whole query
+        assertArrayEquals(new int[] {}, testIndex.search("widget az"));
+        assertArrayEquals(new int[] {1}, testIndex.search("widget a"));
+    }
+
+    @Test
+    void testRemove() {
+        testIndex.remove(1);
+        assertArrayEquals(new int[] {2}, testIndex.search("widget"));
+        assertEquals(2, testIndex.size());
+
+        testIndex.remove(10);
+        assertEquals(2, testIndex.size());
+    }
+
+    @Test
+    void testRetitleKeepsOrder() {
+        testIndex.retitle(1, "Zubat Widget");
+        assertArrayEquals(new int[] {1, 3}, testIndex.search("zubat"));
+        assertArrayEquals(new int[] {1, 2}, testIndex.search("widget"));
+
+        testIndex.retitle(2, "Gadget");
+        assertArrayEquals(new int[] {1}, testIndex.search("widget"));
+        assertArrayEquals(new int[] {2}, testIndex.search("gadget"));
+    }
+}
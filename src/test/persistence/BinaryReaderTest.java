@@ -0,0 +1,164 @@
+package persistence;
+
+import model.InventoryItem;
+import model.InventoryManagement;
+import org.junit.jupiter.api.Test;
+
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BinaryReaderTest extends JsonTest {
+
+    @Test
+    void testReaderNonExistentFile() {
+        BinaryReader reader = new BinaryReader("./data/noFile.inv");
+        try {
+            reader.read();
+            fail("Should have thrown IOException");
+        } catch (IOException e) {
+            // pass
+        }
+    }
+
+    @Test
+    void testReaderNotBinarySnapshot() {
+        BinaryReader reader = new BinaryReader("./data/testReaderListWithValidItems.json");
+        try {
+            reader.read();
+            fail("Should have thrown IOException");
+        } catch (IOException e) {
+            // pass
+        }
+    }
+
+    @Test
+    void testReaderTruncatedSnapshot() throws IOException {
+        // a valid header, followed by a list name that is cut off
+        try (FileOutputStream out = new FileOutputStream("./data/testBinaryTruncated.inv")) {
+            out.write(new byte[] {0x49, 0x4E, 0x56, 0x42, 0, 0, 0, 1, 0, 0, 0, 9});
+        }
+        try {
+            new BinaryReader("./data/testBinaryTruncated.inv").read();
+            fail("Should have thrown IOException");
+        } catch (IOException e) {
+            // pass
+        }
+    }
+
+    @Test
+    void testReaderEmptyInventoryList() throws IOException {
+        writeList(new InventoryManagement("Test Binary Empty List"), "./data/testBinaryEmptyList.inv");
+
+        InventoryManagement im = new BinaryReader("./data/testBinaryEmptyList.inv").read();
+        assertEquals("Test Binary Empty List", im.getName());
+        assertEquals(0, im.getListSize());
+        assertEquals(1, im.getNextId());
+    }
+
+    @Test
+    void testReaderInventoryListHasItems() throws IOException {
+        InventoryManagement im = new InventoryManagement("Test Binary Ünïcode List");
+        im.addItem("Item 1", 10, "This is the first item");
+        im.addItem("Item 2 – ☕", 20, "");
+        im.addItem("Item 3", 30, "This is the third item");
+        im.removeItem(3);
+        writeList(im, "./data/testBinaryListHasItems.inv");
+
+        im = new BinaryReader("./data/testBinaryListHasItems.inv").read();
+        assertEquals("Test Binary Ünïcode List", im.getName());
+        assertEquals(4, im.getNextId());
+        List<InventoryItem> inventoryItemList = im.getList();
+        assertEquals(2, im.getListSize());
+        checkInventoryItem(1, "Item 1", 10, "This is the first item", inventoryItemList.get(0));
+        checkInventoryItem(2, "Item 2 – ☕", 20, "", inventoryItemList.get(1));
+        assertEquals(1, im.getItemsFromTitle("☕").size());
+    }
+
+    private void writeList(InventoryManagement im, String destination) throws IOException {
+        BinaryWriter writer = new BinaryWriter(destination);
+        writer.open();
+        writer.write(im);
+        writer.close();
+    }
+
+    @Test
+    void testReaderReorderPoints() throws IOException {
+        InventoryManagement im = new InventoryManagement("Test Binary Reorder Points");
+        im.addItem("Item 1", 10, "This is the first item");
+        im.addItem("Item 2", 20, "This is the second item");
+        im.getItemFromId(2).setReorderPoint(5, 12);
+        writeList(im, "./data/testBinaryReorderPoints.inv");
+
+        im = new BinaryReader("./data/testBinaryReorderPoints.inv").read();
+        assertEquals(0, im.getItem(0).getReorderPoint());
+        assertEquals(5, im.getItem(1).getReorderPoint());
+        assertEquals(12, im.getItem(1).getRestockLevel());
+        checkInventoryItem(2, "Item 2", 20, "This is the second item", im.getItem(1));
+    }
+
+    @Test
+    void testReaderVersionOneSnapshot() throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream("./data/testBinaryVersionOne.inv"))) {
+            out.writeInt(BinaryWriter.MAGIC);
+            out.writeInt(1);
+            writeString(out, "Old List");
+            out.writeInt(3);
+            out.writeInt(1);
+            out.writeInt(2);
+            out.writeInt(15);
+            writeString(out, "Item 2");
+            writeString(out, "Written before reorder points");
+        }
+
+        InventoryManagement im = new BinaryReader("./data/testBinaryVersionOne.inv").read();
+        assertEquals("Old List", im.getName());
+        assertEquals(3, im.getNextId());
+        checkInventoryItem(2, "Item 2", 15, "Written before reorder points", im.getItem(0));
+        assertEquals(0, im.getItem(0).getReorderPoint());
+    }
+
+    @Test
+    void testReaderListChangedWhileWriting() throws IOException, InterruptedException {
+        InventoryManagement im = new InventoryManagement("Test Binary Changing List");
+        for (int i = 1; i <= 2000; i++) {
+            im.addItem("Item " + i, i, "Item number " + i);
+        }
+        AtomicBoolean writing = new AtomicBoolean(true);
+        Thread changer = new Thread(() -> {
+            while (writing.get()) {
+                int id = im.getNextId();
+                im.addItem("Item " + id, id, "Item number " + id);
+                im.removeItem(id - 1000);
+            }
+        });
+        Path destination = Files.createTempFile("testBinaryChangingList", BinaryWriter.EXTENSION);
+        changer.start();
+        try {
+            for (int i = 0; i < 20; i++) {
+                writeList(im, destination.toString());
+                for (InventoryItem item : new BinaryReader(destination.toString()).read()) {
+                    checkInventoryItem(item.getId(), "Item " + item.getId(), item.getId(),
+                            "Item number " + item.getId(), item);
+                }
+            }
+        } finally {
+            writing.set(false);
+            changer.join();
+            Files.delete(destination);
+        }
+    }
+
+    private void writeString(DataOutputStream out, String text) throws IOException {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
@@ -0,0 +1,141 @@
+package persistence;
+
+import model.Event;
+import model.EventLog;
+import model.EventType;
+import model.InventoryManagement;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EventLogAppenderTest {
+
+    private Path testDirectory;
+
+    @BeforeEach
+    void setup() throws IOException {
+        testDirectory = Files.createTempDirectory("testEventLog");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        for (Path segment : new EventLogReader(testDirectory).segments()) {
+            Files.delete(segment);
+        }
+        Files.delete(testDirectory);
+    }
+
+    @Test
+    void testAppendAndReadBack() throws IOException {
+        EventLogAppender testAppender = new EventLogAppender(testDirectory);
+        testAppender.start();
+        InventoryManagement testList = new InventoryManagement("Clothes");
+        testList.addItem("Shirt", 5, "Blue");
+        testList.removeItem(1);
+        testAppender.close();
+        EventLog.getInstance().logEvent(new Event("not saved"));
+
+        List<Event> events = readBack();
+        assertEquals(3, events.size());
+        assertEquals("Created a new list named Clothes", events.get(0).getDescription());
+        assertEquals(EventType.ITEM_ADDED, events.get(1).getType());
+        assertEquals("Blue", events.get(1).getDetail());
+        assertEquals("Removed item with ID: 1, Title: Shirt, Quantity: 5, and Description: Blue",
+                events.get(2).getDescription());
+        assertEquals(0, testAppender.getLostCount());
+    }
+
+    @Test
+    void testSegmentsRollBySize() throws IOException {
+        EventLogAppender testAppender = new EventLogAppender(testDirectory, 200, 60_000, 1000);
+        testAppender.start();
+        for (int i = 0; i < 50; i++) {
+            EventLog.getInstance().logEvent(new Event("event number " + i));
+            if (i % 10 == 9) {
+                waitForQueue(testAppender);
+            }
+        }
+        testAppender.close();
+
+        assertTrue(new EventLogReader(testDirectory).segments().size() > 1);
+        List<Event> events = readBack();
+        assertEquals(50, events.size());
+        for (int i = 0; i < 50; i++) {
+            assertEquals("event number " + i, events.get(i).getDescription());
+        }
+    }
+
+    @Test
+    void testRestartStartsNewSegment() throws IOException {
+        EventLogAppender testAppender = new EventLogAppender(testDirectory);
+        testAppender.start();
+        EventLog.getInstance().logEvent(new Event("first run"));
+        testAppender.close();
+        testAppender = new EventLogAppender(testDirectory);
+        testAppender.start();
+        EventLog.getInstance().logEvent(new Event("second run"));
+        testAppender.close();
+
+        assertEquals(2, new EventLogReader(testDirectory).segments().size());
+        List<Event> events = readBack();
+        assertEquals("first run", events.get(0).getDescription());
+        assertEquals("second run", events.get(1).getDescription());
+    }
+
+    @Test
+    void testTornLineSkipped() throws IOException {
+        EventLogAppender testAppender = new EventLogAppender(testDirectory);
+        testAppender.start();
+        EventLog.getInstance().logEvent(new Event("kept"));
+        testAppender.close();
+        Path segment = new EventLogReader(testDirectory).segments().get(0);
+        Files.write(segment, "{\"time\":1,\"type\":\"MESS".getBytes(), StandardOpenOption.APPEND);
+
+        List<Event> events = readBack();
+        assertEquals(1, events.size());
+        assertEquals("kept", events.get(0).getDescription());
+    }
+
+    @Test
+    void testFullQueueDropsEvents() {
+        EventLogAppender testAppender = new EventLogAppender(testDirectory, 1000, 1000, 1);
+        testAppender.accept(new Event("queued"));
+        testAppender.accept(new Event("dropped"));
+
+        assertEquals(1, testAppender.getQueuedCount());
+        assertEquals(1, testAppender.getLostCount());
+    }
+
+    @Test
+    void testNoDirectory() throws IOException {
+        assertTrue(new EventLogReader(testDirectory.resolve("missing")).segments().isEmpty());
+    }
+
+    // EFFECTS: returns every event saved in the test directory, oldest first
+    private List<Event> readBack() throws IOException {
+        List<Event> events = new ArrayList<>();
+        new EventLogReader(testDirectory).forEach(events::add);
+        return events;
+    }
+
+    // EFFECTS: waits for the appender to write every queued event
+    private void waitForQueue(EventLogAppender appender) {
+        while (appender.getQueuedCount() > 0) {
+            Thread.onSpinWait();
+        }
+        try {
+            Thread.sleep(20);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
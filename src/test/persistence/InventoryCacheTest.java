@@ -0,0 +1,128 @@
+package persistence;
+
+import model.InventoryManagement;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InventoryCacheTest {
+
+    private Path testDirectory;
+    private InventoryManagement clothes;
+    private long listBytes;
+
+    @BeforeEach
+    void setup() throws IOException {
+        testDirectory = Files.createTempDirectory("testCache");
+        clothes = ListCatalogueTest.clothes();
+        listBytes = InventoryCache.estimateBytes(clothes);
+        for (String name : new String[] {"a.json", "b.json", "c.json"}) {
+            JsonWriter writer = new JsonWriter(path(name));
+            writer.open();
+            writer.write(clothes);
+            writer.close();
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        File[] files = testDirectory.toFile().listFiles();
+        for (File file : files == null ? new File[0] : files) {
+            Files.delete(file.toPath());
+        }
+        Files.delete(testDirectory);
+    }
+
+    @Test
+    void testPutAndTake() {
+        InventoryCache testCache = new InventoryCache();
+        assertNull(testCache.take(path("a.json")));
+        testCache.put(path("a.json"), clothes);
+        assertTrue(testCache.contains(path("a.json")));
+        assertEquals(1, testCache.size());
+        assertEquals(listBytes, testCache.getUsedBytes());
+
+        assertSame(clothes, testCache.take(path("a.json")));
+        assertFalse(testCache.contains(path("a.json")));
+        assertNull(testCache.take(path("a.json")));
+        assertEquals(0, testCache.getUsedBytes());
+    }
+
+    @Test
+    void testChangedSnapshotNotHandedOut() throws IOException {
+        InventoryCache testCache = new InventoryCache();
+        testCache.put(path("a.json"), clothes);
+        testCache.put(path("b.json"), clothes);
+        Files.write(Path.of(path("a.json")), "\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        Files.write(InventoryJournal.journalPathFor(path("b.json")), "\n".getBytes(StandardCharsets.UTF_8));
+
+        assertNull(testCache.take(path("a.json")));
+        assertNull(testCache.take(path("b.json")));
+        assertEquals(0, testCache.size());
+    }
+
+    @Test
+    void testLeastRecentlyUsedEvicted() {
+        InventoryCache testCache = new InventoryCache(listBytes * 2);
+        testCache.put(path("a.json"), clothes);
+        testCache.put(path("b.json"), clothes);
+        testCache.put(path("a.json"), testCache.take(path("a.json")));
+        testCache.put(path("c.json"), clothes);
+
+        assertFalse(testCache.contains(path("b.json")));
+        assertTrue(testCache.contains(path("a.json")));
+        assertTrue(testCache.contains(path("c.json")));
+        assertEquals(2, testCache.size());
+        assertTrue(testCache.getUsedBytes() <= listBytes * 2);
+    }
+
+    @Test
+    void testNotCached() {
+        InventoryCache testCache = new InventoryCache(listBytes - 1);
+        testCache.put(path("a.json"), clothes);
+        testCache.put(path("missing.json"), clothes);
+        assertEquals(0, testCache.size());
+
+        InventoryCache larger = new InventoryCache();
+        larger.put(path("a.json"), clothes);
+        larger.evict(path("a.json"));
+        assertFalse(larger.contains(path("a.json")));
+        assertEquals(0, larger.getUsedBytes());
+    }
+
+    @Test
+    void testEstimateCountsStrings() {
+        assertEquals(InventoryCache.STRING_BYTES + 4, InventoryCache.stringBytes("Blue"));
+        assertEquals(InventoryCache.STRING_BYTES + 12, InventoryCache.stringBytes("Café ☕"));
+        assertEquals(InventoryCache.STRING_BYTES + 4, InventoryCache.stringBytes("Café"));
+        assertEquals(InventoryCache.STRING_BYTES, InventoryCache.stringBytes(""));
+
+        StringBuilder longText = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            longText.append('x');
+        }
+        InventoryManagement described = new InventoryManagement("Clothes");
+        described.addItem("Shirt", 5, longText.toString());
+        described.addItem("Pants", 3, longText.toString());
+        assertEquals(listBytes + longText.length() - "Blue".length() + longText.length() - "Black".length(),
+                InventoryCache.estimateBytes(described));
+
+        InventoryCache testCache = new InventoryCache(listBytes * 4);
+        testCache.put(path("a.json"), described);
+        assertEquals(0, testCache.size());
+    }
+
+    // EFFECTS:     returns the path of the file with the given name in the test directory
+    private String path(String fileName) {
+        return testDirectory.resolve(fileName).toString();
+    }
+}
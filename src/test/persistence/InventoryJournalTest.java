@@ -0,0 +1,217 @@
+package persistence;
+
+import model.InventoryBatch;
+import model.InventoryManagement;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InventoryJournalTest extends JsonTest {
+    private Path testDirectory;
+    private String source;          // snapshot written by each test, next to its journal in the test directory
+    private InventoryManagement im;
+    private InventoryJournal journal;
+
+    @BeforeEach
+    void setup() throws IOException {
+        testDirectory = Files.createTempDirectory("testJournal");
+        source = testDirectory.resolve("testJournalList.json").toString();
+        im = new InventoryManagement("Test Journal List");
+        im.addItem("Item 1", 10, "This is the first item");
+        im.addItem("Item 2", 20, "This is the second item");
+        journal = new InventoryJournal(source);
+        journal.open(im);
+        journal.compact();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        File[] files = testDirectory.toFile().listFiles();
+        for (File file : files == null ? new File[0] : files) {
+            Files.delete(file.toPath());
+        }
+        Files.delete(testDirectory);
+    }
+
+    @Test
+    void testCompactEmptiesJournal() throws IOException {
+        assertEquals(0, Files.size(InventoryJournal.journalPathFor(source)));
+        InventoryManagement loaded = new JsonReader(source).read();
+        assertEquals(2, loaded.getListSize());
+        journal.close();
+    }
+
+    @Test
+    void testReplayChanges() throws IOException {
+        im.addItem("Item 3", 30, "This is the third item");
+        im.removeItem(1);
+        im.getItemFromId(2).updateQuantity(-5);
+        im.getItemFromId(2).setTitle("Item 2 renamed");
+        im.getItemFromId(3).setDescription("This is the revised third item");
+        journal.save();
+
+        InventoryManagement loaded = new JsonReader(source).read();
+        assertEquals(2, loaded.getListSize());
+        checkInventoryItem(2, "Item 2 renamed", 15, "This is the second item", loaded.getItem(0));
+        checkInventoryItem(3, "Item 3", 30, "This is the revised third item", loaded.getItem(1));
+        assertEquals(4, loaded.getNextId());
+        journal.close();
+    }
+
+    @Test
+    void testReplayIsIdempotent() throws IOException {
+        im.addItem("Item 3", 30, "This is the third item");
+        im.getItemFromId(1).setQuantity(1);
+        im.removeItem(2);
+        journal.commit();
+
+        // the snapshot already holds these changes, as if a crash happened before the journal was emptied
+        JsonWriter writer = new JsonWriter(source);
+        writer.open();
+        writer.write(im);
+        writer.close();
+
+        InventoryManagement loaded = new JsonReader(source).read();
+        assertEquals(2, loaded.getListSize());
+        checkInventoryItem(1, "Item 1", 1, "This is the first item", loaded.getItem(0));
+        checkInventoryItem(3, "Item 3", 30, "This is the third item", loaded.getItem(1));
+        journal.close();
+    }
+
+    @Test
+    void testDiscardDropsUnsavedChanges() throws IOException {
+        im.getItemFromId(1).setQuantity(50);
+        journal.save();
+        im.getItemFromId(1).setQuantity(60);
+        im.removeItem(2);
+        journal.commit();
+        journal.discard();
+        journal.close();
+
+        InventoryManagement loaded = new JsonReader(source).read();
+        assertEquals(2, loaded.getListSize());
+        assertEquals(50, loaded.getItem(0).getQuantity());
+    }
+
+    @Test
+    void testTornRecordIgnored() throws IOException {
+        im.getItemFromId(1).setQuantity(50);
+        journal.close();
+        try (FileWriter torn = new FileWriter(InventoryJournal.journalPathFor(source).toFile(), true)) {
+            torn.write("{\"op\":\"remove\",\"i");
+        }
+
+        InventoryManagement loaded = new JsonReader(source).read();
+        assertEquals(2, loaded.getListSize());
+        assertEquals(50, loaded.getItem(0).getQuantity());
+
+        journal = new InventoryJournal(source);
+        journal.open(loaded);
+        loaded.removeItem(2);
+        journal.close();
+        assertEquals(1, new JsonReader(source).read().getListSize());
+    }
+
+    @Test
+    void testCloseStopsJournaling() throws IOException {
+        assertTrue(journal.isJournaling(im));
+        journal.close();
+        assertFalse(journal.isJournaling(im));
+
+        im.removeItem(1);
+        assertEquals(2, new JsonReader(source).read().getListSize());
+    }
+
+    @Test
+    void testReplayBatchQuantities() throws IOException {
+        im.applyBatch(new InventoryBatch()
+                .updateQuantity(1, -4)
+                .updateQuantity(2, 5)
+                .updateQuantity(1, 1));
+        journal.save();
+
+        assertEquals(1, Files.readAllLines(InventoryJournal.journalPathFor(source)).size());
+        InventoryManagement loaded = new JsonReader(source).read();
+        assertEquals(7, loaded.getItemFromId(1).getQuantity());
+        assertEquals(25, loaded.getItemFromId(2).getQuantity());
+        journal.close();
+    }
+
+    @Test
+    void testChangesDuringCompactionAreKept() throws IOException {
+        List<Throwable> failures = new ArrayList<>();
+        journal.compact((done, total) -> {
+            if (done == total) {
+                Thread changer = new Thread(() -> {
+                    im.addItem("Item 3", 30, "Added while the snapshot was written");
+                    im.getItemFromId(1).updateQuantity(5);
+                });
+                changer.start();
+                try {
+                    changer.join(5000);
+                } catch (InterruptedException e) {
+                    failures.add(e);
+                }
+                if (changer.isAlive()) {
+                    failures.add(new AssertionError("Change waited for the compaction"));
+                }
+            }
+        });
+
+        assertEquals(List.of(), failures);
+        assertTrue(journal.hasUnsavedChanges());
+        journal.commit();
+        assertEquals(2, Files.readAllLines(InventoryJournal.journalPathFor(source)).size());
+        InventoryManagement loaded = new JsonReader(source).read();
+        assertEquals(3, loaded.getListSize());
+        assertEquals(15, loaded.getItemFromId(1).getQuantity());
+        checkInventoryItem(3, "Item 3", 30, "Added while the snapshot was written", loaded.getItem(2));
+        journal.close();
+    }
+
+    @Test
+    void testSaveSummarizesChanges() throws IOException {
+        im.addItem("Item 3", 30, "This is the third item");
+        im.removeItem(1);
+        im.getItemFromId(2).updateQuantity(-5);
+        im.applyBatch(new InventoryBatch()
+                .updateQuantity(2, 2)
+                .updateQuantity(3, -10)
+                .addItem("Item 4", 7, "This is the fourth item"));
+        journal.save();
+
+        ListSummary summary = ListSummary.read(source);
+        assertEquals(3, summary.getItemCount());
+        assertEquals(44, summary.getTotalQuantity());
+        assertEquals(im.getTotalQuantity(), summary.getTotalQuantity());
+
+        im.removeItem(4);
+        journal.compact();
+        summary = ListSummary.read(source);
+        assertEquals(2, summary.getItemCount());
+        assertEquals(37, summary.getTotalQuantity());
+        journal.close();
+    }
+
+    @Test
+    void testReplayReorderPoint() throws IOException {
+        im.getItemFromId(1).setReorderPoint(5, 15);
+        journal.save();
+
+        InventoryManagement loaded = new JsonReader(source).read();
+        assertEquals(5, loaded.getItemFromId(1).getReorderPoint());
+        assertEquals(15, loaded.getItemFromId(1).getRestockLevel());
+        assertEquals(0, loaded.getItemFromId(2).getReorderPoint());
+        journal.close();
+    }
+}
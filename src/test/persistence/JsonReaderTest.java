@@ -2,12 +2,19 @@ package persistence;
 
 import model.InventoryItem;
 import model.InventoryManagement;
+import org.json.JSONArray;
+import org.json.JSONObject;
 import org.junit.jupiter.api.Test;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.fail;
 
 public class JsonReaderTest extends JsonTest {
@@ -53,4 +60,84 @@ public class JsonReaderTest extends JsonTest {
             fail("Should not have thrown exception - couldn't read from file.");
         }
     }
+
+    @Test
+    void testReaderNextIdFallsBackToMaxId() {
+        JsonReader reader = new JsonReader("./data/testReaderListWithValidItems.json");
+        try {
+            InventoryManagement im = reader.read();
+            assertEquals(3, im.getNextId());
+        } catch (IOException e) {
+            fail("Should not have thrown exception - couldn't read from file.");
+        }
+    }
+
+    @Test
+    void testReaderNextIdRestored() {
+        JsonReader reader = new JsonReader("./data/testReaderListWithNextId.json");
+        try {
+            InventoryManagement im = reader.read();
+            assertEquals(2, im.getListSize());
+            assertEquals(7, im.getNextId());
+        } catch (IOException e) {
+            fail("Should not have thrown exception - couldn't read from file.");
+        }
+    }
+
+    @Test
+    void testReaderItemsBeforeName() {
+        JsonReader reader = new JsonReader("./data/testReaderItemsBeforeName.json");
+        try {
+            InventoryManagement im = reader.read();
+            assertEquals("testReaderItemsBeforeName", im.getName());
+            List<InventoryItem> inventoryItemList = im.getList();
+            assertEquals(2, im.getListSize());
+            checkInventoryItem(1, "Item 1", 10, "This is the first item",
+                    inventoryItemList.get(0));
+            checkInventoryItem(2, "Item 2", 20, "This is the second item",
+                    inventoryItemList.get(1));
+        } catch (IOException e) {
+            fail("Should not have thrown exception - couldn't read from file.");
+        }
+    }
+
+    @Test
+    void testReaderMatchesWholeDocumentParse() {
+        File[] files = new File("./data").listFiles((dir, name) -> name.endsWith(".json"));
+        try {
+            for (File file : files) {
+                if (Files.exists(InventoryJournal.journalPathFor(file.getPath()))) {
+                    continue;
+                }
+                InventoryManagement im = new JsonReader(file.getPath()).read();
+                JSONObject json = new JSONObject(new String(Files.readAllBytes(file.toPath()),
+                        StandardCharsets.UTF_8));
+                JSONArray items = json.getJSONArray("items");
+                assertEquals(json.getString("name"), im.getName());
+                assertEquals(items.length(), im.getListSize());
+                for (int i = 0; i < items.length(); i++) {
+                    JSONObject item = items.getJSONObject(i);
+                    checkInventoryItem(item.getInt("id"), item.getString("title"), item.getInt("quantity"),
+                            item.getString("description"), im.getItem(i));
+                }
+            }
+        } catch (IOException e) {
+            fail("Should not have thrown exception - couldn't read from file.");
+        }
+    }
+
+    @Test
+    void testReaderSharesRepeatedStrings() throws IOException {
+        Path path = Files.createTempFile("testReaderSharedStrings", ".json");
+        String item = "{\"id\":%d,\"title\":\"Bolt\",\"quantity\":1,\"description\":\"Vendor boilerplate\"}";
+        Files.write(path, ("{\"name\":\"Shared\",\"items\":[" + String.format(item, 1) + ","
+                + String.format(item, 2) + "]}").getBytes(StandardCharsets.UTF_8));
+        try {
+            InventoryManagement im = new JsonReader(path.toString()).read();
+            assertSame(im.getItem(0).getDescription(), im.getItem(1).getDescription());
+            assertSame(im.getItem(0).getTitle(), im.getItem(1).getTitle());
+        } finally {
+            Files.delete(path);
+        }
+    }
 }
@@ -2,12 +2,19 @@ package persistence;
 
 import model.InventoryItem;
 import model.InventoryManagement;
+import org.json.JSONObject;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 public class JsonWriterTest extends JsonTest {
@@ -31,6 +38,20 @@ public class JsonWriterTest extends JsonTest {
         }
     }
 
+    @Test
+    void testWriterFailedWrite() throws IOException {
+        if (!Files.isWritable(Paths.get("/dev/full"))) {
+            return;
+        }
+        InventoryManagement im = new InventoryManagement("Disk full");
+        im.addItem("Item 1", 10, "This is the first item");
+        JsonWriter writer = new JsonWriter("/dev/full");
+        writer.open();
+        writer.write(im);
+        assertThrows(IOException.class, writer::close);
+        assertThrows(IOException.class, () -> SnapshotConverter.write(im, "/dev/full", false));
+    }
+
     @Test
     void testWriterEmptyInventoryList() {
         try {
@@ -75,4 +96,67 @@ public class JsonWriterTest extends JsonTest {
         }
     }
 
+    @Test
+    void testWriterKeepsNextIdAfterLastItemRemoved() {
+        try {
+            InventoryManagement im = new InventoryManagement("Test Writer Next Id");
+            im.addItem("Item 1", 10, "This is the first item");
+            im.addItem("Item 2", 20, "This is the second item");
+            im.removeItem(2);
+            JsonWriter writer = new JsonWriter("./data/testWriterNextId.json");
+            writer.open();
+            writer.write(im);
+            writer.close();
+
+            JsonReader reader = new JsonReader("./data/testWriterNextId.json");
+            im = reader.read();
+            assertEquals(1, im.getListSize());
+            assertEquals(3, im.getNextId());
+        } catch (IOException e) {
+            fail("Should not have through IOException");
+        }
+    }
+
+    @Test
+    void testWriterCompactMatchesToJson() {
+        try {
+            InventoryManagement im = new InventoryManagement("Test Writer Compact \"Quoted\" List");
+            im.addItem("Item 1", 10, "This is the first item,\nwith a new line");
+            im.addItem("Item 2", 20, "This is the second item");
+            JsonWriter writer = new JsonWriter("./data/testWriterCompactList.json", false);
+            writer.open();
+            writer.write(im);
+            writer.close();
+
+            String json = new String(Files.readAllBytes(Paths.get("./data/testWriterCompactList.json")),
+                    StandardCharsets.UTF_8);
+            assertFalse(json.contains(" \""));
+            assertTrue(new JSONObject(json).similar(im.toJson()));
+
+            im = new JsonReader("./data/testWriterCompactList.json").read();
+            assertEquals(2, im.getListSize());
+            checkInventoryItem(1, "Item 1", 10, "This is the first item,\nwith a new line", im.getItem(0));
+        } catch (IOException e) {
+            fail("Should not have through IOException");
+        }
+    }
+
+    @Test
+    void testWriterReorderPoints() throws IOException {
+        InventoryManagement im = new InventoryManagement("Test Writer Reorder Points");
+        im.addItem("Item 1", 10, "This is the first item");
+        im.addItem("Item 2", 2, "This is the second item");
+        im.getItemFromId(2).setReorderPoint(5, 12);
+        JsonWriter writer = new JsonWriter("./data/testWriterReorderPoints.json");
+        writer.open();
+        writer.write(im);
+        writer.close();
+
+        InventoryManagement loaded = new JsonReader("./data/testWriterReorderPoints.json").read();
+        assertTrue(loaded.toJson().similar(im.toJson()));
+        assertEquals(0, loaded.getItem(0).getReorderPoint());
+        assertEquals(5, loaded.getItem(1).getReorderPoint());
+        assertEquals(12, loaded.getItem(1).getRestockLevel());
+        assertTrue(loaded.getItem(1).isBelowReorderPoint());
+    }
 }
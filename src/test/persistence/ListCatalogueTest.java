@@ -0,0 +1,134 @@
+package persistence;
+
+import model.InventoryManagement;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ListCatalogueTest {
+
+    private Path testDirectory;
+
+    @BeforeEach
+    void setup() throws IOException {
+        testDirectory = Files.createTempDirectory("testCatalogue");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        File[] files = testDirectory.toFile().listFiles();
+        for (File file : files == null ? new File[0] : files) {
+            Files.delete(file.toPath());
+        }
+        Files.delete(testDirectory);
+    }
+
+    @Test
+    void testEmptyDirectory() {
+        assertTrue(new ListCatalogue(testDirectory.toString()).list().isEmpty());
+        assertTrue(new ListCatalogue(testDirectory.resolve("missing").toString()).list().isEmpty());
+    }
+
+    @Test
+    void testListSummarizesEachList() throws IOException {
+        save("clothes.json", clothes());
+        InventoryManagement tools = new InventoryManagement("Tools");
+        tools.addItem("Hammer", 2, "Claw");
+        BinaryWriter binary = new BinaryWriter(path("tools.inv"));
+        binary.open();
+        binary.write(tools);
+        binary.close();
+        Files.write(testDirectory.resolve("notes.txt"), "not a list".getBytes(StandardCharsets.UTF_8));
+        Files.write(testDirectory.resolve("broken.json"), "{".getBytes(StandardCharsets.UTF_8));
+
+        List<ListSummary> lists = new ListCatalogue(testDirectory.toString()).list();
+        assertEquals(2, lists.size());
+        assertEquals("Clothes", lists.get(0).getName());
+        assertEquals(2, lists.get(0).getItemCount());
+        assertEquals(8, lists.get(0).getTotalQuantity());
+        assertEquals(path("clothes.json"), lists.get(0).getSource());
+        assertEquals("Tools", lists.get(1).getName());
+        assertEquals(2, lists.get(1).getTotalQuantity());
+        assertTrue(Files.exists(ListSummary.summaryPathFor(path("clothes.json"))));
+    }
+
+    @Test
+    void testSidecarReadWithoutParsingList() throws IOException {
+        save("clothes.json", clothes());
+        ListSummary.write(path("clothes.json"), new InventoryManagement("From the sidecar"));
+
+        List<ListSummary> lists = new ListCatalogue(testDirectory.toString()).list();
+        assertEquals("From the sidecar", lists.get(0).getName());
+        assertEquals(0, lists.get(0).getItemCount());
+    }
+
+    @Test
+    void testStaleSidecarRebuilt() throws IOException {
+        save("clothes.json", clothes());
+        ListSummary.write(path("clothes.json"), new InventoryManagement("Out of date"));
+        InventoryManagement more = clothes();
+        more.addItem("Socks", 10, "Wool");
+        save("clothes.json", more);
+
+        assertNull(ListSummary.read(path("clothes.json")));
+        List<ListSummary> lists = new ListCatalogue(testDirectory.toString()).list();
+        assertEquals("Clothes", lists.get(0).getName());
+        assertEquals(3, lists.get(0).getItemCount());
+        assertEquals(3, ListSummary.read(path("clothes.json")).getItemCount());
+    }
+
+    @Test
+    void testJournalKeepsSidecarCurrent() throws IOException {
+        save("clothes.json", clothes());
+        InventoryManagement im = new JsonReader(path("clothes.json")).read();
+        InventoryJournal journal = new InventoryJournal(path("clothes.json"));
+        journal.open(im);
+        im.addItem("Socks", 10, "Wool");
+        journal.save();
+        assertEquals(3, ListSummary.read(path("clothes.json")).getItemCount());
+
+        Files.write(InventoryJournal.journalPathFor(path("clothes.json")), "\n".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        assertNull(ListSummary.read(path("clothes.json")));
+        journal.compact();
+        journal.close();
+        assertEquals(18, ListSummary.read(path("clothes.json")).getTotalQuantity());
+    }
+
+    @Test
+    void testWriteWithoutSnapshot() {
+        assertThrows(IOException.class, () -> ListSummary.write(path("missing.json"), clothes()));
+        assertNull(ListSummary.read(path("missing.json")));
+    }
+
+    // EFFECTS:     returns a list of two clothing items, with 8 in stock in total
+    static InventoryManagement clothes() {
+        InventoryManagement im = new InventoryManagement("Clothes");
+        im.addItem("Shirt", 5, "Blue");
+        im.addItem("Pants", 3, "Black");
+        return im;
+    }
+
+    // EFFECTS:     returns the path of the file with the given name in the test directory
+    private String path(String fileName) {
+        return testDirectory.resolve(fileName).toString();
+    }
+
+    // EFFECTS:     writes im to the file with the given name in the test directory
+    private void save(String fileName, InventoryManagement im) throws IOException {
+        JsonWriter writer = new JsonWriter(path(fileName));
+        writer.open();
+        writer.write(im);
+        writer.close();
+    }
+}
@@ -0,0 +1,98 @@
+package persistence;
+
+import model.InventoryLists;
+import model.InventoryManagement;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MultiListLoaderTest {
+
+    private Path testDirectory;
+
+    @BeforeEach
+    void setup() throws IOException {
+        testDirectory = Files.createTempDirectory("testMultiList");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        File[] files = testDirectory.toFile().listFiles();
+        for (File file : files == null ? new File[0] : files) {
+            Files.delete(file.toPath());
+        }
+        Files.delete(testDirectory);
+    }
+
+    @Test
+    void testEmptyDirectory() {
+        assertEquals(0, new MultiListLoader(testDirectory.toString()).load().size());
+        assertEquals(0, new MultiListLoader(testDirectory.resolve("missing").toString()).load().size());
+    }
+
+    @Test
+    void testLoadEveryList() throws IOException {
+        SnapshotConverter.write(ListCatalogueTest.clothes(), path("clothes.json"));
+        InventoryManagement tools = new InventoryManagement("Tools");
+        tools.addItem("Hammer", 2, "Claw");
+        tools.addItem("Shirt hook", 4, "Brass");
+        SnapshotConverter.write(tools, path("tools.inv"));
+        Files.write(testDirectory.resolve("broken.json"), "{".getBytes(StandardCharsets.UTF_8));
+        Files.write(testDirectory.resolve("notes.txt"), "not a list".getBytes(StandardCharsets.UTF_8));
+
+        InventoryLists lists = new MultiListLoader(testDirectory.toString()).load();
+        assertEquals(2, lists.size());
+        assertEquals(path("clothes.json"), lists.getSources().get(0));
+        assertEquals("Tools", lists.getList(path("tools.inv")).getName());
+        assertEquals(14, lists.getTotalQuantity());
+        assertEquals(9, lists.getTotalQuantityMatching("shirt"));
+        assertEquals(6, lists.getTotalsByList().get(path("tools.inv")));
+    }
+
+    @Test
+    void testJournalApplied() throws IOException {
+        InventoryManagement im = ListCatalogueTest.clothes();
+        SnapshotConverter.write(im, path("clothes.json"));
+        InventoryJournal journal = new InventoryJournal(path("clothes.json"));
+        journal.open(im);
+        im.addItem("Socks", 10, "Wool");
+        journal.commit();
+        journal.close();
+
+        InventoryLists lists = new MultiListLoader(testDirectory.toString()).load();
+        assertEquals(3, lists.getItemCount());
+        assertEquals(18, lists.getTotalQuantity());
+    }
+
+    @Test
+    void testManyListsOnPool() throws IOException {
+        for (int i = 0; i < 50; i++) {
+            InventoryManagement im = new InventoryManagement("List " + i);
+            im.addItem("Bolt", i, "Steel");
+            SnapshotConverter.write(im, path(String.format("list%02d.json", i)));
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            InventoryLists lists = new MultiListLoader(testDirectory.toString(), pool).load();
+            assertEquals(50, lists.size());
+            assertEquals(1225, lists.getTotalQuantityMatching("bolt"));
+            assertEquals(path("list49.json"), lists.getSources().get(49));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    // EFFECTS:     returns the path of the file with the given name in the test directory
+    private String path(String fileName) {
+        return testDirectory.resolve(fileName).toString();
+    }
+}
@@ -0,0 +1,96 @@
+package persistence;
+
+import model.InventoryManagement;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CancellationException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProgressTest extends JsonTest {
+    private Path testDirectory;
+    private String source;          // snapshot written by each test, in the test directory
+    private InventoryManagement im;
+
+    @BeforeEach
+    void setup() throws IOException {
+        testDirectory = Files.createTempDirectory("testProgress");
+        source = testDirectory.resolve("testProgressList.json").toString();
+        im = new InventoryManagement("Test Progress List");
+        for (int i = 1; i <= 3000; i++) {
+            im.addItem("Item " + i, i, "Description of item " + i);
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        File[] files = testDirectory.toFile().listFiles();
+        for (File file : files == null ? new File[0] : files) {
+            Files.delete(file.toPath());
+        }
+        Files.delete(testDirectory);
+    }
+
+    @Test
+    void testProgressReachesTotal() throws IOException {
+        long[] last = new long[2];
+        JsonWriter writer = new JsonWriter(source);
+        writer.open();
+        writer.write(im, (done, total) -> {
+            last[0] = done;
+            last[1] = total;
+        });
+        writer.close();
+        assertEquals(3000, last[0]);
+        assertEquals(3000, last[1]);
+
+        new JsonReader(source).read((done, total) -> {
+            last[0] = done;
+            last[1] = total;
+        });
+        assertEquals(new File(source).length(), last[1]);
+        assertEquals(last[1], last[0]);
+    }
+
+    @Test
+    void testCancelledRead() throws IOException {
+        JsonWriter writer = new JsonWriter(source);
+        writer.open();
+        writer.write(im);
+        writer.close();
+        assertThrows(CancellationException.class, () -> new JsonReader(source).read(cancelled()));
+    }
+
+    @Test
+    void testCancelledCompactKeepsJournaledChanges() throws IOException {
+        InventoryJournal journal = new InventoryJournal(source);
+        journal.open(im);
+        journal.compact();
+        im.addItem("Unsaved", 1, "Added after the last save");
+
+        assertThrows(CancellationException.class, () -> journal.compact(cancelled()));
+        assertFalse(new File(source + ".tmp").exists());
+        assertEquals(3001, new JsonReader(source).read().getListSize());
+        journal.close();
+    }
+
+    // EFFECTS:     returns progress that asks for the work to stop at its first report
+    private static Progress cancelled() {
+        return new Progress() {
+            @Override
+            public void update(long done, long total) {
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return true;
+            }
+        };
+    }
+}
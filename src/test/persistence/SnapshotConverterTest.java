@@ -0,0 +1,48 @@
+package persistence;
+
+import model.InventoryManagement;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SnapshotConverterTest extends JsonTest {
+
+    @Test
+    void testIsBinary() {
+        assertTrue(SnapshotConverter.isBinary("./data/list.inv"));
+        assertFalse(SnapshotConverter.isBinary("./data/list.json"));
+    }
+
+    @Test
+    void testConvertJsonToBinaryAndBack() throws IOException {
+        SnapshotConverter.convert("./data/testReaderListWithNextId.json", "./data/testConverterList.inv");
+        InventoryManagement im = SnapshotConverter.read("./data/testConverterList.inv");
+        assertEquals("testReaderListWithNextId", im.getName());
+        assertEquals(7, im.getNextId());
+        assertEquals(2, im.getListSize());
+        checkInventoryItem(1, "Item 1", 10, "This is the first item", im.getItem(0));
+        checkInventoryItem(2, "Item 2", 20, "This is the second item", im.getItem(1));
+
+        SnapshotConverter.convert("./data/testConverterList.inv", "./data/testConverterList.json");
+        InventoryManagement json = new JsonReader("./data/testConverterList.json").read();
+        assertEquals(7, json.getNextId());
+        assertTrue(json.toJson().similar(im.toJson()));
+    }
+
+    @Test
+    void testJournalCompactsBinarySnapshot() throws IOException {
+        SnapshotConverter.convert("./data/testReaderListWithValidItems.json", "./data/testConverterJournal.inv");
+        InventoryManagement im = SnapshotConverter.read("./data/testConverterJournal.inv");
+        InventoryJournal journal = new InventoryJournal("./data/testConverterJournal.inv");
+        journal.open(im);
+        im.addItem("Item 3", 30, "This is the third item");
+        journal.commit();
+        assertEquals(3, SnapshotConverter.read("./data/testConverterJournal.inv").getListSize());
+
+        journal.compact();
+        journal.close();
+        assertEquals(3, new BinaryReader("./data/testConverterJournal.inv").read().getListSize());
+    }
+}